@@ -0,0 +1,127 @@
+package com.vastriantafyllou.bankapp.core.types;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BigDecimal} against {@link Money} on the per-row work of the batch jobs: walking a balance chain,
+ * parsing file amounts and formatting result lines. Run with {@code ./gradlew jmh}; add
+ * {@code -Pjmh.profilers=gc} to see bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyBenchmark {
+
+    private static final int ROWS = 1024;
+
+    private BigDecimal[] decimals;
+    private Money[] amounts;
+    private long[] cents;
+    private String[] texts;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        decimals = new BigDecimal[ROWS];
+        amounts = new Money[ROWS];
+        cents = new long[ROWS];
+        texts = new String[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            long value = random.nextLong(1, 1_000_000);
+            cents[i] = value;
+            decimals[i] = BigDecimal.valueOf(value, 2);
+            amounts[i] = Money.ofCents(value);
+            texts[i] = decimals[i].toPlainString();
+        }
+    }
+
+    @Benchmark
+    public int chain_bigDecimal() {
+        BigDecimal balance = BigDecimal.ZERO;
+        BigDecimal previous = BigDecimal.ZERO;
+        int breaks = 0;
+        for (BigDecimal amount : decimals) {
+            balance = balance.add(amount);
+            if (previous.add(amount).compareTo(balance) != 0) {
+                breaks++;
+            }
+            previous = balance;
+        }
+        return breaks;
+    }
+
+    @Benchmark
+    public int chain_money() {
+        Money balance = Money.ZERO;
+        Money previous = Money.ZERO;
+        int breaks = 0;
+        for (Money amount : amounts) {
+            balance = balance.plus(amount);
+            if (!previous.plus(amount).equals(balance)) {
+                breaks++;
+            }
+            previous = balance;
+        }
+        return breaks;
+    }
+
+    @Benchmark
+    public int chain_cents() {
+        long balance = 0;
+        long previous = 0;
+        int breaks = 0;
+        for (long amount : cents) {
+            balance = Math.addExact(balance, amount);
+            if (previous + amount != balance) {
+                breaks++;
+            }
+            previous = balance;
+        }
+        return breaks;
+    }
+
+    @Benchmark
+    public void parse_bigDecimal(Blackhole blackhole) {
+        for (String text : texts) {
+            BigDecimal amount = new BigDecimal(text);
+            blackhole.consume(amount.signum() > 0 && amount.scale() <= 2);
+        }
+    }
+
+    @Benchmark
+    public void parse_money(Blackhole blackhole) {
+        for (String text : texts) {
+            Money amount = Money.tryParse(text);
+            blackhole.consume(amount != null && amount.isPositive());
+        }
+    }
+
+    @Benchmark
+    public int format_bigDecimal() {
+        StringBuilder sb = new StringBuilder(32);
+        int length = 0;
+        for (BigDecimal amount : decimals) {
+            sb.setLength(0);
+            sb.append(amount.toPlainString());
+            length += sb.length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int format_money() {
+        StringBuilder sb = new StringBuilder(32);
+        int length = 0;
+        for (Money amount : amounts) {
+            sb.setLength(0);
+            amount.appendTo(sb);
+            length += sb.length();
+        }
+        return length;
+    }
+}
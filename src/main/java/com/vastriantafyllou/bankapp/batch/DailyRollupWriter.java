@@ -0,0 +1,73 @@
+package com.vastriantafyllou.bankapp.batch;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Folds ledger rows into {@code account_daily_rollups} with {@code INSERT ... ON DUPLICATE KEY UPDATE}, inside the
+ * transaction that writes them. Callers hold the row locks of the accounts involved, which also serializes the
+ * upserts of each account's rollup rows.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyRollupWriter {
+
+    private static final String UPSERT =
+            "INSERT INTO account_daily_rollups (account_id, day, type, tx_count, total) VALUES (?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE tx_count = tx_count + VALUES(tx_count), total = total + VALUES(total)";
+
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparingLong(Key::accountId)
+            .thenComparing(Key::day)
+            .thenComparing(Key::type);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(long accountId, LocalDateTime createdAt, TransactionType type, BigDecimal amount) {
+        jdbcTemplate.update(UPSERT, accountId, Date.valueOf(createdAt.toLocalDate()), type.name(), 1, amount);
+    }
+
+    /** One upsert per (account, day, type), in key order so concurrent batches touch rows in the same order. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(List<LedgerEntry> entries) {
+        Map<Key, Totals> totals = new TreeMap<>(KEY_ORDER);
+        for (LedgerEntry entry : entries) {
+            Totals day = totals.computeIfAbsent(new Key(entry.accountId(), entry.createdAt().toLocalDate(), entry.type()),
+                    k -> new Totals());
+            day.count++;
+            day.sum = day.sum.add(entry.amount());
+        }
+
+        List<Object[]> upserts = new ArrayList<>(totals.size());
+        totals.forEach((key, day) -> upserts.add(new Object[]{key.accountId(), Date.valueOf(key.day()),
+                key.type().name(), day.count, day.sum}));
+        jdbcTemplate.batchUpdate(UPSERT, upserts);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteAccount(long accountId) {
+        jdbcTemplate.update("DELETE FROM account_daily_rollups WHERE account_id = ?", accountId);
+    }
+
+    private record Key(long accountId, LocalDate day, TransactionType type) {
+    }
+
+    private static final class Totals {
+        private long count;
+        private BigDecimal sum = BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,251 @@
+package com.vastriantafyllou.bankapp.batch;
+
+import com.vastriantafyllou.bankapp.core.concurrency.LockFailures;
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.model.BatchCheckpoint;
+import com.vastriantafyllou.bankapp.repository.BatchCheckpointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * End-of-day interest accrual.
+ * <p>
+ * The id space of {@code accounts} is split into partitions, each walked with keyset iteration on a bounded pool.
+ * Every chunk locks its accounts, writes balances and {@code INTEREST} rows in JDBC batches and advances the
+ * partition checkpoint in the same transaction, so a crashed run resumes after the last committed chunk and
+ * concurrent runs on other nodes never apply a chunk twice.
+ * <p>
+ * The chunk locks accounts in id order while web transfers lock in IBAN order, so a chunk that loses a row-lock race
+ * is retried with jittered backoff. The scheduled run first finishes earlier days whose partitions are still
+ * incomplete and days missed while no node was up (at most {@code catch-up-days}), then accrues yesterday.
+ */
+@Slf4j
+@Component
+public class InterestAccrualJob {
+
+    public static final String JOB_NAME = "interest-accrual";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final LedgerBatchWriter ledgerBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.interest.annual-rate:0}")
+    private BigDecimal annualRate;
+
+    @Value("${app.interest.partitions:8}")
+    private int partitions;
+
+    @Value("${app.interest.threads:4}")
+    private int threads;
+
+    @Value("${app.interest.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.interest.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.interest.retry-backoff-ms:100}")
+    private long retryBackoffMillis;
+
+    @Value("${app.interest.max-retry-backoff-ms:2000}")
+    private long maxRetryBackoffMillis;
+
+    @Value("${app.interest.catch-up-days:7}")
+    private int catchUpDays;
+
+    public InterestAccrualJob(JdbcTemplate jdbcTemplate,
+                              BatchCheckpointRepository checkpointRepository,
+                              LedgerBatchWriter ledgerBatchWriter,
+                              PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.ledgerBatchWriter = ledgerBatchWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${app.interest.cron:-}")
+    public void runForPreviousDay() {
+        for (LocalDate day : pendingDays(LocalDate.now().minusDays(1))) {
+            try {
+                run(day);
+            } catch (RuntimeException e) {
+                log.error("Interest accrual for {} failed; the next scheduled run resumes it", day, e);
+            }
+        }
+    }
+
+    /** Days with incomplete partitions, days after the latest run that were never started, then {@code yesterday}. */
+    List<LocalDate> pendingDays(LocalDate yesterday) {
+        SortedSet<LocalDate> days = new TreeSet<>();
+        for (String runKey : checkpointRepository.findIncompleteRunKeys(JOB_NAME)) {
+            days.add(LocalDate.parse(runKey));
+        }
+        Optional<LocalDate> latest = checkpointRepository.findLatestRunKey(JOB_NAME).map(LocalDate::parse);
+        if (latest.isPresent()) {
+            LocalDate from = latest.get().plusDays(1);
+            LocalDate earliest = yesterday.minusDays(catchUpDays);
+            for (LocalDate day = from.isBefore(earliest) ? earliest : from; day.isBefore(yesterday); day = day.plusDays(1)) {
+                days.add(day);
+            }
+        }
+        days.add(yesterday);
+        return List.copyOf(days.headSet(yesterday.plusDays(1)));
+    }
+
+    public long run(LocalDate day) {
+        if (annualRate.signum() <= 0) {
+            return 0;
+        }
+        BigDecimal dailyRate = annualRate.divide(BigDecimal.valueOf(day.lengthOfYear()), MathContext.DECIMAL64);
+        List<BatchCheckpoint> pending = preparePartitions(day.toString()).stream()
+                .filter(c -> !c.getCompleted())
+                .toList();
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, pending.size()));
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (BatchCheckpoint checkpoint : pending) {
+                results.add(pool.submit(() -> processPartition(checkpoint.getId(), day, dailyRate)));
+            }
+            long accrued = 0;
+            for (Future<Long> result : results) {
+                accrued += result.get();
+            }
+            log.info("Interest accrual for {} completed, {} accounts credited", day, accrued);
+            return accrued;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interest accrual interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Interest accrual failed; it resumes from the last checkpoint on the next run", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private List<BatchCheckpoint> preparePartitions(String runKey) {
+        List<BatchCheckpoint> existing = checkpointRepository.findByJobNameAndRunKeyOrderByPartitionNo(JOB_NAME, runKey);
+        if (!existing.isEmpty()) {
+            return existing;
+        }
+
+        long[] bounds = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MIN(id), 0), COALESCE(MAX(id), -1) FROM accounts",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+        if (bounds == null || bounds[1] < bounds[0]) {
+            return List.of();
+        }
+
+        long span = bounds[1] - bounds[0] + 1;
+        int count = (int) Math.max(1, Math.min(partitions, span));
+        long width = (span + count - 1) / count;
+        List<BatchCheckpoint> created = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long start = bounds[0] + i * width;
+            long end = Math.min(bounds[1], start + width - 1);
+            created.add(BatchCheckpoint.builder()
+                    .jobName(JOB_NAME)
+                    .runKey(runKey)
+                    .partitionNo(i)
+                    .rangeStart(start)
+                    .rangeEnd(end)
+                    .lastProcessedId(start - 1)
+                    .build());
+        }
+        try {
+            return transactionTemplate.execute(status -> checkpointRepository.saveAll(created));
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the partitions first.
+            return checkpointRepository.findByJobNameAndRunKeyOrderByPartitionNo(JOB_NAME, runKey);
+        }
+    }
+
+    private long processPartition(long checkpointId, LocalDate day, BigDecimal dailyRate) throws InterruptedException {
+        long credited = 0;
+        int attempt = 1;
+        while (true) {
+            Integer chunkResult;
+            try {
+                chunkResult = transactionTemplate.execute(status -> processChunk(checkpointId, day, dailyRate));
+            } catch (RuntimeException e) {
+                if (!LockFailures.isLockFailure(e) || attempt >= maxAttempts) {
+                    throw e;
+                }
+                long delay = LockFailures.backoffMillis(attempt, retryBackoffMillis, maxRetryBackoffMillis);
+                log.warn("Interest accrual chunk of checkpoint {} could not lock its accounts (attempt {}), retrying in {} ms: {}",
+                        checkpointId, attempt, delay, e.getMessage());
+                Thread.sleep(delay);
+                attempt++;
+                continue;
+            }
+            attempt = 1;
+            if (chunkResult == null || chunkResult < 0) {
+                return credited;
+            }
+            credited += chunkResult;
+        }
+    }
+
+    /** Returns the number of accounts credited, or {@code -1} once the partition is complete. */
+    private int processChunk(long checkpointId, LocalDate day, BigDecimal dailyRate) {
+        BatchCheckpoint checkpoint = checkpointRepository.findByIdForUpdate(checkpointId).orElseThrow();
+        if (checkpoint.getCompleted()) {
+            return -1;
+        }
+
+        List<AccountRow> accounts = jdbcTemplate.query(
+                "SELECT a.id, a.iban, a.balance, " +
+                        "COALESCE(a.last_seq, (SELECT COUNT(*) FROM account_transactions t WHERE t.account_id = a.id)) " +
+                        "FROM accounts a WHERE a.id > ? AND a.id <= ? ORDER BY a.id LIMIT ? FOR UPDATE",
+                (rs, rowNum) -> new AccountRow(rs.getLong(1), rs.getString(2), rs.getBigDecimal(3), rs.getLong(4)),
+                checkpoint.getLastProcessedId(), checkpoint.getRangeEnd(), chunkSize);
+
+        LocalDateTime postedAt = day.plusDays(1).atStartOfDay();
+        List<LedgerEntry> entries = new ArrayList<>(accounts.size());
+        for (AccountRow account : accounts) {
+            BigDecimal interest = account.balance().multiply(dailyRate).setScale(2, RoundingMode.HALF_EVEN);
+            if (interest.signum() > 0) {
+                entries.add(new LedgerEntry(account.id(), account.iban(), account.lastSeq() + 1, TransactionType.INTEREST,
+                        interest, account.balance().add(interest), postedAt));
+            }
+        }
+        ledgerBatchWriter.write(entries);
+
+        if (!accounts.isEmpty()) {
+            checkpoint.setLastProcessedId(accounts.get(accounts.size() - 1).id());
+            checkpoint.setProcessedCount(checkpoint.getProcessedCount() + accounts.size());
+        }
+        if (accounts.size() < chunkSize) {
+            checkpoint.setCompleted(true);
+        }
+        return entries.size();
+    }
+
+    private record AccountRow(long id, String iban, BigDecimal balance, long lastSeq) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.vastriantafyllou.bankapp.batch;
+
+import com.vastriantafyllou.bankapp.event.LedgerEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Applies ledger entries with JDBC batches (balance updates, transaction inserts, daily rollups) inside the caller's
+ * transaction. The caller must hold the row locks of the affected accounts and compute {@code seq}/{@code balanceAfter}
+ * under them; entries of one account must be contiguous and in {@code seq} order.
+ */
+@Component
+@RequiredArgsConstructor
+public class LedgerBatchWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DailyRollupWriter dailyRollupWriter;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void write(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        // Only the last entry per account determines its final balance and sequence number.
+        List<Object[]> accountUpdates = new ArrayList<>(entries.size());
+        List<Object[]> inserts = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            LedgerEntry entry = entries.get(i);
+            boolean lastForAccount = i == entries.size() - 1 || entries.get(i + 1).accountId() != entry.accountId();
+            if (lastForAccount) {
+                accountUpdates.add(new Object[]{entry.balanceAfter(), entry.seq(), entry.seq(), entry.accountId()});
+            }
+            inserts.add(new Object[]{entry.accountId(), entry.seq(), entry.type().name(), entry.amount(),
+                    Timestamp.valueOf(entry.createdAt()), entry.balanceAfter(),
+                    entry.transferId() == null ? null : toBytes(entry.transferId()),
+                    entry.counterpartyAccountId(),
+                    entry.counterpartyIban() == null ? null : entry.counterpartyIban().toBytes()});
+        }
+
+        jdbcTemplate.batchUpdate("UPDATE accounts SET balance = ?, last_seq = ?, " +
+                "rollup_seq = IF(rollup_seq IS NULL, NULL, ?) WHERE id = ?", accountUpdates);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO account_transactions (account_id, seq, type, amount, created_at, balance_after, " +
+                        "transfer_id, counterparty_account_id, counterparty_iban_key) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                inserts);
+        dailyRollupWriter.addAll(entries);
+
+        for (LedgerEntry entry : entries) {
+            eventPublisher.publishEvent(new LedgerEvent(entry.iban(), entry.seq(), entry.type(), entry.amount(),
+                    entry.balanceAfter(), entry.createdAt(),
+                    entry.counterpartyIban() == null ? null : entry.counterpartyIban().toString()));
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
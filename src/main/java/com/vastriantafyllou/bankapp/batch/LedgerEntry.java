@@ -0,0 +1,25 @@
+package com.vastriantafyllou.bankapp.batch;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.core.types.Iban;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record LedgerEntry(long accountId,
+                          String iban,
+                          long seq,
+                          TransactionType type,
+                          BigDecimal amount,
+                          BigDecimal balanceAfter,
+                          LocalDateTime createdAt,
+                          UUID transferId,
+                          Long counterpartyAccountId,
+                          Iban counterpartyIban) {
+
+    public LedgerEntry(long accountId, String iban, long seq, TransactionType type,
+                       BigDecimal amount, BigDecimal balanceAfter, LocalDateTime createdAt) {
+        this(accountId, iban, seq, type, amount, balanceAfter, createdAt, null, null, null);
+    }
+}
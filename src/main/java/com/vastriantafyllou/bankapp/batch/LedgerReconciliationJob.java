@@ -0,0 +1,312 @@
+package com.vastriantafyllou.bankapp.batch;
+
+import com.vastriantafyllou.bankapp.core.enums.MismatchKind;
+import com.vastriantafyllou.bankapp.core.enums.ReconciliationStatus;
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.core.types.Money;
+import com.vastriantafyllou.bankapp.model.ReconciliationRun;
+import com.vastriantafyllou.bankapp.repository.ReconciliationRunRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Verifies that every account's {@code balance_after} values chain by the signed transaction amounts, that
+ * {@code seq} has no gaps, and that {@code accounts.balance} equals the last {@code balance_after}.
+ * <p>
+ * The account id space is split recursively on a fork/join pool. Each leaf reads its accounts and streams their
+ * transactions ordered by {@code (account_id, id)} in one read-only transaction, so both reads see the same
+ * snapshot, and keeps only the previous row per account in memory. Amounts are read as cents and compared as
+ * {@code long}s; only reported mismatches are turned back into decimals. Reads are throttled to
+ * {@code app.reconciliation.max-rows-per-second} across all workers. Mismatches go to
+ * {@code reconciliation_mismatches}.
+ */
+@Slf4j
+@Component
+public class LedgerReconciliationJob {
+
+    private static final int THROTTLE_STEP = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final ReconciliationRunRepository runRepository;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate writeTemplate;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${app.reconciliation.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.reconciliation.accounts-per-task:5000}")
+    private long accountsPerTask;
+
+    @Value("${app.reconciliation.max-rows-per-second:0}")
+    private long maxRowsPerSecond;
+
+    @Value("${app.reconciliation.max-mismatches-per-task:10000}")
+    private int maxMismatchesPerTask;
+
+    public LedgerReconciliationJob(JdbcTemplate jdbcTemplate,
+                                   DataSource dataSource,
+                                   ReconciliationRunRepository runRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // MySQL Connector/J streams rows one at a time only with this fetch size; kept local so the
+        // auto-configured JdbcTemplate is left alone.
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.runRepository = runRepository;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.readTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${app.reconciliation.cron:-}")
+    public void runScheduled() {
+        ReconciliationRun run = start();
+        if (run != null) {
+            execute(run.getId());
+        }
+    }
+
+    /** Records a new run, or returns {@code null} if one is already running on this node. */
+    public ReconciliationRun start() {
+        if (!running.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            return runRepository.save(ReconciliationRun.builder().build());
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    public void execute(long runId) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long[] bounds = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MIN(id), 0), COALESCE(MAX(id), -1) FROM accounts",
+                    (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+            Stats stats = bounds == null || bounds[1] < bounds[0]
+                    ? new Stats(0, 0, 0)
+                    : pool.invoke(new RangeTask(runId, bounds[0], bounds[1], new Throttle(maxRowsPerSecond)));
+            finish(runId, ReconciliationStatus.COMPLETED, stats, null);
+            log.info("Reconciliation run {} completed: {} accounts, {} transactions, {} mismatches",
+                    runId, stats.accounts(), stats.transactions(), stats.mismatches());
+        } catch (RuntimeException e) {
+            log.error("Reconciliation run {} failed", runId, e);
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            finish(runId, ReconciliationStatus.FAILED, null, message.length() > 255 ? message.substring(0, 255) : message);
+        } finally {
+            pool.shutdownNow();
+            running.set(false);
+        }
+    }
+
+    private void finish(long runId, ReconciliationStatus status, Stats stats, String error) {
+        writeTemplate.executeWithoutResult(tx -> runRepository.findById(runId).ifPresent(run -> {
+            run.setStatus(status);
+            run.setFinishedAt(LocalDateTime.now());
+            run.setError(error);
+            if (stats != null) {
+                run.setAccountsChecked(stats.accounts());
+                run.setTransactionsChecked(stats.transactions());
+                run.setMismatchCount(stats.mismatches());
+            }
+        }));
+    }
+
+    private Stats reconcile(long runId, long fromId, long toId, Throttle throttle) {
+        List<Object[]> mismatches = new ArrayList<>();
+        long[] counts = new long[2];
+        readTemplate.executeWithoutResult(tx -> {
+            Map<Long, AccountRow> accounts = new HashMap<>();
+            jdbcTemplate.query("SELECT id, iban, CAST(balance * 100 AS SIGNED) FROM accounts WHERE id BETWEEN ? AND ?",
+                    rs -> {
+                        accounts.put(rs.getLong(1), new AccountRow(rs.getString(2), rs.getLong(3)));
+                    }, fromId, toId);
+            counts[0] = accounts.size();
+
+            ChainState state = new ChainState();
+            streamingJdbcTemplate.query(
+                    "SELECT account_id, id, seq, type, CAST(amount * 100 AS SIGNED), CAST(balance_after * 100 AS SIGNED) " +
+                            "FROM account_transactions " +
+                            "WHERE account_id BETWEEN ? AND ? ORDER BY account_id, id",
+                    rs -> {
+                        long accountId = rs.getLong(1);
+                        if (accountId != state.accountId) {
+                            state.close(accounts, mismatches);
+                            state.reset(accountId);
+                        }
+                        long id = rs.getLong(2);
+                        long seq = rs.getLong(3);
+                        Long seqValue = rs.wasNull() ? null : seq;
+                        TransactionType type = TransactionType.valueOf(rs.getString(4));
+                        long amountCents = rs.getLong(5);
+                        long balanceAfterCents = rs.getLong(6);
+                        if (rs.wasNull()) {
+                            balanceAfterCents = ChainState.NO_BALANCE;
+                        }
+                        state.accept(accounts, id, seqValue, type, amountCents, balanceAfterCents, mismatches);
+                        if (++counts[1] % THROTTLE_STEP == 0) {
+                            throttle.acquire(THROTTLE_STEP);
+                        }
+                    }, fromId, toId);
+            state.close(accounts, mismatches);
+        });
+
+        long found = mismatches.size();
+        if (found > maxMismatchesPerTask) {
+            log.warn("Reconciliation run {}: {} mismatches in accounts {}-{}, keeping the first {}",
+                    runId, found, fromId, toId, maxMismatchesPerTask);
+        }
+        List<Object[]> rows = mismatches.subList(0, (int) Math.min(found, maxMismatchesPerTask));
+        if (!rows.isEmpty()) {
+            rows.forEach(row -> row[0] = runId);
+            writeTemplate.executeWithoutResult(tx -> jdbcTemplate.batchUpdate(
+                    "INSERT INTO reconciliation_mismatches (run_id, account_id, iban, kind, transaction_id, seq, expected, actual) " +
+                            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows));
+        }
+        return new Stats(counts[0], counts[1], found);
+    }
+
+    record AccountRow(String iban, long balanceCents) {
+    }
+
+    private record Stats(long accounts, long transactions, long mismatches) {
+
+        Stats plus(Stats other) {
+            return new Stats(accounts + other.accounts, transactions + other.transactions, mismatches + other.mismatches);
+        }
+    }
+
+    /** Running state of the chain being read: only the previous row of the current account. */
+    static final class ChainState {
+
+        /** Stands for a {@code NULL} {@code balance_after}, which no real balance in cents can equal. */
+        static final long NO_BALANCE = Long.MIN_VALUE;
+
+        private long accountId = -1;
+        private long lastBalance = NO_BALANCE;
+        private Long lastSeq;
+
+        void reset(long accountId) {
+            this.accountId = accountId;
+            this.lastBalance = NO_BALANCE;
+            this.lastSeq = null;
+        }
+
+        void accept(Map<Long, AccountRow> accounts, long id, Long seq, TransactionType type,
+                    long amount, long balanceAfter, List<Object[]> mismatches) {
+            if (seq != null && lastSeq != null && seq != lastSeq + 1) {
+                mismatches.add(mismatch(accounts, MismatchKind.SEQ_GAP, id, seq,
+                        BigDecimal.valueOf(lastSeq + 1), BigDecimal.valueOf(seq)));
+            }
+            if (balanceAfter != NO_BALANCE && lastBalance != NO_BALANCE) {
+                long expected = type.isCredit() ? lastBalance + amount : lastBalance - amount;
+                if (expected != balanceAfter) {
+                    mismatches.add(mismatch(accounts, MismatchKind.CHAIN_BREAK, id, seq,
+                            Money.ofCents(expected).toBigDecimal(), Money.ofCents(balanceAfter).toBigDecimal()));
+                }
+            }
+            // Rows written before balance_after existed break the chain; it restarts at the next row that has one.
+            lastBalance = balanceAfter;
+            lastSeq = seq;
+        }
+
+        void close(Map<Long, AccountRow> accounts, List<Object[]> mismatches) {
+            AccountRow account = accounts.get(accountId);
+            if (account != null && lastBalance != NO_BALANCE && account.balanceCents() != lastBalance) {
+                mismatches.add(mismatch(accounts, MismatchKind.BALANCE_MISMATCH, null, lastSeq,
+                        Money.ofCents(lastBalance).toBigDecimal(), Money.ofCents(account.balanceCents()).toBigDecimal()));
+            }
+        }
+
+        private Object[] mismatch(Map<Long, AccountRow> accounts, MismatchKind kind, Long transactionId, Long seq,
+                                  BigDecimal expected, BigDecimal actual) {
+            AccountRow account = accounts.get(accountId);
+            // The first slot is filled with the run id before insert.
+            return new Object[]{null, accountId, account == null ? "" : account.iban(), kind.name(),
+                    transactionId, seq, expected, actual};
+        }
+    }
+
+    private final class RangeTask extends RecursiveTask<Stats> {
+
+        private final long runId;
+        private final long fromId;
+        private final long toId;
+        private final Throttle throttle;
+
+        private RangeTask(long runId, long fromId, long toId, Throttle throttle) {
+            this.runId = runId;
+            this.fromId = fromId;
+            this.toId = toId;
+            this.throttle = throttle;
+        }
+
+        @Override
+        protected Stats compute() {
+            if (toId - fromId < accountsPerTask) {
+                return reconcile(runId, fromId, toId, throttle);
+            }
+            long mid = fromId + (toId - fromId) / 2;
+            RangeTask left = new RangeTask(runId, fromId, mid, throttle);
+            RangeTask right = new RangeTask(runId, mid + 1, toId, throttle);
+            left.fork();
+            return right.compute().plus(left.join());
+        }
+    }
+
+    /** Shared rows-per-second budget; {@code 0} disables throttling. */
+    static final class Throttle {
+
+        private final long rowsPerSecond;
+        private long nextFreeNanos;
+
+        Throttle(long rowsPerSecond) {
+            this.rowsPerSecond = rowsPerSecond;
+            this.nextFreeNanos = System.nanoTime();
+        }
+
+        void acquire(int rows) {
+            if (rowsPerSecond <= 0) {
+                return;
+            }
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long start = Math.max(now, nextFreeNanos);
+                nextFreeNanos = start + rows * TimeUnit.SECONDS.toNanos(1) / rowsPerSecond;
+                waitNanos = start - now;
+            }
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Reconciliation interrupted", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.vastriantafyllou.bankapp.batch;
+
+import com.vastriantafyllou.bankapp.core.enums.IngestionStatus;
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.core.types.Iban;
+import com.vastriantafyllou.bankapp.core.types.Money;
+import com.vastriantafyllou.bankapp.event.IngestionJobSubmittedEvent;
+import com.vastriantafyllou.bankapp.model.Account;
+import com.vastriantafyllou.bankapp.model.IngestionJob;
+import com.vastriantafyllou.bankapp.repository.AccountRepository;
+import com.vastriantafyllou.bankapp.repository.AccountTransactionRepository;
+import com.vastriantafyllou.bankapp.repository.IngestionJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Applies payment files of {@code IBAN,amount[,reference]} credit lines.
+ * <p>
+ * The file is streamed in chunks of {@code app.ingestion.chunk-size} lines. Each chunk is parsed in parallel, grouped
+ * by destination IBAN, and applied in one transaction that locks the destination accounts in iban order, writes
+ * all deposits through {@link LedgerBatchWriter} and advances the job's line checkpoint. The chunk's result lines are
+ * written before that commit and the committed result length is part of the checkpoint, so a restarted job truncates
+ * any results of an uncommitted chunk and continues with the first unapplied line.
+ */
+@Slf4j
+@Component
+public class PaymentFileIngester {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+    private static final String RESULT_HEADER = "line,status,message\n";
+
+    private final IngestionJobRepository jobRepository;
+    private final AccountRepository accountRepository;
+    private final AccountTransactionRepository accountTransactionRepository;
+    private final LedgerBatchWriter ledgerBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Long> active = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "payment-file-ingester");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${app.ingestion.chunk-size:1000}")
+    private int chunkSize;
+
+    public PaymentFileIngester(IngestionJobRepository jobRepository,
+                               AccountRepository accountRepository,
+                               AccountTransactionRepository accountTransactionRepository,
+                               LedgerBatchWriter ledgerBatchWriter,
+                               PlatformTransactionManager transactionManager) {
+        this.jobRepository = jobRepository;
+        this.accountRepository = accountRepository;
+        this.accountTransactionRepository = accountTransactionRepository;
+        this.ledgerBatchWriter = ledgerBatchWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        for (IngestionJob job : jobRepository.findByStatusIn(List.of(IngestionStatus.PENDING, IngestionStatus.RUNNING))) {
+            log.info("Resuming payment file job {} after line {}", job.getId(), job.getLinesProcessed());
+            submit(job.getId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onSubmitted(IngestionJobSubmittedEvent event) {
+        submit(event.jobId());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(long jobId) {
+        if (active.add(jobId)) {
+            executor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    active.remove(jobId);
+                }
+            });
+        }
+    }
+
+    void run(long jobId) {
+        IngestionJob job = transactionTemplate.execute(status -> {
+            IngestionJob locked = jobRepository.findByIdForUpdate(jobId).orElse(null);
+            if (locked == null || locked.getStatus() == IngestionStatus.COMPLETED || locked.getStatus() == IngestionStatus.FAILED) {
+                return null;
+            }
+            locked.setStatus(IngestionStatus.RUNNING);
+            return locked;
+        });
+        if (job == null) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(job.getInputPath()), StandardCharsets.UTF_8);
+             FileChannel results = FileChannel.open(Path.of(job.getResultPath()),
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            results.truncate(job.getResultBytes());
+            long lineNo = 0;
+            while (lineNo < job.getLinesProcessed() && reader.readLine() != null) {
+                lineNo++;
+            }
+
+            List<String> chunk = new ArrayList<>(chunkSize);
+            String line;
+            while (!Thread.currentThread().isInterrupted()) {
+                chunk.clear();
+                while (chunk.size() < chunkSize && (line = reader.readLine()) != null) {
+                    chunk.add(line);
+                }
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                long firstLine = lineNo + 1;
+                List<String> lines = List.copyOf(chunk);
+                transactionTemplate.executeWithoutResult(status -> applyChunk(jobId, firstLine, lines, results));
+                lineNo += lines.size();
+            }
+            if (!Thread.currentThread().isInterrupted()) {
+                finish(jobId, IngestionStatus.COMPLETED, null);
+                log.info("Payment file job {} completed, {} lines", jobId, lineNo);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Payment file job {} failed; resume it to continue from the last checkpoint", jobId, e);
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            finish(jobId, IngestionStatus.FAILED, message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        }
+    }
+
+    private void applyChunk(long jobId, long firstLine, List<String> lines, FileChannel results) {
+        IngestionJob job = jobRepository.findByIdForUpdate(jobId).orElseThrow();
+        if (job.getLinesProcessed() != firstLine - 1) {
+            throw new IllegalStateException("Payment file job " + jobId + " was advanced by another runner");
+        }
+
+        List<Instruction> instructions = IntStream.range(0, lines.size())
+                .parallel()
+                .mapToObj(i -> Instruction.parse(firstLine + i, lines.get(i)))
+                .toList();
+
+        SortedMap<String, List<Instruction>> byIban = new TreeMap<>();
+        for (Instruction instruction : instructions) {
+            if (instruction.isValid()) {
+                byIban.computeIfAbsent(instruction.iban(), k -> new ArrayList<>()).add(instruction);
+            }
+        }
+        Map<String, Account> accounts = byIban.isEmpty()
+                ? Map.of()
+                : accountRepository.findAllByIbanInForUpdate(byIban.keySet()).stream()
+                        .collect(Collectors.toMap(Account::getIban, Function.identity()));
+
+        String[] outcomes = new String[instructions.size()];
+        List<LedgerEntry> entries = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        long accepted = 0;
+        Money acceptedAmount = Money.ZERO;
+        for (Map.Entry<String, List<Instruction>> group : byIban.entrySet()) {
+            Account account = accounts.get(group.getKey());
+            if (account == null) {
+                group.getValue().forEach(i -> outcomes[(int) (i.lineNo() - firstLine)] = "REJECTED,Ο λογαριασμός δεν βρέθηκε");
+                continue;
+            }
+            long seq = account.getLastSeq() != null
+                    ? account.getLastSeq()
+                    : accountTransactionRepository.countByAccount_Id(account.getId());
+            Money balance = Money.of(account.getBalance());
+            for (Instruction instruction : group.getValue()) {
+                balance = balance.plus(instruction.amount());
+                entries.add(new LedgerEntry(account.getId(), account.getIban(), ++seq, TransactionType.DEPOSIT,
+                        instruction.amount().toBigDecimal(), balance.toBigDecimal(), now));
+                outcomes[(int) (instruction.lineNo() - firstLine)] = "ACCEPTED,";
+                accepted++;
+                acceptedAmount = acceptedAmount.plus(instruction.amount());
+            }
+        }
+        ledgerBatchWriter.write(entries);
+
+        StringBuilder out = new StringBuilder(job.getResultBytes() == 0 ? RESULT_HEADER : "");
+        long rejected = 0;
+        for (int i = 0; i < instructions.size(); i++) {
+            Instruction instruction = instructions.get(i);
+            String outcome = outcomes[i] != null ? outcomes[i] : instruction.outcome();
+            if (outcome.startsWith("REJECTED")) {
+                rejected++;
+            }
+            out.append(instruction.lineNo()).append(',').append(outcome).append('\n');
+        }
+        byte[] bytes = out.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long position = job.getResultBytes();
+            while (buffer.hasRemaining()) {
+                position += results.write(buffer, position);
+            }
+            results.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        job.setLinesProcessed(job.getLinesProcessed() + lines.size());
+        job.setResultBytes(job.getResultBytes() + bytes.length);
+        job.setAcceptedCount(job.getAcceptedCount() + accepted);
+        job.setRejectedCount(job.getRejectedCount() + rejected);
+        job.setAcceptedAmount(job.getAcceptedAmount().plus(acceptedAmount));
+    }
+
+    private void finish(long jobId, IngestionStatus status, String error) {
+        transactionTemplate.executeWithoutResult(tx -> jobRepository.findByIdForUpdate(jobId).ifPresent(job -> {
+            job.setStatus(status);
+            job.setError(error);
+        }));
+    }
+
+    /** One parsed line; {@code outcome} is set for lines that are skipped or rejected before touching accounts. */
+    record Instruction(long lineNo, String iban, Money amount, String outcome) {
+
+        boolean isValid() {
+            return outcome == null;
+        }
+
+        static Instruction parse(long lineNo, String line) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#") || (lineNo == 1 && trimmed.regionMatches(true, 0, "iban", 0, 4))) {
+                return new Instruction(lineNo, null, null, "SKIPPED,");
+            }
+            String[] fields = trimmed.split(",", 3);
+            if (fields.length < 2) {
+                return rejected(lineNo, "Η γραμμή πρέπει να έχει IBAN και ποσό");
+            }
+            String iban = fields[0].strip();
+            if (Iban.tryParse(iban) == null) {
+                return rejected(lineNo, "Μη έγκυρο IBAN");
+            }
+            Money amount = Money.tryParse(fields[1].strip());
+            if (amount == null) {
+                return rejected(lineNo, "Μη έγκυρο ποσό");
+            }
+            if (!amount.isPositive()) {
+                return rejected(lineNo, "Το ποσό πρέπει να είναι θετικό");
+            }
+            return new Instruction(lineNo, iban, amount, null);
+        }
+
+        private static Instruction rejected(long lineNo, String message) {
+            return new Instruction(lineNo, null, null, "REJECTED," + message);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.vastriantafyllou.bankapp.config;
+
+import com.vastriantafyllou.bankapp.core.concurrency.AimdLimiter;
+import com.vastriantafyllou.bankapp.core.exception.ServiceOverloadedException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admission control for the account endpoints. Writes and reads each have their own {@link AimdLimiter}, so a
+ * lock convoy on a hot account shrinks the write budget while browsing keeps its own. A request over its budget
+ * is rejected before reaching the service with {@link ServiceOverloadedException} (503, {@code Retry-After}).
+ * Write latency covers the whole call, i.e. lock waits and commit; a 503 from the lock retries counts as a drop.
+ */
+@Component
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".start";
+    private static final String LIMITER_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".limiter";
+
+    private final AimdLimiter writeLimiter;
+    private final AimdLimiter readLimiter;
+    private final long retryAfterSeconds;
+
+    public AdmissionControlInterceptor(@Value("${app.admission.writes.initial-limit:20}") int writeInitial,
+                                       @Value("${app.admission.writes.min-limit:2}") int writeMin,
+                                       @Value("${app.admission.writes.max-limit:200}") int writeMax,
+                                       @Value("${app.admission.writes.latency-target-ms:250}") long writeTargetMillis,
+                                       @Value("${app.admission.reads.initial-limit:100}") int readInitial,
+                                       @Value("${app.admission.reads.min-limit:10}") int readMin,
+                                       @Value("${app.admission.reads.max-limit:400}") int readMax,
+                                       @Value("${app.admission.reads.latency-target-ms:500}") long readTargetMillis,
+                                       @Value("${app.admission.backoff-ratio:0.9}") double backoffRatio,
+                                       @Value("${app.admission.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.writeLimiter = new AimdLimiter(writeInitial, writeMin, writeMax, writeTargetMillis, backoffRatio);
+        this.readLimiter = new AimdLimiter(readInitial, readMin, readMax, readTargetMillis, backoffRatio);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        boolean write = !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()));
+        AimdLimiter limiter = write ? writeLimiter : readLimiter;
+        if (!limiter.tryAcquire()) {
+            throw new ServiceOverloadedException(
+                    "Η υπηρεσία δέχεται πολλά αιτήματα αυτή τη στιγμή. Δοκιμάστε ξανά σε λίγο.", retryAfterSeconds);
+        }
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(LIMITER_ATTRIBUTE) instanceof AimdLimiter limiter)) {
+            return;
+        }
+        request.removeAttribute(LIMITER_ATTRIBUTE);
+        long start = (Long) request.getAttribute(START_ATTRIBUTE);
+        boolean dropped = ex != null || response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+        limiter.release(start, System.nanoTime(), dropped);
+    }
+
+    public int writeLimit() {
+        return writeLimiter.limit();
+    }
+
+    public int readLimit() {
+        return readLimiter.limit();
+    }
+}
@@ -0,0 +1,28 @@
+package com.vastriantafyllou.bankapp.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+
+    @Value("${app.admission.enabled:true}")
+    private boolean admissionControlEnabled;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!admissionControlEnabled) {
+            return;
+        }
+        // Event streams stay open for minutes and would pin a read slot for as long.
+        registry.addInterceptor(admissionControlInterceptor)
+                .addPathPatterns("/accounts/**", "/api/v1/accounts/**", "/api/v1/transfers/**")
+                .excludePathPatterns("/accounts/*/events");
+    }
+}
@@ -1,23 +1,37 @@
 package com.vastriantafyllou.bankapp.controller;
 
+import com.vastriantafyllou.bankapp.core.enums.AccountSortField;
 import com.vastriantafyllou.bankapp.core.exception.AccountAlreadyExistsException;
 import com.vastriantafyllou.bankapp.core.exception.AccountNumberAlreadyExistsException;
 import com.vastriantafyllou.bankapp.dto.AccountInsertDTO;
+import com.vastriantafyllou.bankapp.dto.AccountOverviewDTO;
 import com.vastriantafyllou.bankapp.dto.AccountReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.AdminAccountPageDTO;
+import com.vastriantafyllou.bankapp.dto.BalanceHistoryDTO;
 import com.vastriantafyllou.bankapp.dto.TransferDTO;
 import com.vastriantafyllou.bankapp.dto.TransactionDTO;
+import com.vastriantafyllou.bankapp.dto.TransactionReadOnlyDTO;
 import com.vastriantafyllou.bankapp.model.AccountTransaction;
+import com.vastriantafyllou.bankapp.service.AccountStreamService;
+import com.vastriantafyllou.bankapp.service.IAccountAnalyticsService;
 import com.vastriantafyllou.bankapp.service.IAccountService;
+import com.vastriantafyllou.bankapp.service.IAdminAccountService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Controller
 @RequestMapping("/accounts")
@@ -25,18 +39,49 @@ import java.util.List;
 public class AccountController {
 
     private final IAccountService accountService;
+    private final AccountStreamService accountStreamService;
+    private final IAccountAnalyticsService analyticsService;
+    private final IAdminAccountService adminAccountService;
+
+    private static final int HISTORY_PAGE_SIZE = 20;
+    private static final int OVERVIEW_TRANSACTIONS = 3;
+    private static final int ADMIN_PAGE_SIZE = 50;
 
     private static boolean isAdmin(Authentication authentication) {
         return authentication != null && authentication.getAuthorities().stream()
                 .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
     }
 
+    private void addHistory(Model model, String iban, int page, String username, boolean admin) {
+        Slice<AccountTransaction> history = accountService.getTransactionHistoryPage(iban, page, HISTORY_PAGE_SIZE, username, admin);
+        model.addAttribute("transactions", history.getContent());
+        model.addAttribute("historyPage", history.getNumber());
+        model.addAttribute("historyHasNext", history.hasNext());
+    }
+
     @GetMapping
-    public String listAccounts(Authentication authentication, Model model) {
+    public String listAccounts(@RequestParam(defaultValue = "IBAN") AccountSortField sort,
+                               @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+                               @RequestParam(required = false) String cursor,
+                               Authentication authentication,
+                               Model model) {
         String username = authentication.getName();
-        boolean admin = isAdmin(authentication);
-        List<AccountReadOnlyDTO> accounts = accountService.getAllAccounts(username, admin);
-        model.addAttribute("accounts", accounts);
+        if (isAdmin(authentication)) {
+            AdminAccountPageDTO page = adminAccountService.getAccounts(sort, direction.isDescending(), cursor, ADMIN_PAGE_SIZE);
+            model.addAttribute("accounts", page.getAccounts());
+            model.addAttribute("adminView", true);
+            model.addAttribute("sortFields", AccountSortField.values());
+            model.addAttribute("sort", sort);
+            model.addAttribute("direction", direction);
+            model.addAttribute("nextCursor", page.getNextCursor());
+            return "accounts/list";
+        }
+
+        List<AccountOverviewDTO> overview = accountService.getAccountOverview(username, OVERVIEW_TRANSACTIONS);
+        Map<String, List<TransactionReadOnlyDTO>> recent = overview.stream()
+                .collect(Collectors.toMap(o -> o.getAccount().getIban(), AccountOverviewDTO::getRecentTransactions));
+        model.addAttribute("accounts", overview.stream().map(AccountOverviewDTO::getAccount).toList());
+        model.addAttribute("recentTransactions", recent);
         return "accounts/list";
     }
 
@@ -69,18 +114,35 @@ public class AccountController {
     }
 
     @GetMapping("/{iban}")
-    public String viewAccount(@PathVariable String iban, Authentication authentication, Model model) {
+    public String viewAccount(@PathVariable String iban,
+                              @RequestParam(defaultValue = "0") int page,
+                              Authentication authentication,
+                              Model model) {
         String username = authentication.getName();
         boolean admin = isAdmin(authentication);
         AccountReadOnlyDTO account = accountService.getAccountByIban(iban, username, admin);
-        List<AccountTransaction> transactions = accountService.getTransactionHistory(iban, username, admin);
         model.addAttribute("account", account);
         model.addAttribute("transactionDTO", new TransactionDTO());
         model.addAttribute("transferDTO", new TransferDTO());
-        model.addAttribute("transactions", transactions);
+        addHistory(model, iban, Math.max(page, 0), username, admin);
         return "accounts/view";
     }
 
+    @GetMapping(path = "/{iban}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter accountEvents(@PathVariable String iban, Authentication authentication) {
+        AccountReadOnlyDTO account = accountService.getAccountByIban(iban, authentication.getName(), isAdmin(authentication));
+        return accountStreamService.subscribe(account.getIban());
+    }
+
+    @GetMapping(path = "/{iban}/balance-history", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public BalanceHistoryDTO balanceHistory(@PathVariable String iban,
+                                            @RequestParam(defaultValue = "200") int points,
+                                            Authentication authentication) {
+        return analyticsService.getBalanceHistory(iban, points, authentication.getName(), isAdmin(authentication));
+    }
+
     @PostMapping("/{iban}/deposit")
     public String deposit(@PathVariable String iban,
                           @Valid @ModelAttribute("transactionDTO") TransactionDTO dto,
@@ -93,7 +155,7 @@ public class AccountController {
             boolean admin = isAdmin(authentication);
             model.addAttribute("account", accountService.getAccountByIban(iban, username, admin));
             model.addAttribute("transferDTO", new TransferDTO());
-            model.addAttribute("transactions", accountService.getTransactionHistory(iban, username, admin));
+            addHistory(model, iban, 0, username, admin);
             return "accounts/view";
         }
 
@@ -114,7 +176,7 @@ public class AccountController {
             boolean admin = isAdmin(authentication);
             model.addAttribute("account", accountService.getAccountByIban(iban, username, admin));
             model.addAttribute("transactionDTO", new TransactionDTO());
-            model.addAttribute("transactions", accountService.getTransactionHistory(iban, username, admin));
+            addHistory(model, iban, 0, username, admin);
             return "accounts/view";
         }
 
@@ -135,7 +197,7 @@ public class AccountController {
             boolean admin = isAdmin(authentication);
             model.addAttribute("account", accountService.getAccountByIban(iban, username, admin));
             model.addAttribute("transferDTO", new TransferDTO());
-            model.addAttribute("transactions", accountService.getTransactionHistory(iban, username, admin));
+            addHistory(model, iban, 0, username, admin);
             return "accounts/view";
         }
 
@@ -1,16 +1,19 @@
 package com.vastriantafyllou.bankapp.controller;
 
 import com.vastriantafyllou.bankapp.core.enums.Role;
+import com.vastriantafyllou.bankapp.dto.AccountTotalsDTO;
+import com.vastriantafyllou.bankapp.dto.SearchHitDTO;
 import com.vastriantafyllou.bankapp.dto.UserReadOnlyDTO;
-import com.vastriantafyllou.bankapp.service.IAccountService;
+import com.vastriantafyllou.bankapp.service.AdminSearchIndex;
+import com.vastriantafyllou.bankapp.service.IAdminAccountService;
 import com.vastriantafyllou.bankapp.service.IUserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 @Controller
@@ -19,20 +22,19 @@ import java.util.List;
 public class AdminController {
 
     private final IUserService userService;
-    private final IAccountService accountService;
+    private final IAdminAccountService adminAccountService;
+    private final AdminSearchIndex adminSearchIndex;
+
+    private static final int SEARCH_LIMIT = 20;
 
     @GetMapping
     public String dashboard(Model model) {
         long userCount = userService.countUsers();
-        List<?> allAccounts = accountService.getAllAccounts(null, true);
-        int accountCount = allAccounts.size();
-        BigDecimal totalBalance = allAccounts.stream()
-                .map(a -> ((com.vastriantafyllou.bankapp.dto.AccountReadOnlyDTO) a).getBalance())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        AccountTotalsDTO totals = adminAccountService.getTotals();
 
         model.addAttribute("userCount", userCount);
-        model.addAttribute("accountCount", accountCount);
-        model.addAttribute("totalBalance", totalBalance);
+        model.addAttribute("accountCount", totals.getAccountCount());
+        model.addAttribute("totalBalance", totals.getTotalBalance());
         return "admin/dashboard";
     }
 
@@ -43,6 +45,12 @@ public class AdminController {
         return "admin/users";
     }
 
+    @GetMapping(path = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public List<SearchHitDTO> search(@RequestParam String q) {
+        return adminSearchIndex.search(q, SEARCH_LIMIT);
+    }
+
     @PostMapping("/users/{id}/block")
     public String blockUser(@PathVariable Long id, RedirectAttributes redirectAttributes) {
         userService.blockUser(id);
@@ -0,0 +1,42 @@
+package com.vastriantafyllou.bankapp.controller.api;
+
+import com.vastriantafyllou.bankapp.core.enums.ActivityGranularity;
+import com.vastriantafyllou.bankapp.dto.ActivityBucketDTO;
+import com.vastriantafyllou.bankapp.dto.BalanceHistoryDTO;
+import com.vastriantafyllou.bankapp.service.IAccountAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/accounts/{iban}")
+@RequiredArgsConstructor
+public class AccountAnalyticsRestController {
+
+    private final IAccountAnalyticsService analyticsService;
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+    }
+
+    @GetMapping("/activity")
+    public List<ActivityBucketDTO> getActivity(@PathVariable String iban,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                               @RequestParam(defaultValue = "DAY") ActivityGranularity granularity,
+                                               Authentication authentication) {
+        return analyticsService.getActivity(iban, from, to, granularity, authentication.getName(), isAdmin(authentication));
+    }
+
+    @GetMapping("/balance-history")
+    public BalanceHistoryDTO getBalanceHistory(@PathVariable String iban,
+                                               @RequestParam(defaultValue = "200") int points,
+                                               Authentication authentication) {
+        return analyticsService.getBalanceHistory(iban, points, authentication.getName(), isAdmin(authentication));
+    }
+}
@@ -0,0 +1,177 @@
+package com.vastriantafyllou.bankapp.controller.api;
+
+import com.vastriantafyllou.bankapp.core.exception.InvalidFilterException;
+import com.vastriantafyllou.bankapp.core.types.TransactionCursor;
+import com.vastriantafyllou.bankapp.dto.AccountInsertDTO;
+import com.vastriantafyllou.bankapp.dto.AccountReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.BalanceDTO;
+import com.vastriantafyllou.bankapp.dto.PostingDTO;
+import com.vastriantafyllou.bankapp.dto.SplitTransferDTO;
+import com.vastriantafyllou.bankapp.dto.TransactionDTO;
+import com.vastriantafyllou.bankapp.dto.TransactionFilterDTO;
+import com.vastriantafyllou.bankapp.dto.TransactionPageDTO;
+import com.vastriantafyllou.bankapp.dto.TransactionSearchDTO;
+import com.vastriantafyllou.bankapp.dto.TransferDTO;
+import com.vastriantafyllou.bankapp.dto.TransferResultDTO;
+import com.vastriantafyllou.bankapp.mapper.Mapper;
+import com.vastriantafyllou.bankapp.model.AccountTransaction;
+import com.vastriantafyllou.bankapp.service.IAccountService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/accounts")
+@RequiredArgsConstructor
+public class AccountRestController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String ADMIN_ACCOUNTS_PATH = "/api/v1/admin/accounts";
+
+    private final IAccountService accountService;
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+    }
+
+    private static String eTag(AccountReadOnlyDTO account) {
+        return "W/\"" + account.getId() + "-" + account.getVersion() + "\"";
+    }
+
+    private static String eTag(List<AccountReadOnlyDTO> accounts) {
+        long hash = 1;
+        for (AccountReadOnlyDTO account : accounts) {
+            hash = 31 * (31 * hash + account.getId()) + account.getVersion();
+        }
+        return "W/\"" + accounts.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    // Every account is too many for one response; admins are sent to the keyset-paged admin listing.
+    @GetMapping
+    public ResponseEntity<List<AccountReadOnlyDTO>> listAccounts(Authentication authentication, WebRequest webRequest) {
+        if (isAdmin(authentication)) {
+            return ResponseEntity.status(HttpStatus.SEE_OTHER).location(URI.create(ADMIN_ACCOUNTS_PATH)).build();
+        }
+        List<AccountReadOnlyDTO> accounts = accountService.getAllAccounts(authentication.getName());
+        return webRequest.checkNotModified(eTag(accounts)) ? null : ResponseEntity.ok(accounts);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public AccountReadOnlyDTO createAccount(@Valid @RequestBody AccountInsertDTO dto, Authentication authentication) {
+        return accountService.createAccount(dto, authentication.getName());
+    }
+
+    @GetMapping("/{iban}")
+    public AccountReadOnlyDTO getAccount(@PathVariable String iban, Authentication authentication, WebRequest webRequest) {
+        AccountReadOnlyDTO account = accountService.getAccountByIban(iban, authentication.getName(), isAdmin(authentication));
+        return webRequest.checkNotModified(eTag(account)) ? null : account;
+    }
+
+    @GetMapping("/{iban}/balance")
+    public BalanceDTO getBalance(@PathVariable String iban, Authentication authentication, WebRequest webRequest) {
+        AccountReadOnlyDTO account = accountService.getAccountByIban(iban, authentication.getName(), isAdmin(authentication));
+        if (webRequest.checkNotModified(eTag(account))) {
+            return null;
+        }
+        return new BalanceDTO(account.getIban(), account.getBalance(), account.getVersion());
+    }
+
+    @GetMapping("/{iban}/transactions")
+    public TransactionPageDTO getTransactions(@PathVariable String iban,
+                                              @RequestParam(defaultValue = "0") int page,
+                                              @RequestParam(defaultValue = "20") int size,
+                                              Authentication authentication,
+                                              WebRequest webRequest) {
+        String username = authentication.getName();
+        boolean admin = isAdmin(authentication);
+        long lastSeq = accountService.getLastSeq(iban, username, admin);
+        if (webRequest.checkNotModified("W/\"" + lastSeq + "\"")) {
+            return null;
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Slice<AccountTransaction> slice = accountService.getTransactionHistoryPage(iban, Math.max(page, 0), pageSize, username, admin);
+        return new TransactionPageDTO(slice.getNumber(), slice.getSize(), slice.hasNext(),
+                slice.getContent().stream().map(Mapper::mapToReadOnlyDTO).toList());
+    }
+
+    @GetMapping("/{iban}/transactions/search")
+    public TransactionSearchDTO searchTransactions(@PathVariable String iban,
+                                                   @ModelAttribute TransactionFilterDTO filter,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "20") int size,
+                                                   Authentication authentication) {
+        TransactionCursor after = null;
+        if (cursor != null) {
+            after = TransactionCursor.tryParse(cursor);
+            if (after == null) {
+                throw new InvalidFilterException("Μη έγκυρος δείκτης σελίδας");
+            }
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Slice<AccountTransaction> slice = accountService.searchTransactions(iban, filter, after, pageSize,
+                authentication.getName(), isAdmin(authentication));
+        List<AccountTransaction> rows = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            AccountTransaction last = rows.get(rows.size() - 1);
+            nextCursor = new TransactionCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new TransactionSearchDTO(iban, nextCursor, rows.stream().map(Mapper::mapToReadOnlyDTO).toList());
+    }
+
+    @PostMapping("/{iban}/deposit")
+    public AccountReadOnlyDTO deposit(@PathVariable String iban, @Valid @RequestBody TransactionDTO dto, Authentication authentication) {
+        String username = authentication.getName();
+        boolean admin = isAdmin(authentication);
+        accountService.deposit(iban, dto.getAmount(), username, admin);
+        return accountService.getAccountByIban(iban, username, admin);
+    }
+
+    @PostMapping("/{iban}/withdraw")
+    public AccountReadOnlyDTO withdraw(@PathVariable String iban, @Valid @RequestBody TransactionDTO dto, Authentication authentication) {
+        String username = authentication.getName();
+        boolean admin = isAdmin(authentication);
+        accountService.withdraw(iban, dto.getAmount(), username, admin);
+        return accountService.getAccountByIban(iban, username, admin);
+    }
+
+    @PostMapping("/{iban}/transfer")
+    public AccountReadOnlyDTO transfer(@PathVariable String iban, @Valid @RequestBody TransferDTO dto, Authentication authentication) {
+        String username = authentication.getName();
+        boolean admin = isAdmin(authentication);
+        accountService.transfer(iban, dto.getToIban(), dto.getAmount(), username, admin);
+        return accountService.getAccountByIban(iban, username, admin);
+    }
+
+    @PostMapping("/{iban}/split")
+    public TransferResultDTO split(@PathVariable String iban, @Valid @RequestBody SplitTransferDTO dto, Authentication authentication) {
+        List<PostingDTO> postings = new ArrayList<>(dto.getCredits().size() + 1);
+        BigDecimal total = BigDecimal.ZERO;
+        for (TransferDTO credit : dto.getCredits()) {
+            postings.add(new PostingDTO(credit.getToIban(), credit.getAmount()));
+            total = total.add(credit.getAmount());
+        }
+        postings.add(new PostingDTO(iban, total.negate()));
+        return new TransferResultDTO(accountService.transfer(postings, authentication.getName(), isAdmin(authentication)));
+    }
+
+    @DeleteMapping("/{iban}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteAccount(@PathVariable String iban, Authentication authentication) {
+        accountService.deleteAccount(iban, authentication.getName(), isAdmin(authentication));
+    }
+}
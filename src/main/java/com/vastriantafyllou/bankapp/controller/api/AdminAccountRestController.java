@@ -0,0 +1,83 @@
+package com.vastriantafyllou.bankapp.controller.api;
+
+import com.vastriantafyllou.bankapp.core.enums.AccountSortField;
+import com.vastriantafyllou.bankapp.dto.AdminAccountPageDTO;
+import com.vastriantafyllou.bankapp.dto.AdminAccountRowDTO;
+import com.vastriantafyllou.bankapp.service.IAdminAccountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/v1/admin/accounts")
+@RequiredArgsConstructor
+public class AdminAccountRestController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final IAdminAccountService adminAccountService;
+
+    @GetMapping
+    public AdminAccountPageDTO listAccounts(@RequestParam(defaultValue = "IBAN") AccountSortField sort,
+                                            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "50") int size) {
+        return adminAccountService.getAccounts(sort, direction.isDescending(), cursor,
+                Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    // Rows are written as they are read, so the dump never sits in memory on either side.
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAccounts() {
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write("id,iban,account_number,balance,owner\n");
+            try {
+                adminAccountService.exportAccounts(row -> writeRow(writer, row));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"accounts.csv\"")
+                .body(body);
+    }
+
+    private static void writeRow(Writer writer, AdminAccountRowDTO row) {
+        try {
+            writer.write(row.getId() + "," + csv(row.getIban()) + "," + csv(row.getAccountNumber()) + ","
+                    + row.getBalance().toPlainString() + "," + csv(row.getOwnerUsername()) + "\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A leading ' keeps spreadsheets from evaluating user-chosen text such as "=HYPERLINK(...)" as a formula.
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
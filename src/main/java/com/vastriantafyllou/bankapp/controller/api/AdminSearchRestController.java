@@ -0,0 +1,23 @@
+package com.vastriantafyllou.bankapp.controller.api;
+
+import com.vastriantafyllou.bankapp.dto.SearchHitDTO;
+import com.vastriantafyllou.bankapp.service.AdminSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/search")
+@RequiredArgsConstructor
+public class AdminSearchRestController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final AdminSearchIndex adminSearchIndex;
+
+    @GetMapping
+    public List<SearchHitDTO> search(@RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+        return adminSearchIndex.search(q, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+}
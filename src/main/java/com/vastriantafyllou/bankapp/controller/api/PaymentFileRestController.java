@@ -0,0 +1,63 @@
+package com.vastriantafyllou.bankapp.controller.api;
+
+import com.vastriantafyllou.bankapp.dto.IngestionJobReadOnlyDTO;
+import com.vastriantafyllou.bankapp.service.IPaymentFileService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/payment-files")
+@RequiredArgsConstructor
+public class PaymentFileRestController {
+
+    private final IPaymentFileService paymentFileService;
+
+    // The body is the raw file, streamed to disk without buffering it in memory or going through multipart limits.
+    @PostMapping(consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<IngestionJobReadOnlyDTO> submitFile(@RequestParam(required = false) String name,
+                                                              InputStream body,
+                                                              Authentication authentication) throws IOException {
+        IngestionJobReadOnlyDTO job = paymentFileService.submitFile(name, body, authentication.getName());
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri().path("/{id}").buildAndExpand(job.getId()).toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @GetMapping
+    public List<IngestionJobReadOnlyDTO> listJobs() {
+        return paymentFileService.getJobs();
+    }
+
+    @GetMapping("/{id}")
+    public IngestionJobReadOnlyDTO getJob(@PathVariable Long id) {
+        return paymentFileService.getJob(id);
+    }
+
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<IngestionJobReadOnlyDTO> resumeJob(@PathVariable Long id) {
+        return ResponseEntity.accepted().body(paymentFileService.resumeJob(id));
+    }
+
+    @GetMapping("/{id}/results")
+    public ResponseEntity<Resource> getResults(@PathVariable Long id) {
+        Path results = paymentFileService.getResultFile(id);
+        if (!Files.exists(results)) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .body(new FileSystemResource(results));
+    }
+}
@@ -0,0 +1,38 @@
+package com.vastriantafyllou.bankapp.controller.api;
+
+import com.vastriantafyllou.bankapp.dto.ReconciliationMismatchDTO;
+import com.vastriantafyllou.bankapp.dto.ReconciliationRunDTO;
+import com.vastriantafyllou.bankapp.service.IReconciliationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/reconciliation")
+@RequiredArgsConstructor
+public class ReconciliationRestController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final IReconciliationService reconciliationService;
+
+    @PostMapping("/runs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ReconciliationRunDTO startRun() {
+        return reconciliationService.startRun();
+    }
+
+    @GetMapping("/runs")
+    public List<ReconciliationRunDTO> listRuns(@RequestParam(defaultValue = "20") int limit) {
+        return reconciliationService.getRuns(Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    @GetMapping("/runs/{id}/mismatches")
+    public List<ReconciliationMismatchDTO> listMismatches(@PathVariable Long id,
+                                                          @RequestParam(defaultValue = "0") long afterId,
+                                                          @RequestParam(defaultValue = "100") int limit) {
+        return reconciliationService.getMismatches(id, afterId, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.vastriantafyllou.bankapp.controller.api;
+
+import com.vastriantafyllou.bankapp.dto.StandingOrderInsertDTO;
+import com.vastriantafyllou.bankapp.dto.StandingOrderReadOnlyDTO;
+import com.vastriantafyllou.bankapp.service.IStandingOrderService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/standing-orders")
+@RequiredArgsConstructor
+public class StandingOrderRestController {
+
+    private final IStandingOrderService standingOrderService;
+
+    @GetMapping
+    public List<StandingOrderReadOnlyDTO> listStandingOrders(Authentication authentication) {
+        return standingOrderService.getStandingOrders(authentication.getName());
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public StandingOrderReadOnlyDTO createStandingOrder(@Valid @RequestBody StandingOrderInsertDTO dto, Authentication authentication) {
+        return standingOrderService.createStandingOrder(dto, authentication.getName());
+    }
+
+    @GetMapping("/{id}")
+    public StandingOrderReadOnlyDTO getStandingOrder(@PathVariable Long id, Authentication authentication) {
+        return standingOrderService.getStandingOrder(id, authentication.getName());
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void cancelStandingOrder(@PathVariable Long id, Authentication authentication) {
+        standingOrderService.cancelStandingOrder(id, authentication.getName());
+    }
+}
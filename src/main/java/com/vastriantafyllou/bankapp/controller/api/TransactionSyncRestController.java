@@ -0,0 +1,51 @@
+package com.vastriantafyllou.bankapp.controller.api;
+
+import com.vastriantafyllou.bankapp.dto.TransactionReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.TransactionSyncDTO;
+import com.vastriantafyllou.bankapp.mapper.Mapper;
+import com.vastriantafyllou.bankapp.model.AccountTransaction;
+import com.vastriantafyllou.bankapp.service.IAccountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/accounts")
+@RequiredArgsConstructor
+public class TransactionSyncRestController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final IAccountService accountService;
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+    }
+
+    @GetMapping("/{iban}/sync")
+    public TransactionSyncDTO sync(@PathVariable String iban,
+                                   @RequestParam(defaultValue = "0") long afterSeq,
+                                   @RequestParam(defaultValue = "500") int limit,
+                                   Authentication authentication,
+                                   WebRequest webRequest) {
+        String username = authentication.getName();
+        boolean admin = isAdmin(authentication);
+        long lastSeq = accountService.getLastSeq(iban, username, admin);
+        if (webRequest.checkNotModified("W/\"" + lastSeq + "\"")) {
+            return null;
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_LIMIT));
+        // One extra row tells whether more remain, so a final page of exactly pageSize rows is not reported as partial.
+        List<AccountTransaction> rows = accountService.getTransactionsAfterSeq(iban, afterSeq, pageSize + 1, username, admin);
+        boolean hasMore = rows.size() > pageSize;
+        List<TransactionReadOnlyDTO> transactions = (hasMore ? rows.subList(0, pageSize) : rows).stream()
+                .map(Mapper::mapToReadOnlyDTO)
+                .toList();
+        return new TransactionSyncDTO(iban, lastSeq, hasMore, transactions);
+    }
+}
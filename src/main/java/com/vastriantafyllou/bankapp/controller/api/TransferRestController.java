@@ -0,0 +1,48 @@
+package com.vastriantafyllou.bankapp.controller.api;
+
+import com.vastriantafyllou.bankapp.dto.MultiTransferDTO;
+import com.vastriantafyllou.bankapp.dto.PendingTransferReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.TransferRequestDTO;
+import com.vastriantafyllou.bankapp.dto.TransferResultDTO;
+import com.vastriantafyllou.bankapp.service.IAccountService;
+import com.vastriantafyllou.bankapp.service.IPendingTransferService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/transfers")
+@RequiredArgsConstructor
+public class TransferRestController {
+
+    private final IPendingTransferService pendingTransferService;
+    private final IAccountService accountService;
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+    }
+
+    @PostMapping
+    public ResponseEntity<PendingTransferReadOnlyDTO> submitTransfer(@Valid @RequestBody TransferRequestDTO dto,
+                                                                     Authentication authentication) {
+        PendingTransferReadOnlyDTO pending = pendingTransferService.submitTransfer(dto, authentication.getName(), isAdmin(authentication));
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(pending.getId()).toUri();
+        return ResponseEntity.accepted().location(location).body(pending);
+    }
+
+    @PostMapping("/postings")
+    public TransferResultDTO postTransfer(@Valid @RequestBody MultiTransferDTO dto, Authentication authentication) {
+        return new TransferResultDTO(accountService.transfer(dto.getPostings(), authentication.getName(), isAdmin(authentication)));
+    }
+
+    @GetMapping("/{id}")
+    public PendingTransferReadOnlyDTO getTransfer(@PathVariable Long id, Authentication authentication) {
+        return pendingTransferService.getPendingTransfer(id, authentication.getName(), isAdmin(authentication));
+    }
+}
@@ -0,0 +1,66 @@
+package com.vastriantafyllou.bankapp.core.concurrency;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive cap on concurrent requests using additive increase / multiplicative decrease.
+ * <p>
+ * Each completed request reports its latency. A request slower than the target, or one that was dropped, cuts
+ * the limit by {@code backoffRatio}; a fast request while the limit is at least half used grows it by about one
+ * per limit's worth of completions. Only requests that started after the previous cut can cut again, so a burst
+ * of slow completions from one congested period shrinks the limit once rather than once per request.
+ */
+public final class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+    private boolean decreased;
+    private long lastDecreaseNanos;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, long latencyTargetMillis, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Invalid limiter settings");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMillis);
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /** Takes a slot, or returns {@code false} at once if the limit is reached. */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /** Returns the slot taken by a request that ran from {@code startNanos} to {@code endNanos}. */
+    public synchronized void release(long startNanos, long endNanos, boolean dropped) {
+        int used = inFlight--;
+        if (dropped || endNanos - startNanos > latencyTargetNanos) {
+            if (!decreased || startNanos - lastDecreaseNanos > 0) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                decreased = true;
+                lastDecreaseNanos = endNanos;
+            }
+        } else if (used * 2 >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,32 @@
+package com.vastriantafyllou.bankapp.core.concurrency;
+
+import com.vastriantafyllou.bankapp.core.exception.AccountBusyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Classifies failures of background work that locks account rows. A lock wait that timed out, a {@code NOWAIT} lock
+ * that was already held, a deadlock victim or an {@link AccountBusyException} is contention and worth retrying
+ * later; anything else is a business failure that a retry would repeat.
+ */
+public final class LockFailures {
+
+    private LockFailures() {
+    }
+
+    public static boolean isLockFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PessimisticLockingFailureException || cause instanceof AccountBusyException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Exponential backoff with full jitter: a random delay up to {@code base * 2^(attempt-1)}, capped at {@code max}. */
+    public static long backoffMillis(int attempt, long base, long max) {
+        long ceiling = Math.min(max, base << Math.min(Math.max(attempt, 1) - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
@@ -0,0 +1,87 @@
+package com.vastriantafyllou.bankapp.core.concurrency;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of {@link ReentrantLock}s selected by key hash. Keys that share a stripe serialize with each other,
+ * which is harmless as long as the stripe count is well above the number of concurrently contended keys.
+ * <p>
+ * {@link #tryLock} takes the stripes of several keys in ascending stripe order and each stripe once, so callers
+ * locking overlapping key sets cannot deadlock on each other.
+ */
+public final class StripedLocks {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /** {@code stripeCount} is rounded up to a power of two; fair stripes hand over in arrival order. */
+    public StripedLocks(int stripeCount, boolean fair) {
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock(fair);
+        }
+        this.mask = size - 1;
+    }
+
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    int stripeOf(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Locks the stripes of all keys, waiting at most {@code timeout} in total. Returns the held stripes to pass to
+     * {@link #unlock}, or {@code null} if the wait ran out, in which case nothing is held.
+     */
+    public int[] tryLock(long timeout, TimeUnit unit, String... keys) throws InterruptedException {
+        int[] indexes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            indexes[i] = stripeOf(keys[i]);
+        }
+        Arrays.sort(indexes);
+        int count = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            if (i == 0 || indexes[i] != indexes[i - 1]) {
+                indexes[count++] = indexes[i];
+            }
+        }
+        int[] held = Arrays.copyOf(indexes, count);
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (int i = 0; i < held.length; i++) {
+            boolean locked;
+            try {
+                locked = stripes[held[i]].tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                unlock(Arrays.copyOf(held, i));
+                throw e;
+            }
+            if (!locked) {
+                unlock(Arrays.copyOf(held, i));
+                return null;
+            }
+        }
+        return held;
+    }
+
+    public void unlock(int[] held) {
+        for (int i = held.length - 1; i >= 0; i--) {
+            stripes[held[i]].unlock();
+        }
+    }
+
+    /** Threads currently waiting on any stripe; an estimate, as {@link ReentrantLock#getQueueLength()} is. */
+    public int queueLength() {
+        int total = 0;
+        for (ReentrantLock stripe : stripes) {
+            total += stripe.getQueueLength();
+        }
+        return total;
+    }
+}
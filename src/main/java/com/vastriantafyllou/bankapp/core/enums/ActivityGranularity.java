@@ -0,0 +1,16 @@
+package com.vastriantafyllou.bankapp.core.enums;
+
+import java.time.LocalDate;
+
+public enum ActivityGranularity {
+    DAY,
+    MONTH;
+
+    /** The first day of the bucket {@code day} falls in. */
+    public LocalDate bucketOf(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+}
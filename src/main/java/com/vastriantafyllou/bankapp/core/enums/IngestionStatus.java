@@ -0,0 +1,8 @@
+package com.vastriantafyllou.bankapp.core.enums;
+
+public enum IngestionStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
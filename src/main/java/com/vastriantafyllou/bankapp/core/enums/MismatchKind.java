@@ -0,0 +1,10 @@
+package com.vastriantafyllou.bankapp.core.enums;
+
+public enum MismatchKind {
+    // balance_after differs from the previous balance_after plus the signed amount
+    CHAIN_BREAK,
+    // seq does not follow the previous row's seq
+    SEQ_GAP,
+    // accounts.balance differs from the last balance_after
+    BALANCE_MISMATCH
+}
@@ -0,0 +1,8 @@
+package com.vastriantafyllou.bankapp.core.enums;
+
+public enum PendingTransferStatus {
+    PENDING,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
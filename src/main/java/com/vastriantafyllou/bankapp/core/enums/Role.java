@@ -1,6 +1,17 @@
 package com.vastriantafyllou.bankapp.core.enums;
 
+/** Each role owns a fixed bit of {@code app_users.role_mask}; never reuse or renumber a bit. */
 public enum Role {
-    USER,
-    ADMIN
+    USER(1),
+    ADMIN(1 << 1);
+
+    private final int bit;
+
+    Role(int bit) {
+        this.bit = bit;
+    }
+
+    public int bit() {
+        return bit;
+    }
 }
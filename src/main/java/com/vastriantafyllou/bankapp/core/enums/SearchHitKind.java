@@ -0,0 +1,6 @@
+package com.vastriantafyllou.bankapp.core.enums;
+
+public enum SearchHitKind {
+    USER,
+    ACCOUNT
+}
@@ -0,0 +1,20 @@
+package com.vastriantafyllou.bankapp.core.enums;
+
+import java.time.LocalDateTime;
+
+public enum StandingOrderFrequency {
+    ONCE,
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    /** The {@code n}-th occurrence counted from {@code first}, or {@code null} if there is none. */
+    public LocalDateTime occurrence(LocalDateTime first, int n) {
+        return switch (this) {
+            case ONCE -> n == 0 ? first : null;
+            case DAILY -> first.plusDays(n);
+            case WEEKLY -> first.plusWeeks(n);
+            case MONTHLY -> first.plusMonths(n);
+        };
+    }
+}
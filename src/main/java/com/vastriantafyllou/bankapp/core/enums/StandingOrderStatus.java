@@ -0,0 +1,7 @@
+package com.vastriantafyllou.bankapp.core.enums;
+
+public enum StandingOrderStatus {
+    ACTIVE,
+    COMPLETED,
+    CANCELLED
+}
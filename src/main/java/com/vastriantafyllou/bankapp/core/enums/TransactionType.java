@@ -4,5 +4,10 @@ public enum TransactionType {
     DEPOSIT,
     WITHDRAW,
     TRANSFER_IN,
-    TRANSFER_OUT
+    TRANSFER_OUT,
+    INTEREST;
+
+    public boolean isCredit() {
+        return this == DEPOSIT || this == TRANSFER_IN || this == INTEREST;
+    }
 }
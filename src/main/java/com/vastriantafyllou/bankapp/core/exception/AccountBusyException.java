@@ -0,0 +1,8 @@
+package com.vastriantafyllou.bankapp.core.exception;
+
+public class AccountBusyException extends ServiceUnavailableException {
+
+    public AccountBusyException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, retryAfterSeconds, cause);
+    }
+}
@@ -0,0 +1,57 @@
+package com.vastriantafyllou.bankapp.core.exception;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+@RestControllerAdvice(basePackages = "com.vastriantafyllou.bankapp.controller.api")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
+
+    @ExceptionHandler({AccountNotFoundException.class, StandingOrderNotFoundException.class, PendingTransferNotFoundException.class,
+            IngestionJobNotFoundException.class})
+    public ProblemDetail handleNotFound(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler({AccountAlreadyExistsException.class, AccountNumberAlreadyExistsException.class,
+            ReconciliationInProgressException.class})
+    public ProblemDetail handleConflict(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    @ExceptionHandler({NegativeAmountException.class, InsufficientBalanceException.class, InvalidTransferException.class,
+            InvalidDateRangeException.class, InvalidFilterException.class})
+    public ProblemDetail handleTransactionError(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleServiceUnavailable(ServiceUnavailableException e) {
+        return serviceUnavailable(e.getMessage(), e.getRetryAfterSeconds());
+    }
+
+    // Lock failures outside the retrying account service, e.g. while an admin upload holds the same rows.
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> handleLockFailure(PessimisticLockingFailureException e) {
+        return serviceUnavailable("Ο λογαριασμός είναι απασχολημένος αυτή τη στιγμή. Δοκιμάστε ξανά σε λίγο.", 1);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ProblemDetail handleGenericError(Exception e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, "Παρουσιάστηκε ένα απρόσμενο σφάλμα.");
+    }
+
+    private static ResponseEntity<ProblemDetail> serviceUnavailable(String message, long retryAfterSeconds) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, message));
+    }
+}
@@ -1,11 +1,18 @@
 package com.vastriantafyllou.bankapp.core.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.support.RequestContextUtils;
 import org.springframework.web.servlet.FlashMap;
 import org.springframework.web.servlet.FlashMapManager;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.Map;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -16,6 +23,12 @@ public class GlobalExceptionHandler {
         return "redirect:/accounts";
     }
 
+    @ExceptionHandler(InvalidFilterException.class)
+    public String handleInvalidFilter(InvalidFilterException e, HttpServletRequest request) {
+        addFlashError(request, e.getMessage());
+        return "redirect:/accounts";
+    }
+
     @ExceptionHandler({NegativeAmountException.class, InsufficientBalanceException.class, InvalidTransferException.class})
     public String handleTransactionError(RuntimeException e, HttpServletRequest request) {
         addFlashError(request, e.getMessage());
@@ -38,12 +51,27 @@ public class GlobalExceptionHandler {
         return "redirect:/profile";
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ModelAndView handleServiceUnavailable(ServiceUnavailableException e, HttpServletResponse response) {
+        return serviceUnavailable(response, e.getMessage(), e.getRetryAfterSeconds());
+    }
+
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    public ModelAndView handleLockFailure(PessimisticLockingFailureException e, HttpServletResponse response) {
+        return serviceUnavailable(response, "Ο λογαριασμός είναι απασχολημένος αυτή τη στιγμή. Δοκιμάστε ξανά σε λίγο.", 1);
+    }
+
     @ExceptionHandler(Exception.class)
     public String handleGenericError(Exception e, HttpServletRequest request) {
         addFlashError(request, "Παρουσιάστηκε ένα απρόσμενο σφάλμα.");
         return "redirect:/";
     }
 
+    private ModelAndView serviceUnavailable(HttpServletResponse response, String message, long retryAfterSeconds) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return new ModelAndView("error", Map.of("error", message), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     private void addFlashError(HttpServletRequest request, String message) {
         FlashMap flashMap = RequestContextUtils.getOutputFlashMap(request);
         flashMap.put("errorMessage", message);
@@ -0,0 +1,8 @@
+package com.vastriantafyllou.bankapp.core.exception;
+
+public class InvalidDateRangeException extends RuntimeException {
+
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.vastriantafyllou.bankapp.core.exception;
+
+public class InvalidFilterException extends RuntimeException {
+
+    public InvalidFilterException(String message) {
+        super(message);
+    }
+}
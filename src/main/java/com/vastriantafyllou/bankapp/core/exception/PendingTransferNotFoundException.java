@@ -0,0 +1,8 @@
+package com.vastriantafyllou.bankapp.core.exception;
+
+public class PendingTransferNotFoundException extends RuntimeException {
+
+    public PendingTransferNotFoundException(String message) {
+        super(message);
+    }
+}
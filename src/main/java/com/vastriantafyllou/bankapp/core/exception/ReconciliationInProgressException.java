@@ -0,0 +1,8 @@
+package com.vastriantafyllou.bankapp.core.exception;
+
+public class ReconciliationInProgressException extends RuntimeException {
+
+    public ReconciliationInProgressException(String message) {
+        super(message);
+    }
+}
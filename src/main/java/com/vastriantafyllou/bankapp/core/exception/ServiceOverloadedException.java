@@ -0,0 +1,8 @@
+package com.vastriantafyllou.bankapp.core.exception;
+
+public class ServiceOverloadedException extends ServiceUnavailableException {
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message, retryAfterSeconds, null);
+    }
+}
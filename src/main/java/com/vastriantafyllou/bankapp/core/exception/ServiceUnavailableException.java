@@ -0,0 +1,15 @@
+package com.vastriantafyllou.bankapp.core.exception;
+
+import lombok.Getter;
+
+/** A request that may succeed if repeated after {@code retryAfterSeconds}; answered with 503 and {@code Retry-After}. */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,8 @@
+package com.vastriantafyllou.bankapp.core.exception;
+
+public class StandingOrderNotFoundException extends RuntimeException {
+
+    public StandingOrderNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,125 @@
+package com.vastriantafyllou.bankapp.core.scheduling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel: level {@code L} has {@code wheelSize} buckets of {@code tickMillis * wheelSize^L}
+ * each, so adding and expiring an item costs O(levels) regardless of how many items are pending.
+ * Items never expire early and at most one tick late. Not thread-safe.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        levels.add(new Level<>(1, wheelSize));
+    }
+
+    /**
+     * Schedules {@code item} at {@code deadlineMillis}.
+     * Returns {@code false} without scheduling if the deadline has already passed.
+     */
+    public boolean add(long deadlineMillis, T item) {
+        long deadlineTick = Math.ceilDiv(deadlineMillis, tickMillis);
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+        place(new Entry<>(deadlineMillis, deadlineTick, item));
+        size++;
+        return true;
+    }
+
+    /** Advances the clock to {@code nowMillis} and returns the items that expired, in deadline order. */
+    public List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<Entry<T>> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int i = levels.size() - 1; i > 0; i--) {
+                Level<T> level = levels.get(i);
+                if (currentTick % level.unit == 0) {
+                    for (Entry<T> entry : level.drain(currentTick / level.unit)) {
+                        if (entry.deadlineTick <= currentTick) {
+                            expired.add(entry);
+                        } else {
+                            place(entry);
+                        }
+                    }
+                }
+            }
+            for (Entry<T> entry : levels.get(0).drain(currentTick)) {
+                expired.add(entry);
+            }
+        }
+        size -= expired.size();
+        expired.sort(Comparator.comparingLong(Entry::deadlineMillis));
+        return expired.stream().map(Entry::item).toList();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long currentTimeMillis() {
+        return currentTick * tickMillis;
+    }
+
+    private void place(Entry<T> entry) {
+        for (int i = 0; ; i++) {
+            if (i == levels.size()) {
+                long unit = Math.multiplyExact(levels.get(i - 1).unit, wheelSize);
+                levels.add(new Level<>(unit, wheelSize));
+            }
+            Level<T> level = levels.get(i);
+            long slot = entry.deadlineTick / level.unit;
+            if (slot - currentTick / level.unit < wheelSize) {
+                level.bucket(slot).add(entry);
+                return;
+            }
+        }
+    }
+
+    private record Entry<T>(long deadlineMillis, long deadlineTick, T item) {
+    }
+
+    private static final class Level<T> {
+
+        private final long unit;
+        private final List<List<Entry<T>>> buckets;
+
+        private Level(long unit, int wheelSize) {
+            this.unit = unit;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+
+        private List<Entry<T>> bucket(long slot) {
+            return buckets.get((int) (slot % buckets.size()));
+        }
+
+        private List<Entry<T>> drain(long slot) {
+            List<Entry<T>> bucket = bucket(slot);
+            if (bucket.isEmpty()) {
+                return List.of();
+            }
+            List<Entry<T>> drained = new ArrayList<>(bucket);
+            bucket.clear();
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.vastriantafyllou.bankapp.core.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix and substring index over short text fields. Each document gets an int slot; every field is
+ * lower-cased, prefixed with a start marker and cut into trigrams, and each trigram keeps a sorted {@code int[]}
+ * posting list of the slots containing it. The marker makes prefixes of two or more characters a single trigram
+ * lookup, and a leading bigram per field covers one-character prefixes.
+ * <p>
+ * Queries of three or more characters match anywhere in a field, by intersecting the posting lists of their
+ * trigrams and checking the few candidates left; shorter queries match field prefixes only. Prefix matches are
+ * returned before other substring matches.
+ * <p>
+ * Updates and removals leave dead slots behind, which are compacted away once they outnumber the live ones.
+ * Reads share a read lock and writes are exclusive.
+ */
+public final class NgramIndex<T> {
+
+    private static final char START = '\u0002';
+    private static final long BIGRAM = 1L << 48;
+    private static final int MIN_COMPACT_SLOTS = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> slotByKey = new HashMap<>();
+    private Map<Long, Postings> postings = new HashMap<>();
+    private String[] keys = new String[64];
+    private Object[] values = new Object[64];
+    private String[][] fields = new String[64][];
+    private int slots;
+
+    /** Adds the document under {@code key}, replacing any previous one; {@code null} fields are skipped. */
+    public void put(String key, T value, String... texts) {
+        String[] normalized = Arrays.stream(texts)
+                .filter(text -> text != null && !text.isBlank())
+                .map(NgramIndex::normalize)
+                .toArray(String[]::new);
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            if (slots == keys.length) {
+                grow();
+            }
+            int slot = slots++;
+            keys[slot] = key;
+            values[slot] = value;
+            fields[slot] = normalized;
+            slotByKey.put(key, slot);
+            index(postings, slot, normalized);
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(String key) {
+        lock.writeLock().lock();
+        try {
+            boolean removed = removeLocked(key);
+            compactIfSparse();
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Up to {@code limit} documents matching {@code query}, prefix matches first, each group in insertion order. */
+    @SuppressWarnings("unchecked")
+    public List<T> search(String query, int limit) {
+        String q = query == null ? "" : normalize(query);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        boolean prefixOnly = q.length() < 3;
+        long[] grams = prefixOnly
+                ? new long[]{q.length() == 1 ? bigram(START, q.charAt(0)) : trigram(START, q.charAt(0), q.charAt(1))}
+                : distinctTrigrams(q);
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = intersect(grams);
+            List<T> prefixHits = new ArrayList<>();
+            List<T> substringHits = new ArrayList<>();
+            for (int slot : candidates) {
+                if (prefixHits.size() >= limit) {
+                    break;
+                }
+                String[] texts = fields[slot];
+                if (texts == null) {
+                    continue;
+                }
+                boolean prefix = false;
+                boolean substring = false;
+                for (String text : texts) {
+                    if (text.startsWith(q)) {
+                        prefix = true;
+                        break;
+                    }
+                    substring |= !prefixOnly && text.contains(q);
+                }
+                if (prefix) {
+                    prefixHits.add((T) values[slot]);
+                } else if (substring && substringHits.size() < limit) {
+                    substringHits.add((T) values[slot]);
+                }
+            }
+            for (int i = 0; i < substringHits.size() && prefixHits.size() < limit; i++) {
+                prefixHits.add(substringHits.get(i));
+            }
+            return prefixHits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] intersect(long[] grams) {
+        Postings[] lists = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+        int[] result = Arrays.copyOf(lists[0].slots, lists[0].size);
+        int length = result.length;
+        for (int i = 1; i < lists.length && length > 0; i++) {
+            Postings other = lists[i];
+            int kept = 0;
+            int j = 0;
+            for (int k = 0; k < length && j < other.size; k++) {
+                int slot = result[k];
+                while (j < other.size && other.slots[j] < slot) {
+                    j++;
+                }
+                if (j < other.size && other.slots[j] == slot) {
+                    result[kept++] = slot;
+                }
+            }
+            length = kept;
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    private boolean removeLocked(String key) {
+        Integer slot = slotByKey.remove(key);
+        if (slot == null) {
+            return false;
+        }
+        keys[slot] = null;
+        values[slot] = null;
+        fields[slot] = null;
+        return true;
+    }
+
+    private void compactIfSparse() {
+        if (slots >= MIN_COMPACT_SLOTS && slotByKey.size() * 2 < slots) {
+            compact();
+        }
+    }
+
+    // Renumbers the live documents densely and rebuilds the posting lists without the dead slots.
+    private void compact() {
+        int live = 0;
+        Map<Long, Postings> rebuilt = new HashMap<>();
+        for (int slot = 0; slot < slots; slot++) {
+            if (keys[slot] == null) {
+                continue;
+            }
+            keys[live] = keys[slot];
+            values[live] = values[slot];
+            fields[live] = fields[slot];
+            slotByKey.put(keys[live], live);
+            index(rebuilt, live, fields[live]);
+            live++;
+        }
+        Arrays.fill(keys, live, slots, null);
+        Arrays.fill(values, live, slots, null);
+        Arrays.fill(fields, live, slots, null);
+        slots = live;
+        postings = rebuilt;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+        fields = Arrays.copyOf(fields, capacity);
+    }
+
+    // Slots are assigned in increasing order, so appending keeps every posting list sorted.
+    private static void index(Map<Long, Postings> target, int slot, String[] texts) {
+        Set<Long> grams = new HashSet<>();
+        for (String text : texts) {
+            grams.add(bigram(START, text.charAt(0)));
+            String marked = START + text;
+            for (int i = 0; i + 3 <= marked.length(); i++) {
+                grams.add(trigram(marked.charAt(i), marked.charAt(i + 1), marked.charAt(i + 2)));
+            }
+        }
+        for (Long gram : grams) {
+            target.computeIfAbsent(gram, g -> new Postings()).add(slot);
+        }
+    }
+
+    private static long[] distinctTrigrams(String q) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= q.length(); i++) {
+            grams.add(trigram(q.charAt(i), q.charAt(i + 1), q.charAt(i + 2)));
+        }
+        return grams.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long trigram(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    private static long bigram(char a, char b) {
+        return BIGRAM | ((long) a << 16) | b;
+    }
+
+    private static String normalize(String text) {
+        return text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Postings {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.vastriantafyllou.bankapp.core.series;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One-pass M4 downsampling of an ordered series whose length is known up front. The points are split into
+ * {@code maxPoints / 4} equal-count buckets and each bucket keeps its first, minimum, maximum and last point, in their
+ * original order, so a line drawn through the result has the same extremes and the same jumps as one drawn through
+ * every point. Memory is the output plus one bucket.
+ */
+public final class MinMaxDownsampler {
+
+    public record Point(LocalDateTime time, long value) {
+    }
+
+    private final long total;
+    private final int buckets;
+    private final List<Point> output;
+
+    private long seen;
+    private long bucket = -1;
+    private long firstIndex;
+    private long minIndex;
+    private long maxIndex;
+    private long lastIndex;
+    private Point first;
+    private Point min;
+    private Point max;
+    private Point last;
+
+    /** {@code total} is the expected number of points; extra points fall into the last bucket. */
+    public MinMaxDownsampler(long total, int maxPoints) {
+        this.total = Math.max(1, total);
+        this.buckets = (int) Math.max(1, Math.min(maxPoints / 4, this.total));
+        this.output = new ArrayList<>(buckets * 4);
+    }
+
+    public void add(LocalDateTime time, long value) {
+        long index = seen++;
+        long target = Math.min(buckets - 1, index * buckets / total);
+        Point point = new Point(time, value);
+        if (target != bucket) {
+            flush();
+            bucket = target;
+            first = min = max = point;
+            firstIndex = minIndex = maxIndex = index;
+        } else if (value < min.value()) {
+            min = point;
+            minIndex = index;
+        } else if (value > max.value()) {
+            max = point;
+            maxIndex = index;
+        }
+        last = point;
+        lastIndex = index;
+    }
+
+    public List<Point> finish() {
+        flush();
+        bucket = -1;
+        return output;
+    }
+
+    private void flush() {
+        if (bucket < 0) {
+            return;
+        }
+        output.add(first);
+        long low = Math.min(minIndex, maxIndex);
+        long high = Math.max(minIndex, maxIndex);
+        if (low != firstIndex) {
+            output.add(low == minIndex ? min : max);
+        }
+        if (high != low && high != firstIndex) {
+            output.add(high == maxIndex ? max : min);
+        }
+        if (lastIndex != high && lastIndex != firstIndex) {
+            output.add(last);
+        }
+    }
+}
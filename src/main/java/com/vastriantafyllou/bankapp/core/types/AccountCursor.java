@@ -0,0 +1,33 @@
+package com.vastriantafyllou.bankapp.core.types;
+
+import com.vastriantafyllou.bankapp.core.enums.AccountSortField;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in an admin account listing: the sort key of the last row returned, as text, and its id as the
+ * tie-breaker. The sort field and direction are part of the token so a cursor is not reused with a different order.
+ */
+public record AccountCursor(AccountSortField field, boolean descending, String value, long id) {
+
+    public String encode() {
+        String raw = field.name() + "|" + (descending ? "D" : "A") + "|" + id + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Returns {@code null} if {@code token} was not produced by {@link #encode()}. */
+    public static AccountCursor tryParse(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || !(parts[1].equals("A") || parts[1].equals("D"))) {
+                return null;
+            }
+            return new AccountCursor(AccountSortField.valueOf(parts[0]), parts[1].equals("D"), parts[3],
+                    Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.vastriantafyllou.bankapp.core.types;
+
+/**
+ * IBAN of the form {@code CC} + 25 digits packed into two longs.
+ * <p>
+ * {@code high} holds the country code (base-26) above the first 7 digits, {@code low} holds the remaining 18 digits.
+ * The big-endian byte form sorts the same way as the textual IBAN, so it can back unique indexes directly.
+ */
+public final class Iban implements Comparable<Iban> {
+
+    public static final int LENGTH = 27;
+    public static final int BYTES = 16;
+
+    private static final int HEAD_DIGITS = 7;
+    private static final int TAIL_DIGITS = 18;
+    private static final int COUNTRY_SHIFT = 24;
+    private static final long HEAD_MASK = (1L << COUNTRY_SHIFT) - 1;
+    private static final long HEAD_LIMIT = 10_000_000L;
+    private static final long TAIL_LIMIT = 1_000_000_000_000_000_000L;
+
+    private final long high;
+    private final long low;
+
+    private Iban(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    public static Iban of(long high, long low) {
+        long country = high >>> COUNTRY_SHIFT;
+        if (country >= 26 * 26 || (high & HEAD_MASK) >= HEAD_LIMIT || low < 0 || low >= TAIL_LIMIT) {
+            throw new IllegalArgumentException("Invalid IBAN key");
+        }
+        return new Iban(high, low);
+    }
+
+    public static Iban parse(CharSequence value) {
+        if (!isValid(value)) {
+            throw new IllegalArgumentException("Invalid IBAN: " + value);
+        }
+        return new Iban(highOf(value), lowOf(value));
+    }
+
+    /** Returns {@code null} instead of throwing, for lookups on user input. */
+    public static Iban tryParse(CharSequence value) {
+        return isValid(value) ? new Iban(highOf(value), lowOf(value)) : null;
+    }
+
+    public static boolean isValid(CharSequence value) {
+        if (value == null || value.length() != LENGTH) {
+            return false;
+        }
+        if (!isUpperLetter(value.charAt(0)) || !isUpperLetter(value.charAt(1))) {
+            return false;
+        }
+        for (int i = 2; i < LENGTH; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static Iban fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != BYTES) {
+            throw new IllegalArgumentException("IBAN key must be " + BYTES + " bytes");
+        }
+        return of(readLong(bytes, 0), readLong(bytes, 8));
+    }
+
+    public long high() {
+        return high;
+    }
+
+    public long low() {
+        return low;
+    }
+
+    public String country() {
+        long country = high >>> COUNTRY_SHIFT;
+        return new String(new char[]{(char) ('A' + country / 26), (char) ('A' + country % 26)});
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[BYTES];
+        writeLong(bytes, 0, high);
+        writeLong(bytes, 8, low);
+        return bytes;
+    }
+
+    /** Appends the textual form without intermediate allocations. */
+    public StringBuilder appendTo(StringBuilder sb) {
+        long country = high >>> COUNTRY_SHIFT;
+        sb.append((char) ('A' + country / 26)).append((char) ('A' + country % 26));
+        appendPadded(sb, high & HEAD_MASK, HEAD_DIGITS);
+        appendPadded(sb, low, TAIL_DIGITS);
+        return sb;
+    }
+
+    /** Compares against a textual IBAN without parsing it into a new object. */
+    public boolean matches(CharSequence value) {
+        return isValid(value) && highOf(value) == high && lowOf(value) == low;
+    }
+
+    @Override
+    public int compareTo(Iban other) {
+        int cmp = Long.compare(high, other.high);
+        return cmp != 0 ? cmp : Long.compare(low, other.low);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Iban iban)) return false;
+        return high == iban.high && low == iban.low;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = low * 0x9E3779B97F4A7C15L ^ high;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(LENGTH)).toString();
+    }
+
+    private static boolean isUpperLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static long highOf(CharSequence value) {
+        long country = (value.charAt(0) - 'A') * 26L + (value.charAt(1) - 'A');
+        return (country << COUNTRY_SHIFT) | digits(value, 2, 2 + HEAD_DIGITS);
+    }
+
+    private static long lowOf(CharSequence value) {
+        return digits(value, 2 + HEAD_DIGITS, LENGTH);
+    }
+
+    private static long digits(CharSequence value, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            result = result * 10 + (value.charAt(i) - '0');
+        }
+        return result;
+    }
+
+    private static void appendPadded(StringBuilder sb, long value, int width) {
+        long divisor = 1;
+        for (int i = 1; i < width; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            sb.append((char) ('0' + (value / divisor) % 10));
+        }
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long result = 0;
+        for (int i = 0; i < 8; i++) {
+            result = (result << 8) | (bytes[offset + i] & 0xFFL);
+        }
+        return result;
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+}
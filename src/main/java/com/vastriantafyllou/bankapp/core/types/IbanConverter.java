@@ -0,0 +1,18 @@
+package com.vastriantafyllou.bankapp.core.types;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class IbanConverter implements AttributeConverter<Iban, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(Iban iban) {
+        return iban == null ? null : iban.toBytes();
+    }
+
+    @Override
+    public Iban convertToEntityAttribute(byte[] bytes) {
+        return bytes == null ? null : Iban.fromBytes(bytes);
+    }
+}
@@ -0,0 +1,158 @@
+package com.vastriantafyllou.bankapp.core.types;
+
+import java.math.BigDecimal;
+
+/**
+ * Amount in euro cents backed by a single {@code long}.
+ * <p>
+ * Arithmetic is overflow-checked and throws {@link ArithmeticException} rather than wrapping. Parsing and
+ * {@link #appendTo(StringBuilder)} work on characters directly, so the per-row paths of the batch jobs handle
+ * amounts without creating {@link BigDecimal}s; {@link #of(BigDecimal)}/{@link #toBigDecimal()} convert at the
+ * JPA and JSON boundaries, which keep {@code DECIMAL(19,2)}/{@code BigDecimal}.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int SCALE = 2;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /** Exact conversion; throws {@link ArithmeticException} for more than two decimals or out-of-range values. */
+    public static Money of(BigDecimal value) {
+        return ofCents(value.setScale(SCALE).unscaledValue().longValueExact());
+    }
+
+    public static Money parse(CharSequence text) {
+        Money money = tryParse(text);
+        if (money == null) {
+            throw new IllegalArgumentException("Invalid amount: " + text);
+        }
+        return money;
+    }
+
+    /** Parses {@code [+-]digits[.d[d]]}; returns {@code null} for anything else, including overflow. */
+    public static Money tryParse(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        try {
+            long whole = 0;
+            int wholeDigits = 0;
+            for (; i < length && isDigit(text.charAt(i)); i++, wholeDigits++) {
+                whole = Math.addExact(Math.multiplyExact(whole, 10), text.charAt(i) - '0');
+            }
+            long fraction = 0;
+            int fractionDigits = 0;
+            if (i < length && text.charAt(i) == '.') {
+                for (i++; i < length && isDigit(text.charAt(i)); i++, fractionDigits++) {
+                    if (fractionDigits == SCALE) {
+                        return null;
+                    }
+                    fraction = fraction * 10 + (text.charAt(i) - '0');
+                }
+            }
+            if (i != length || (wholeDigits == 0 && fractionDigits == 0)) {
+                return null;
+            }
+            if (fractionDigits == 1) {
+                fraction *= 10;
+            }
+            long cents = Math.addExact(Math.multiplyExact(whole, 100), fraction);
+            return ofCents(negative ? -cents : cents);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    public long cents() {
+        return cents;
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return cents > other.cents;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    /** Appends the plain two-decimal form, e.g. {@code -12.05}, without intermediate strings. */
+    public StringBuilder appendTo(StringBuilder sb) {
+        // Negative remainders avoid overflow on Long.MIN_VALUE.
+        long negated = cents > 0 ? -cents : cents;
+        if (cents < 0) {
+            sb.append('-');
+        }
+        long whole = -(negated / 100);
+        int fraction = (int) -(negated % 100);
+        sb.append(whole).append('.');
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        return sb.append(fraction);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && cents == other.cents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(24)).toString();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
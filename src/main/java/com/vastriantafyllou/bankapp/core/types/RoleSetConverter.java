@@ -0,0 +1,43 @@
+package com.vastriantafyllou.bankapp.core.types;
+
+import com.vastriantafyllou.bankapp.core.enums.Role;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/** Maps a user's roles onto the {@code role_mask} column, one {@link Role#bit()} per role. */
+@Converter
+public class RoleSetConverter implements AttributeConverter<Set<Role>, Integer> {
+
+    private static final Role[] ROLES = Role.values();
+
+    @Override
+    public Integer convertToDatabaseColumn(Set<Role> attribute) {
+        return attribute == null ? 0 : toMask(attribute);
+    }
+
+    @Override
+    public Set<Role> convertToEntityAttribute(Integer dbData) {
+        return fromMask(dbData == null ? 0 : dbData);
+    }
+
+    public static int toMask(Set<Role> roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= role.bit();
+        }
+        return mask;
+    }
+
+    public static EnumSet<Role> fromMask(int mask) {
+        EnumSet<Role> roles = EnumSet.noneOf(Role.class);
+        for (Role role : ROLES) {
+            if ((mask & role.bit()) != 0) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
+}
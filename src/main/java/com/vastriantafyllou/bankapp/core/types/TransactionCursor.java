@@ -0,0 +1,33 @@
+package com.vastriantafyllou.bankapp.core.types;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in a {@code (createdAt DESC, id DESC)} scan of an account's ledger: the next page starts strictly
+ * after this row. Clients receive it as an opaque URL-safe token.
+ */
+public record TransactionCursor(LocalDateTime createdAt, long id) {
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /** Returns {@code null} if {@code token} was not produced by {@link #encode()}. */
+    public static TransactionCursor tryParse(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                return null;
+            }
+            return new TransactionCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+}
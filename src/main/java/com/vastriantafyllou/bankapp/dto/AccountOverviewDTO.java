@@ -0,0 +1,18 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/** An account with its newest transactions, newest first. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountOverviewDTO {
+    private AccountReadOnlyDTO account;
+    private List<TransactionReadOnlyDTO> recentTransactions;
+}
@@ -16,4 +16,5 @@ public class AccountReadOnlyDTO {
     private String iban;
     private String accountNumber;
     private BigDecimal balance;
+    private long version;
 }
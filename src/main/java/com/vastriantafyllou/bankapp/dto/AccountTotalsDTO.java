@@ -0,0 +1,18 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/** Number of accounts and the sum of their balances, for the admin dashboard. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTotalsDTO {
+    private Long accountCount;
+    private BigDecimal totalBalance;
+}
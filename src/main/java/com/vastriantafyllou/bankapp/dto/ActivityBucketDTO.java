@@ -0,0 +1,21 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityBucketDTO {
+    private LocalDate period;
+    private TransactionType type;
+    private Long count;
+    private BigDecimal total;
+}
@@ -0,0 +1,17 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminAccountPageDTO {
+    private String nextCursor;
+    private List<AdminAccountRowDTO> accounts;
+}
@@ -0,0 +1,21 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/** Scalar projection of an account and its owner's username, read in one query. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminAccountRowDTO {
+    private Long id;
+    private String iban;
+    private String accountNumber;
+    private BigDecimal balance;
+    private String ownerUsername;
+}
@@ -0,0 +1,18 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceDTO {
+    private String iban;
+    private BigDecimal balance;
+    private long version;
+}
@@ -0,0 +1,22 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** Downsampled balance series, as parallel columns to keep the payload small. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceHistoryDTO {
+    private String iban;
+    private long sourcePoints;
+    private List<LocalDateTime> times;
+    private List<BigDecimal> balances;
+}
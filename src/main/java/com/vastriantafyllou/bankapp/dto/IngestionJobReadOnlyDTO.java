@@ -0,0 +1,27 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import com.vastriantafyllou.bankapp.core.enums.IngestionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestionJobReadOnlyDTO {
+    private Long id;
+    private String fileName;
+    private IngestionStatus status;
+    private long linesProcessed;
+    private long acceptedCount;
+    private long rejectedCount;
+    private BigDecimal acceptedAmount;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
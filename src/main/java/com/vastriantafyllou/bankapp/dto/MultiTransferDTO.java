@@ -0,0 +1,22 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiTransferDTO {
+
+    @NotNull(message = "Οι εγγραφές είναι υποχρεωτικές")
+    @Size(min = 2, max = 100, message = "Μια μεταφορά πρέπει να έχει από 2 έως 100 εγγραφές")
+    private List<@Valid PostingDTO> postings;
+}
@@ -0,0 +1,25 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import com.vastriantafyllou.bankapp.core.enums.PendingTransferStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingTransferReadOnlyDTO {
+    private Long id;
+    private String fromIban;
+    private String toIban;
+    private BigDecimal amount;
+    private PendingTransferStatus status;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,24 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/** One leg of a multi-leg transfer: a negative amount debits the account, a positive one credits it. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostingDTO {
+
+    @NotBlank(message = "Το IBAN είναι υποχρεωτικό")
+    private String iban;
+
+    @NotNull(message = "Το ποσό είναι υποχρεωτικό")
+    private BigDecimal amount;
+}
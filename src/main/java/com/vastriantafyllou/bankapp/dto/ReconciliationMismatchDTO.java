@@ -0,0 +1,23 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import com.vastriantafyllou.bankapp.core.enums.MismatchKind;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationMismatchDTO {
+    private Long id;
+    private String iban;
+    private MismatchKind kind;
+    private Long transactionId;
+    private Long seq;
+    private BigDecimal expected;
+    private BigDecimal actual;
+}
@@ -0,0 +1,24 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import com.vastriantafyllou.bankapp.core.enums.ReconciliationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationRunDTO {
+    private Long id;
+    private ReconciliationStatus status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long accountsChecked;
+    private long transactionsChecked;
+    private long mismatchCount;
+    private String error;
+}
@@ -0,0 +1,19 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import com.vastriantafyllou.bankapp.core.enums.SearchHitKind;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** A user (label: username) or an account (label: IBAN), with a short description for the result list. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDTO {
+    private SearchHitKind kind;
+    private Long id;
+    private String label;
+    private String detail;
+}
@@ -0,0 +1,22 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SplitTransferDTO {
+
+    @NotNull(message = "Οι παραλήπτες είναι υποχρεωτικοί")
+    @Size(min = 1, max = 99, message = "Μια μεταφορά πρέπει να έχει από 1 έως 99 παραλήπτες")
+    private List<@Valid TransferDTO> credits;
+}
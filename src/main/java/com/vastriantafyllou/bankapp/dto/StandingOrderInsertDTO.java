@@ -0,0 +1,39 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import com.vastriantafyllou.bankapp.core.enums.StandingOrderFrequency;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StandingOrderInsertDTO {
+
+    @NotBlank(message = "Το IBAN αποστολέα είναι υποχρεωτικό")
+    private String fromIban;
+
+    @NotBlank(message = "Το IBAN παραλήπτη είναι υποχρεωτικό")
+    private String toIban;
+
+    @NotNull(message = "Το ποσό είναι υποχρεωτικό")
+    @DecimalMin(value = "0.01", message = "Το ποσό πρέπει να είναι μεγαλύτερο από 0")
+    private BigDecimal amount;
+
+    @NotNull(message = "Η συχνότητα είναι υποχρεωτική")
+    private StandingOrderFrequency frequency;
+
+    @NotNull(message = "Η ημερομηνία πρώτης εκτέλεσης είναι υποχρεωτική")
+    private LocalDateTime firstExecutionAt;
+
+    private LocalDate endDate;
+}
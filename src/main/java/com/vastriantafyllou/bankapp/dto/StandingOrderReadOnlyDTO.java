@@ -0,0 +1,30 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import com.vastriantafyllou.bankapp.core.enums.StandingOrderFrequency;
+import com.vastriantafyllou.bankapp.core.enums.StandingOrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StandingOrderReadOnlyDTO {
+    private Long id;
+    private String fromIban;
+    private String toIban;
+    private BigDecimal amount;
+    private StandingOrderFrequency frequency;
+    private StandingOrderStatus status;
+    private LocalDateTime nextExecutionAt;
+    private LocalDate endDate;
+    private LocalDateTime lastExecutedAt;
+    private String lastError;
+    private int failureCount;
+}
@@ -0,0 +1,27 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** Optional history filters; {@code null} fields are not applied. Both dates are inclusive. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionFilterDTO {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+    private TransactionType type;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private String counterpartyIban;
+}
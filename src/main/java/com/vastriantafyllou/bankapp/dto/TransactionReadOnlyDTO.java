@@ -0,0 +1,23 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionReadOnlyDTO {
+    private Long seq;
+    private TransactionType type;
+    private BigDecimal amount;
+    private BigDecimal balanceAfter;
+    private LocalDateTime createdAt;
+    private String counterpartyIban;
+}
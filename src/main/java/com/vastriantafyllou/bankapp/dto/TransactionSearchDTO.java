@@ -0,0 +1,18 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionSearchDTO {
+    private String iban;
+    private String nextCursor;
+    private List<TransactionReadOnlyDTO> transactions;
+}
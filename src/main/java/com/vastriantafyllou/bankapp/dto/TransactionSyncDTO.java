@@ -0,0 +1,19 @@
+package com.vastriantafyllou.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionSyncDTO {
+    private String iban;
+    private long lastSeq;
+    private boolean hasMore;
+    private List<TransactionReadOnlyDTO> transactions;
+}
@@ -0,0 +1,4 @@
+package com.vastriantafyllou.bankapp.event;
+
+public record AccountCreatedEvent(Long accountId, String iban, String accountNumber, String ownerUsername) {
+}
@@ -0,0 +1,4 @@
+package com.vastriantafyllou.bankapp.event;
+
+public record AccountDeletedEvent(String iban) {
+}
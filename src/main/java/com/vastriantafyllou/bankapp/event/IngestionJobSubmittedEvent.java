@@ -0,0 +1,5 @@
+package com.vastriantafyllou.bankapp.event;
+
+/** Published when a payment file job is created or resumed; the ingester starts it after commit. */
+public record IngestionJobSubmittedEvent(long jobId) {
+}
@@ -0,0 +1,32 @@
+package com.vastriantafyllou.bankapp.event;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.model.AccountTransaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Published for every ledger row written; listeners that must only see committed data use
+ * {@code @TransactionalEventListener}, which defers delivery to after commit.
+ */
+public record LedgerEvent(String iban,
+                          long seq,
+                          TransactionType type,
+                          BigDecimal amount,
+                          BigDecimal balanceAfter,
+                          LocalDateTime createdAt,
+                          String counterpartyIban) {
+
+    public static LedgerEvent of(AccountTransaction transaction) {
+        return new LedgerEvent(
+                transaction.getAccount().getIban(),
+                transaction.getSeq(),
+                transaction.getType(),
+                transaction.getAmount(),
+                transaction.getBalanceAfter(),
+                transaction.getCreatedAt(),
+                transaction.getCounterpartyIban() == null ? null : transaction.getCounterpartyIban().toString()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package com.vastriantafyllou.bankapp.event;
+
+import java.time.LocalDateTime;
+
+/** Published when a standing order is created or its next execution moves, so the scheduler can pick it up. */
+public record StandingOrderScheduledEvent(long id, String fromIban, LocalDateTime nextExecutionAt) {
+}
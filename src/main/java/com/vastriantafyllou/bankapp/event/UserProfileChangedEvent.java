@@ -0,0 +1,4 @@
+package com.vastriantafyllou.bankapp.event;
+
+public record UserProfileChangedEvent(Long userId, String username, String firstName, String lastName, String email) {
+}
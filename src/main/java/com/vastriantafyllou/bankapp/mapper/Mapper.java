@@ -2,7 +2,19 @@ package com.vastriantafyllou.bankapp.mapper;
 
 import com.vastriantafyllou.bankapp.dto.AccountInsertDTO;
 import com.vastriantafyllou.bankapp.dto.AccountReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.IngestionJobReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.PendingTransferReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.ReconciliationMismatchDTO;
+import com.vastriantafyllou.bankapp.dto.ReconciliationRunDTO;
+import com.vastriantafyllou.bankapp.dto.StandingOrderReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.TransactionReadOnlyDTO;
 import com.vastriantafyllou.bankapp.model.Account;
+import com.vastriantafyllou.bankapp.model.AccountTransaction;
+import com.vastriantafyllou.bankapp.model.IngestionJob;
+import com.vastriantafyllou.bankapp.model.PendingTransfer;
+import com.vastriantafyllou.bankapp.model.ReconciliationMismatch;
+import com.vastriantafyllou.bankapp.model.ReconciliationRun;
+import com.vastriantafyllou.bankapp.model.StandingOrder;
 
 public class Mapper {
 
@@ -18,6 +30,87 @@ public class Mapper {
     }
 
     public static AccountReadOnlyDTO mapToReadOnlyDTO(Account account) {
-        return new AccountReadOnlyDTO(account.getId(), account.getIban(), account.getAccountNumber(), account.getBalance());
+        return new AccountReadOnlyDTO(account.getId(), account.getIban(), account.getAccountNumber(), account.getBalance(),
+                account.getLastSeq() == null ? 0 : account.getLastSeq());
+    }
+
+    public static TransactionReadOnlyDTO mapToReadOnlyDTO(AccountTransaction transaction) {
+        return new TransactionReadOnlyDTO(
+                transaction.getSeq(),
+                transaction.getType(),
+                transaction.getAmount(),
+                transaction.getBalanceAfter(),
+                transaction.getCreatedAt(),
+                transaction.getCounterpartyIban() == null ? null : transaction.getCounterpartyIban().toString()
+        );
+    }
+
+    public static StandingOrderReadOnlyDTO mapToReadOnlyDTO(StandingOrder order) {
+        return new StandingOrderReadOnlyDTO(
+                order.getId(),
+                order.getFromIban(),
+                order.getToIban(),
+                order.getAmount(),
+                order.getFrequency(),
+                order.getStatus(),
+                order.getNextExecutionAt(),
+                order.getEndDate(),
+                order.getLastExecutedAt(),
+                order.getLastError(),
+                order.getFailureCount() == null ? 0 : order.getFailureCount()
+        );
+    }
+
+    public static PendingTransferReadOnlyDTO mapToReadOnlyDTO(PendingTransfer transfer) {
+        return new PendingTransferReadOnlyDTO(
+                transfer.getId(),
+                transfer.getFromIban(),
+                transfer.getToIban(),
+                transfer.getAmount(),
+                transfer.getStatus(),
+                transfer.getError(),
+                transfer.getCreatedAt(),
+                transfer.getCompletedAt()
+        );
+    }
+
+    public static IngestionJobReadOnlyDTO mapToReadOnlyDTO(IngestionJob job) {
+        return new IngestionJobReadOnlyDTO(
+                job.getId(),
+                job.getFileName(),
+                job.getStatus(),
+                job.getLinesProcessed(),
+                job.getAcceptedCount(),
+                job.getRejectedCount(),
+                job.getAcceptedAmount().toBigDecimal(),
+                job.getError(),
+                job.getCreatedAt(),
+                job.getUpdatedAt()
+        );
+    }
+
+    public static ReconciliationRunDTO mapToReadOnlyDTO(ReconciliationRun run) {
+        return new ReconciliationRunDTO(
+                run.getId(),
+                run.getStatus(),
+                run.getStartedAt(),
+                run.getFinishedAt(),
+                run.getAccountsChecked(),
+                run.getTransactionsChecked(),
+                run.getMismatchCount(),
+                run.getError()
+        );
+    }
+
+    public static ReconciliationMismatchDTO mapToReadOnlyDTO(ReconciliationMismatch mismatch) {
+        return new ReconciliationMismatchDTO(
+                mismatch.getId(),
+                mismatch.getIban(),
+                mismatch.getKind(),
+                mismatch.getTransactionId(),
+                mismatch.getSeq(),
+                mismatch.getExpected(),
+                mismatch.getActual()
+        );
     }
 }
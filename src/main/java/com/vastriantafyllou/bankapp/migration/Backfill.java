@@ -0,0 +1,15 @@
+package com.vastriantafyllou.bankapp.migration;
+
+public interface Backfill {
+
+    String name();
+
+    boolean isRequired();
+
+    /**
+     * Migrates at most {@code chunkSize} rows in its own transaction.
+     *
+     * @return the number of rows examined, {@code 0} once there is nothing left to do
+     */
+    int runChunk(int chunkSize);
+}
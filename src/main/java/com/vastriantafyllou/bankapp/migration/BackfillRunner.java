@@ -0,0 +1,54 @@
+package com.vastriantafyllou.bankapp.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BackfillRunner {
+
+    private final ObjectProvider<Backfill> backfills;
+
+    @Value("${app.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.migration.chunk-size:1000}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<Backfill> ordered = backfills.orderedStream().toList();
+        if (!enabled || ordered.isEmpty()) {
+            return;
+        }
+        Thread worker = new Thread(() -> runAll(ordered), "backfill-runner");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void runAll(List<Backfill> ordered) {
+        for (Backfill backfill : ordered) {
+            try {
+                if (!backfill.isRequired()) {
+                    continue;
+                }
+                long total = 0;
+                int processed;
+                while ((processed = backfill.runChunk(chunkSize)) > 0) {
+                    total += processed;
+                }
+                log.info("Backfill {} completed, {} rows examined", backfill.name(), total);
+            } catch (RuntimeException e) {
+                log.error("Backfill {} failed, it will be retried on next startup", backfill.name(), e);
+            }
+        }
+    }
+}
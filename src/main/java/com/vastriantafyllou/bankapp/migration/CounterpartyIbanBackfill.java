@@ -0,0 +1,73 @@
+package com.vastriantafyllou.bankapp.migration;
+
+import com.vastriantafyllou.bankapp.core.types.Iban;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copies the legacy {@code counterparty_iban VARCHAR(64)} values into the compact {@code counterparty_iban_key} column.
+ * Only values that {@link Iban#isValid} accepts are selected, by the same rule in SQL, so an unparseable value is
+ * left in the legacy column and never scanned again rather than keeping the backfill pending forever.
+ */
+@Component
+@Order(10)
+@RequiredArgsConstructor
+public class CounterpartyIbanBackfill implements Backfill {
+
+    /** {@link Iban#isValid}: two upper-case ASCII letters and 25 digits. */
+    static final String VALID_IBAN_REGEX = "^[A-Z]{2}[0-9]{25}$";
+
+    // 'c' makes the match case-sensitive whatever the column collation.
+    private static final String PENDING = "counterparty_iban IS NOT NULL AND counterparty_iban_key IS NULL " +
+            "AND REGEXP_LIKE(counterparty_iban, '" + VALID_IBAN_REGEX + "', 'c')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private long lastId;
+
+    @Override
+    public String name() {
+        return "counterparty-iban-key";
+    }
+
+    @Override
+    public boolean isRequired() {
+        Integer columns = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'account_transactions' AND column_name = 'counterparty_iban'",
+                Integer.class);
+        if (columns == null || columns == 0) {
+            return false;
+        }
+        Boolean pending = jdbcTemplate.queryForObject(
+                "SELECT EXISTS(SELECT 1 FROM account_transactions WHERE " + PENDING + ")", Boolean.class);
+        return Boolean.TRUE.equals(pending);
+    }
+
+    @Override
+    public int runChunk(int chunkSize) {
+        List<Object[]> updates = new ArrayList<>();
+        int[] examined = {0};
+        jdbcTemplate.query(
+                "SELECT id, counterparty_iban FROM account_transactions WHERE id > ? AND " + PENDING +
+                        " ORDER BY id LIMIT ?",
+                rs -> {
+                    examined[0]++;
+                    lastId = rs.getLong(1);
+                    Iban iban = Iban.tryParse(rs.getString(2));
+                    if (iban != null) {
+                        updates.add(new Object[]{iban.toBytes(), lastId});
+                    }
+                },
+                lastId, chunkSize);
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE account_transactions SET counterparty_iban_key = ? WHERE id = ?", updates);
+        }
+        return examined[0];
+    }
+}
@@ -0,0 +1,48 @@
+package com.vastriantafyllou.bankapp.migration;
+
+import com.vastriantafyllou.bankapp.core.enums.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Folds the legacy {@code app_user_roles} rows into {@code app_users.role_mask} in one statement. A user whose mask
+ * is still {@code NULL} reads as having no roles and would be saved back with none, so unlike the {@link Backfill}s
+ * this runs during context startup: after the schema update, and before the web server starts and the startup
+ * runners (the admin seed among them) load any user.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleMaskMigration implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Boolean pending = jdbcTemplate.queryForObject(
+                "SELECT EXISTS(SELECT 1 FROM app_users WHERE role_mask IS NULL)", Boolean.class);
+        if (!Boolean.TRUE.equals(pending)) {
+            return;
+        }
+        Integer legacyTables = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'app_user_roles'",
+                Integer.class);
+        String mask = legacyTables != null && legacyTables > 0 ? legacyMask() : "0";
+        int migrated = jdbcTemplate.update("UPDATE app_users u SET role_mask = " + mask + " WHERE u.role_mask IS NULL");
+        log.info("Migrated the roles of {} users to role_mask", migrated);
+    }
+
+    /** One legacy row per (user, role), so the sum of the bits is their union. */
+    static String legacyMask() {
+        StringBuilder bits = new StringBuilder("CASE r.role");
+        for (Role role : Role.values()) {
+            bits.append(" WHEN '").append(role.name()).append("' THEN ").append(role.bit());
+        }
+        bits.append(" ELSE 0 END");
+        return "(SELECT COALESCE(SUM(" + bits + "), 0) FROM app_user_roles r WHERE r.user_id = u.id)";
+    }
+}
@@ -0,0 +1,78 @@
+package com.vastriantafyllou.bankapp.migration;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Numbers transactions written before per-account sequence numbers existed.
+ * Each account is numbered under its row lock, the same lock the ledger writers take, and legacy rows always
+ * precede live ones by id, so live writes that started from {@code count(*)} stay consistent with the result.
+ */
+@Component
+@Order(30)
+public class TransactionSeqBackfill implements Backfill {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private long lastAccountId;
+
+    public TransactionSeqBackfill(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String name() {
+        return "transaction-seq";
+    }
+
+    @Override
+    public boolean isRequired() {
+        Boolean pending = jdbcTemplate.queryForObject(
+                "SELECT EXISTS(SELECT 1 FROM accounts WHERE last_seq IS NULL) " +
+                        "OR EXISTS(SELECT 1 FROM account_transactions WHERE seq IS NULL)",
+                Boolean.class);
+        return Boolean.TRUE.equals(pending);
+    }
+
+    @Override
+    public int runChunk(int chunkSize) {
+        List<Long> accountIds = jdbcTemplate.queryForList(
+                "SELECT id FROM accounts WHERE id > ? ORDER BY id LIMIT ?", Long.class, lastAccountId, chunkSize);
+        for (Long accountId : accountIds) {
+            transactionTemplate.executeWithoutResult(status -> numberAccount(accountId));
+            lastAccountId = accountId;
+        }
+        return accountIds.size();
+    }
+
+    private void numberAccount(long accountId) {
+        List<Long> lastSeq = jdbcTemplate.queryForList(
+                "SELECT last_seq FROM accounts WHERE id = ? FOR UPDATE", Long.class, accountId);
+        if (lastSeq.isEmpty()) {
+            return;
+        }
+        List<Long> unnumbered = jdbcTemplate.queryForList(
+                "SELECT id FROM account_transactions WHERE account_id = ? AND seq IS NULL ORDER BY id",
+                Long.class, accountId);
+
+        List<Object[]> updates = new ArrayList<>(unnumbered.size());
+        long seq = 0;
+        for (Long id : unnumbered) {
+            updates.add(new Object[]{++seq, id});
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE account_transactions SET seq = ? WHERE id = ?", updates);
+        }
+        if (lastSeq.get(0) == null) {
+            jdbcTemplate.update("UPDATE accounts SET last_seq = ? WHERE id = ?", seq, accountId);
+        }
+    }
+}
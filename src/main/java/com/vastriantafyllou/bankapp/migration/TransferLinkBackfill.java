@@ -0,0 +1,125 @@
+package com.vastriantafyllou.bankapp.migration;
+
+import com.vastriantafyllou.bankapp.core.types.Iban;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Links the two legs of transfers written before {@code counterparty_account_id}/{@code transfer_id} existed.
+ * Legs are paired by (counterparty account, amount, createdAt), which {@code transfer} always wrote identically.
+ * A double-submitted transfer leaves several legs with the same key; each out-leg takes the lowest in-leg not
+ * already matched in the chunk, since the chunk's updates are only applied at its end.
+ * An out-leg whose counterparty account no longer exists still gets a {@code transfer_id}, with no counterparty
+ * account, so it is not picked up again on every startup.
+ */
+@Component
+@Order(20)
+public class TransferLinkBackfill implements Backfill {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private long lastId;
+
+    public TransferLinkBackfill(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String name() {
+        return "transfer-links";
+    }
+
+    @Override
+    public boolean isRequired() {
+        Boolean pending = jdbcTemplate.queryForObject(
+                "SELECT EXISTS(SELECT 1 FROM account_transactions " +
+                        "WHERE type = 'TRANSFER_OUT' AND transfer_id IS NULL AND counterparty_iban_key IS NOT NULL)",
+                Boolean.class);
+        return Boolean.TRUE.equals(pending);
+    }
+
+    @Override
+    public int runChunk(int chunkSize) {
+        Integer examined = transactionTemplate.execute(status -> linkChunk(chunkSize));
+        return examined == null ? 0 : examined;
+    }
+
+    private int linkChunk(int chunkSize) {
+        List<OutLeg> legs = jdbcTemplate.query(
+                "SELECT t.id, t.account_id, a.iban, t.amount, t.created_at, t.counterparty_iban_key " +
+                        "FROM account_transactions t JOIN accounts a ON a.id = t.account_id " +
+                        "WHERE t.id > ? AND t.type = 'TRANSFER_OUT' AND t.transfer_id IS NULL AND t.counterparty_iban_key IS NOT NULL " +
+                        "ORDER BY t.id LIMIT ? FOR UPDATE",
+                (rs, rowNum) -> new OutLeg(rs.getLong(1), rs.getLong(2), Iban.tryParse(rs.getString(3)),
+                        rs.getBigDecimal(4), rs.getTimestamp(5), Iban.fromBytes(rs.getBytes(6))),
+                lastId, chunkSize);
+        if (legs.isEmpty()) {
+            return 0;
+        }
+
+        Map<Iban, Long> accountIds = new HashMap<>();
+        Set<Long> matched = new HashSet<>();
+        List<Object[]> updates = new ArrayList<>();
+        for (OutLeg leg : legs) {
+            Long counterpartyId = accountIds.computeIfAbsent(leg.counterparty(), this::findAccountId);
+            byte[] transferId = toBytes(UUID.randomUUID());
+            updates.add(new Object[]{counterpartyId, transferId, leg.id()});
+            // Deleted counterparty, or a stored IBAN of our own that does not parse: there is no in-leg to match.
+            if (counterpartyId == null || leg.iban() == null) {
+                continue;
+            }
+
+            // Enough candidates to get past every in-leg this chunk has already taken.
+            List<Long> candidates = jdbcTemplate.queryForList(
+                    "SELECT id FROM account_transactions " +
+                            "WHERE account_id = ? AND type = 'TRANSFER_IN' AND transfer_id IS NULL " +
+                            "AND counterparty_iban_key = ? AND amount = ? AND created_at = ? " +
+                            "ORDER BY id LIMIT ?",
+                    Long.class, counterpartyId, leg.iban().toBytes(), leg.amount(), leg.createdAt(), matched.size() + 1);
+            for (Long inLeg : candidates) {
+                if (matched.add(inLeg)) {
+                    updates.add(new Object[]{leg.accountId(), transferId, inLeg});
+                    break;
+                }
+            }
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE account_transactions SET counterparty_account_id = ?, transfer_id = ? WHERE id = ?", updates);
+        }
+        lastId = legs.get(legs.size() - 1).id();
+        return legs.size();
+    }
+
+    private Long findAccountId(Iban iban) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM accounts WHERE iban = ?", Long.class, iban.toString());
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /** {@code iban} is {@code null} if the stored IBAN of the debited account does not parse. */
+    private record OutLeg(long id, long accountId, Iban iban, BigDecimal amount, Timestamp createdAt, Iban counterparty) {
+    }
+}
@@ -6,7 +6,10 @@ import lombok.*;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "accounts")
+@Table(name = "accounts", indexes = {
+        // Keyset order of the admin listing by balance; iban is covered by its unique index.
+        @Index(name = "idx_accounts_balance", columnList = "balance, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,6 +34,21 @@ public class Account {
     @JoinColumn(name = "owner_id")
     private AppUser owner;
 
+    @Column(name = "last_seq")
+    @Builder.Default
+    private Long lastSeq = 0L;
+
+    // Last seq folded into account_daily_rollups; null until the rollup backfill has reached the account.
+    @Column(name = "rollup_seq")
+    @Builder.Default
+    private Long rollupSeq = 0L;
+
+    @PrePersist
+    private void prePersist() {
+        if (lastSeq == null) lastSeq = 0L;
+        if (rollupSeq == null) rollupSeq = 0L;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,51 @@
+package com.vastriantafyllou.bankapp.model;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Count and sum of one account's ledger rows per day and type. Maintained with upserts in the transaction of each
+ * ledger write once {@link Account#getRollupSeq()} is set; rows for accounts the backfill has not reached yet are
+ * rebuilt by it.
+ */
+@Entity
+@Table(name = "account_daily_rollups")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountDailyRollup {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "tx_count", nullable = false)
+    private Long txCount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal total;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "account_id", nullable = false)
+        private Long accountId;
+
+        @Column(name = "day", nullable = false)
+        private LocalDate day;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 32)
+        private TransactionType type;
+    }
+}
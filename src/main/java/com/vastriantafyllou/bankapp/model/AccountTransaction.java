@@ -1,14 +1,28 @@
 package com.vastriantafyllou.bankapp.model;
 
 import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.core.types.Iban;
+import com.vastriantafyllou.bankapp.core.types.IbanConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
-@Table(name = "account_transactions")
+@Table(name = "account_transactions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_tx_seq", columnNames = {"account_id", "seq"})
+}, indexes = {
+        @Index(name = "idx_account_tx_transfer", columnList = "transfer_id"),
+        @Index(name = "idx_account_tx_counterparty", columnList = "account_id, counterparty_account_id"),
+        // Filtered history search: equality filters first, then the (created_at, id) keyset order; amount is carried
+        // so amount ranges are checked on the index entries without reading the rows.
+        @Index(name = "idx_account_tx_search_created", columnList = "account_id, created_at, id, amount"),
+        @Index(name = "idx_account_tx_search_type", columnList = "account_id, type, created_at, id, amount"),
+        @Index(name = "idx_account_tx_search_counterparty",
+                columnList = "account_id, counterparty_iban_key, created_at, id, amount")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,6 +38,9 @@ public class AccountTransaction {
     @JoinColumn(name = "account_id", nullable = false)
     private Account account;
 
+    @Column(name = "seq")
+    private Long seq;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 32)
     private TransactionType type;
@@ -34,8 +51,16 @@ public class AccountTransaction {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
-    @Column(length = 64)
-    private String counterpartyIban;
+    @Convert(converter = IbanConverter.class)
+    @Column(name = "counterparty_iban_key", columnDefinition = "BINARY(16)")
+    private Iban counterpartyIban;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "counterparty_account_id")
+    private Account counterpartyAccount;
+
+    @Column(name = "transfer_id")
+    private UUID transferId;
 
     @Column(precision = 19, scale = 2)
     private BigDecimal balanceAfter;
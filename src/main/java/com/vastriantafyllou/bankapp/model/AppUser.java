@@ -1,11 +1,12 @@
 package com.vastriantafyllou.bankapp.model;
 
 import com.vastriantafyllou.bankapp.core.enums.Role;
+import com.vastriantafyllou.bankapp.core.types.RoleSetConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.Set;
 
 @Entity
@@ -52,12 +53,15 @@ public class AppUser {
         if (blocked == null) blocked = false;
     }
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "app_user_roles", joinColumns = @JoinColumn(name = "user_id"))
-    @Enumerated(EnumType.STRING)
-    @Column(name = "role", nullable = false, length = 16)
+    /**
+     * Stored as a bitmask. Hibernate may snapshot the set by reference, so on a managed user replace it instead of
+     * changing it in place. Rows written before the column existed are filled by {@code RoleMaskMigration}
+     * before any user is loaded.
+     */
+    @Convert(converter = RoleSetConverter.class)
+    @Column(name = "role_mask")
     @Builder.Default
-    private Set<Role> roles = new HashSet<>();
+    private Set<Role> roles = EnumSet.noneOf(Role.class);
 
     @Override
     public boolean equals(Object o) {
@@ -0,0 +1,68 @@
+package com.vastriantafyllou.bankapp.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "batch_checkpoints", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_batch_checkpoint", columnNames = {"job_name", "run_key", "partition_no"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 64)
+    private String jobName;
+
+    @Column(name = "run_key", nullable = false, length = 64)
+    private String runKey;
+
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo;
+
+    @Column(nullable = false)
+    private Long rangeStart;
+
+    @Column(nullable = false)
+    private Long rangeEnd;
+
+    @Column(nullable = false)
+    private Long lastProcessedId;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long processedCount = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean completed = false;
+
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    private void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BatchCheckpoint that)) return false;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,89 @@
+package com.vastriantafyllou.bankapp.model;
+
+import com.vastriantafyllou.bankapp.core.enums.IngestionStatus;
+import com.vastriantafyllou.bankapp.core.types.Money;
+import com.vastriantafyllou.bankapp.core.types.MoneyConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ingestion_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IngestionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 255)
+    private String fileName;
+
+    @Column(nullable = false, length = 512)
+    private String inputPath;
+
+    @Column(nullable = false, length = 512)
+    private String resultPath;
+
+    @Column(nullable = false, length = 64)
+    private String createdBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    @Builder.Default
+    private IngestionStatus status = IngestionStatus.PENDING;
+
+    // Checkpoint: lines fully applied, and the length of the result file that describes them.
+    @Column(nullable = false)
+    @Builder.Default
+    private Long linesProcessed = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long resultBytes = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long acceptedCount = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long rejectedCount = 0L;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 19, scale = 2)
+    @Builder.Default
+    private Money acceptedAmount = Money.ZERO;
+
+    @Column(length = 255)
+    private String error;
+
+    @Column(updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    private void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IngestionJob that)) return false;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,78 @@
+package com.vastriantafyllou.bankapp.model;
+
+import com.vastriantafyllou.bankapp.core.enums.PendingTransferStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "pending_transfers", indexes = {
+        @Index(name = "idx_pending_transfer_status", columnList = "status, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingTransfer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String requestedBy;
+
+    @Column(nullable = false)
+    private Boolean admin;
+
+    @Column(nullable = false, length = 34)
+    private String fromIban;
+
+    @Column(nullable = false, length = 34)
+    private String toIban;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    @Builder.Default
+    private PendingTransferStatus status = PendingTransferStatus.PENDING;
+
+    // Identifies the worker claim; a claim that was reset as stale can no longer complete the row.
+    @Column(length = 36)
+    private String claimToken;
+
+    private LocalDateTime claimedAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    // Set when a run lost a row-lock race; the row is not claimed again before this time.
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 255)
+    private String error;
+
+    @Column(updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime completedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PendingTransfer that)) return false;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,58 @@
+package com.vastriantafyllou.bankapp.model;
+
+import com.vastriantafyllou.bankapp.core.enums.MismatchKind;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "reconciliation_mismatches", indexes = {
+        @Index(name = "idx_recon_mismatch_run", columnList = "run_id, account_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReconciliationMismatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false, length = 34)
+    private String iban;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private MismatchKind kind;
+
+    private Long transactionId;
+
+    private Long seq;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal expected;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal actual;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ReconciliationMismatch that)) return false;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,58 @@
+package com.vastriantafyllou.bankapp.model;
+
+import com.vastriantafyllou.bankapp.core.enums.ReconciliationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "reconciliation_runs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReconciliationRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    @Builder.Default
+    private ReconciliationStatus status = ReconciliationStatus.RUNNING;
+
+    @Builder.Default
+    private LocalDateTime startedAt = LocalDateTime.now();
+
+    private LocalDateTime finishedAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long accountsChecked = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long transactionsChecked = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long mismatchCount = 0L;
+
+    @Column(length = 255)
+    private String error;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ReconciliationRun that)) return false;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,99 @@
+package com.vastriantafyllou.bankapp.model;
+
+import com.vastriantafyllou.bankapp.core.enums.StandingOrderFrequency;
+import com.vastriantafyllou.bankapp.core.enums.StandingOrderStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "standing_orders", indexes = {
+        @Index(name = "idx_standing_order_due", columnList = "status, next_execution_at"),
+        @Index(name = "idx_standing_order_owner", columnList = "owner_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StandingOrder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "owner_id", nullable = false)
+    private AppUser owner;
+
+    @Column(name = "from_iban", nullable = false, length = 34)
+    private String fromIban;
+
+    @Column(name = "to_iban", nullable = false, length = 34)
+    private String toIban;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private StandingOrderFrequency frequency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    @Builder.Default
+    private StandingOrderStatus status = StandingOrderStatus.ACTIVE;
+
+    @Column(nullable = false)
+    private LocalDateTime firstExecutionAt;
+
+    // Occurrences are counted from firstExecutionAt so monthly orders keep their day of month.
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer occurrence = 0;
+
+    @Column(name = "next_execution_at")
+    private LocalDateTime nextExecutionAt;
+
+    private LocalDate endDate;
+
+    private LocalDateTime lastExecutedAt;
+
+    @Column(length = 255)
+    private String lastError;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer failureCount = 0;
+
+    @Column(updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    /** Moves the order past the occurrence due at {@code nextExecutionAt}, completing it when none is left. */
+    public void advance() {
+        occurrence++;
+        LocalDateTime next = frequency.occurrence(firstExecutionAt, occurrence);
+        if (next == null || (endDate != null && next.toLocalDate().isAfter(endDate))) {
+            status = StandingOrderStatus.COMPLETED;
+            nextExecutionAt = null;
+        } else {
+            nextExecutionAt = next;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StandingOrder that)) return false;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,21 @@
+package com.vastriantafyllou.bankapp.repository;
+
+import com.vastriantafyllou.bankapp.dto.ActivityBucketDTO;
+import com.vastriantafyllou.bankapp.model.AccountDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AccountDailyRollupRepository extends JpaRepository<AccountDailyRollup, AccountDailyRollup.Key> {
+
+    @Query("select new com.vastriantafyllou.bankapp.dto.ActivityBucketDTO(r.id.day, r.id.type, r.txCount, r.total) " +
+            "from AccountDailyRollup r where r.id.accountId = :accountId and r.id.day between :from and :to")
+    List<ActivityBucketDTO> findDaily(@Param("accountId") Long accountId,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to);
+}
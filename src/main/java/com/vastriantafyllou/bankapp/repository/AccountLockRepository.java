@@ -0,0 +1,24 @@
+package com.vastriantafyllou.bankapp.repository;
+
+import com.vastriantafyllou.bankapp.model.Account;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Row-locking lookups with a per-call lock wait, passed to the provider as the
+ * {@code jakarta.persistence.lock.timeout} hint. A negative timeout waits as long as the database allows,
+ * {@code 0} fails at once ({@code NOWAIT}); MySQL applies positive values in whole seconds.
+ */
+public interface AccountLockRepository {
+
+    Optional<Account> findByIbanForUpdate(String iban, int lockTimeoutMillis);
+
+    Optional<Account> findByIbanForUpdateAndOwnerUsername(String iban, String username, int lockTimeoutMillis);
+
+    /** Locks in iban order, so concurrent multi-leg transfers cannot deadlock. */
+    List<Account> findAllByIbanInForUpdate(Collection<String> ibans, int lockTimeoutMillis);
+
+    List<Account> findAllByIbanInForUpdateAndOwnerUsername(Collection<String> ibans, String username, int lockTimeoutMillis);
+}
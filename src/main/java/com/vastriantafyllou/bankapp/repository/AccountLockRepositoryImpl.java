@@ -0,0 +1,60 @@
+package com.vastriantafyllou.bankapp.repository;
+
+import com.vastriantafyllou.bankapp.model.Account;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class AccountLockRepositoryImpl implements AccountLockRepository {
+
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Account> findByIbanForUpdate(String iban, int lockTimeoutMillis) {
+        return locking(entityManager.createQuery("select a from Account a where a.iban = :iban", Account.class)
+                .setParameter("iban", iban), lockTimeoutMillis)
+                .getResultStream().findFirst();
+    }
+
+    @Override
+    public Optional<Account> findByIbanForUpdateAndOwnerUsername(String iban, String username, int lockTimeoutMillis) {
+        return locking(entityManager.createQuery(
+                        "select a from Account a where a.iban = :iban and a.owner.username = :username", Account.class)
+                .setParameter("iban", iban)
+                .setParameter("username", username), lockTimeoutMillis)
+                .getResultStream().findFirst();
+    }
+
+    @Override
+    public List<Account> findAllByIbanInForUpdate(Collection<String> ibans, int lockTimeoutMillis) {
+        return locking(entityManager.createQuery(
+                        "select a from Account a where a.iban in :ibans order by a.iban", Account.class)
+                .setParameter("ibans", ibans), lockTimeoutMillis)
+                .getResultList();
+    }
+
+    @Override
+    public List<Account> findAllByIbanInForUpdateAndOwnerUsername(Collection<String> ibans, String username, int lockTimeoutMillis) {
+        return locking(entityManager.createQuery(
+                        "select a from Account a where a.iban in :ibans and a.owner.username = :username order by a.iban", Account.class)
+                .setParameter("ibans", ibans)
+                .setParameter("username", username), lockTimeoutMillis)
+                .getResultList();
+    }
+
+    private static <T> TypedQuery<T> locking(TypedQuery<T> query, int lockTimeoutMillis) {
+        query.setLockMode(LockModeType.PESSIMISTIC_WRITE);
+        if (lockTimeoutMillis >= 0) {
+            query.setHint(LOCK_TIMEOUT_HINT, lockTimeoutMillis);
+        }
+        return query;
+    }
+}
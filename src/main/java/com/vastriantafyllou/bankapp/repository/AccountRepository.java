@@ -8,11 +8,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AccountRepository extends JpaRepository<Account, Long> {
+public interface AccountRepository extends JpaRepository<Account, Long>, AccountLockRepository {
     Optional<Account> findByIban(String iban);
     Optional<Account> findByAccountNumber(String accountNumber);
 
@@ -25,11 +26,12 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     List<Account> findAllByOwnerIsNull();
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select a from Account a where a.iban = :iban")
-    Optional<Account> findByIbanForUpdate(@Param("iban") String iban);
+    // Lets in-memory caches confirm an entry is still current after writes on other nodes.
+    @Query("select coalesce(a.lastSeq, 0L) from Account a where a.iban = :iban")
+    Optional<Long> findLastSeqByIban(@Param("iban") String iban);
 
+    // One sorted IN query takes every row lock in iban order, so concurrent multi-leg transfers cannot deadlock.
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select a from Account a where a.iban = :iban and a.owner.username = :username")
-    Optional<Account> findByIbanForUpdateAndOwnerUsername(@Param("iban") String iban, @Param("username") String username);
+    @Query("select a from Account a where a.iban in :ibans order by a.iban")
+    List<Account> findAllByIbanInForUpdate(@Param("ibans") Collection<String> ibans);
 }
@@ -1,13 +1,66 @@
 package com.vastriantafyllou.bankapp.repository;
 
+import com.vastriantafyllou.bankapp.dto.ActivityBucketDTO;
+import com.vastriantafyllou.bankapp.model.Account;
 import com.vastriantafyllou.bankapp.model.AccountTransaction;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
-public interface AccountTransactionRepository extends JpaRepository<AccountTransaction, Long> {
+public interface AccountTransactionRepository extends JpaRepository<AccountTransaction, Long>,
+        JpaSpecificationExecutor<AccountTransaction> {
     List<AccountTransaction> findByAccount_IbanOrderByCreatedAtDesc(String iban);
     void deleteByAccount_Iban(String iban);
+
+    long countByAccount_Id(Long accountId);
+    Slice<AccountTransaction> findByAccount_IdOrderByIdDesc(Long accountId, Pageable pageable);
+    List<AccountTransaction> findByAccount_IdAndSeqGreaterThanOrderBySeqAsc(Long accountId, Long seq, Limit limit);
+
+    /** The newest {@code perAccount} rows of each account, ranked with a window function (MySQL 8+). */
+    @Query(value = "SELECT ranked.* FROM (" +
+            "SELECT t.*, ROW_NUMBER() OVER (PARTITION BY t.account_id ORDER BY t.id DESC) AS rn " +
+            "FROM account_transactions t WHERE t.account_id IN (:accountIds)) ranked " +
+            "WHERE ranked.rn <= :perAccount ORDER BY ranked.account_id, ranked.id DESC",
+            nativeQuery = true)
+    List<AccountTransaction> findNewestPerAccount(@Param("accountIds") Collection<Long> accountIds,
+                                                  @Param("perAccount") int perAccount);
+
+    /**
+     * Same result without window functions: {@code seq} is gapless per account, so the newest rows are the
+     * {@code (account_id, seq)} range above {@code last_seq - perAccount}. Rows not numbered yet are not returned.
+     */
+    @Query("select t from AccountTransaction t join t.account a where a.id in :accountIds " +
+            "and t.seq > a.lastSeq - :perAccount order by a.id, t.seq desc")
+    List<AccountTransaction> findNewestPerAccountBySeq(@Param("accountIds") Collection<Long> accountIds,
+                                                       @Param("perAccount") long perAccount);
+
+    List<AccountTransaction> findByTransferId(UUID transferId);
+    List<AccountTransaction> findByTransferIdAndIdNot(UUID transferId, Long id);
+    List<AccountTransaction> findByAccount_IdAndCounterpartyAccount_IdOrderByIdDesc(Long accountId, Long counterpartyAccountId);
+
+    /** Per-day totals of the rows after {@code afterSeq}, or of all rows when it is {@code null}. */
+    @Query("select new com.vastriantafyllou.bankapp.dto.ActivityBucketDTO(cast(t.createdAt as LocalDate), t.type, count(t), sum(t.amount)) " +
+            "from AccountTransaction t where t.account.id = :accountId and t.createdAt >= :from and t.createdAt < :to " +
+            "and (:afterSeq is null or t.seq > :afterSeq) " +
+            "group by cast(t.createdAt as LocalDate), t.type")
+    List<ActivityBucketDTO> sumDaily(@Param("accountId") Long accountId,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to,
+                                     @Param("afterSeq") Long afterSeq);
+
+    @Modifying
+    @Query("update AccountTransaction t set t.counterpartyAccount = null where t.counterpartyAccount = :account")
+    int clearCounterpartyAccount(@Param("account") Account account);
 }
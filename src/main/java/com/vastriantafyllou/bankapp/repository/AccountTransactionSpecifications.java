@@ -0,0 +1,65 @@
+package com.vastriantafyllou.bankapp.repository;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.core.types.Iban;
+import com.vastriantafyllou.bankapp.core.types.TransactionCursor;
+import com.vastriantafyllou.bankapp.model.AccountTransaction;
+import com.vastriantafyllou.bankapp.model.AccountTransaction_;
+import com.vastriantafyllou.bankapp.model.Account_;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Criteria predicates over {@link AccountTransaction}, written against the generated metamodel. Every search starts
+ * from {@link #ofAccount} and walks {@link #KEYSET_ORDER}, which the {@code idx_account_tx_search_*} indexes of
+ * {@code account_transactions} follow.
+ */
+public final class AccountTransactionSpecifications {
+
+    public static final Sort KEYSET_ORDER = Sort.by(
+            Sort.Order.desc(AccountTransaction_.CREATED_AT),
+            Sort.Order.desc(AccountTransaction_.ID));
+
+    private AccountTransactionSpecifications() {
+    }
+
+    public static Specification<AccountTransaction> ofAccount(Long accountId) {
+        return (root, query, cb) -> cb.equal(root.get(AccountTransaction_.account).get(Account_.id), accountId);
+    }
+
+    public static Specification<AccountTransaction> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(AccountTransaction_.createdAt), from);
+    }
+
+    public static Specification<AccountTransaction> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get(AccountTransaction_.createdAt), to);
+    }
+
+    public static Specification<AccountTransaction> ofType(TransactionType type) {
+        return (root, query, cb) -> cb.equal(root.get(AccountTransaction_.type), type);
+    }
+
+    public static Specification<AccountTransaction> amountAtLeast(BigDecimal min) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(AccountTransaction_.amount), min);
+    }
+
+    public static Specification<AccountTransaction> amountAtMost(BigDecimal max) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get(AccountTransaction_.amount), max);
+    }
+
+    public static Specification<AccountTransaction> withCounterparty(Iban counterparty) {
+        return (root, query, cb) -> cb.equal(root.get(AccountTransaction_.counterpartyIban), counterparty);
+    }
+
+    /** Rows strictly after {@code cursor} in {@link #KEYSET_ORDER}. */
+    public static Specification<AccountTransaction> after(TransactionCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get(AccountTransaction_.createdAt), cursor.createdAt()),
+                cb.and(
+                        cb.equal(root.get(AccountTransaction_.createdAt), cursor.createdAt()),
+                        cb.lessThan(root.get(AccountTransaction_.id), cursor.id())));
+    }
+}
@@ -0,0 +1,112 @@
+package com.vastriantafyllou.bankapp.repository;
+
+import com.vastriantafyllou.bankapp.core.enums.AccountSortField;
+import com.vastriantafyllou.bankapp.dto.AccountTotalsDTO;
+import com.vastriantafyllou.bankapp.dto.AdminAccountRowDTO;
+import com.vastriantafyllou.bankapp.model.Account;
+import com.vastriantafyllou.bankapp.model.Account_;
+import com.vastriantafyllou.bankapp.model.AppUser;
+import com.vastriantafyllou.bankapp.model.AppUser_;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Admin account listings as {@link AdminAccountRowDTO} rows with the owner joined in, never as entities. Pages are
+ * read by keyset on {@code (sort key, id)}; the full export streams {@code accounts} in id order through a
+ * forward-only cursor.
+ */
+@Repository
+public class AdminAccountRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public AdminAccountRepository(DataSource dataSource) {
+        // MySQL Connector/J streams rows one at a time only with this fetch size.
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Up to {@code limit} rows after {@code (afterKey, afterId)}, or from the start when {@code afterKey} is
+     * {@code null}. {@code afterKey} must be a {@link BigDecimal} for {@link AccountSortField#BALANCE} and a string
+     * otherwise.
+     * <p>
+     * {@link AccountSortField#OWNER} orders by the bare {@code username} over an inner join, so MySQL can walk the
+     * unique username index and each owner's accounts through the {@code owner_id} index in {@code (username, id)}
+     * order instead of sorting the table. Accounts without an owner are left out of that order; the admin seed
+     * assigns any such account to the admin at startup.
+     */
+    public List<AdminAccountRowDTO> findPage(AccountSortField field, boolean descending, Object afterKey, Long afterId,
+                                             int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AdminAccountRowDTO> query = cb.createQuery(AdminAccountRowDTO.class);
+        Root<Account> account = query.from(Account.class);
+        Join<Account, AppUser> owner = account.join(Account_.owner,
+                field == AccountSortField.OWNER ? JoinType.INNER : JoinType.LEFT);
+        query.select(cb.construct(AdminAccountRowDTO.class,
+                account.get(Account_.id),
+                account.get(Account_.iban),
+                account.get(Account_.accountNumber),
+                account.get(Account_.balance),
+                owner.get(AppUser_.username)));
+
+        switch (field) {
+            case BALANCE -> keyset(cb, query, account.get(Account_.balance), (BigDecimal) afterKey,
+                    account.get(Account_.id), afterId, descending);
+            case IBAN -> keyset(cb, query, account.get(Account_.iban), (String) afterKey,
+                    account.get(Account_.id), afterId, descending);
+            case OWNER -> keyset(cb, query, owner.get(AppUser_.username), (String) afterKey,
+                    account.get(Account_.id), afterId, descending);
+        }
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    /** One aggregate row; the sum is {@code null} when there are no accounts. */
+    public AccountTotalsDTO totals() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AccountTotalsDTO> query = cb.createQuery(AccountTotalsDTO.class);
+        Root<Account> account = query.from(Account.class);
+        query.select(cb.construct(AccountTotalsDTO.class,
+                cb.count(account),
+                cb.sum(account.get(Account_.balance))));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    public void streamAll(Consumer<AdminAccountRowDTO> consumer) {
+        streamingJdbcTemplate.query(
+                "SELECT a.id, a.iban, a.account_number, a.balance, u.username FROM accounts a " +
+                        "LEFT JOIN app_users u ON u.id = a.owner_id ORDER BY a.id",
+                rs -> consumer.accept(new AdminAccountRowDTO(rs.getLong(1), rs.getString(2), rs.getString(3),
+                        rs.getBigDecimal(4), rs.getString(5))));
+    }
+
+    private static <K extends Comparable<? super K>> void keyset(CriteriaBuilder cb, CriteriaQuery<?> query,
+                                                                Expression<K> key, K afterKey,
+                                                                Path<Long> id, Long afterId, boolean descending) {
+        if (afterKey != null) {
+            query.where(descending
+                    ? cb.or(cb.lessThan(key, afterKey), cb.and(cb.equal(key, afterKey), cb.lessThan(id, afterId)))
+                    : cb.or(cb.greaterThan(key, afterKey), cb.and(cb.equal(key, afterKey), cb.greaterThan(id, afterId))));
+        }
+        query.orderBy(descending
+                ? List.of(cb.desc(key), cb.desc(id))
+                : List.of(cb.asc(key), cb.asc(id)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.vastriantafyllou.bankapp.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+/**
+ * Streams an account's {@code (created_at, balance_after)} pairs in {@code seq} order over the
+ * {@code (account_id, seq)} index, one row at a time, without materializing them.
+ */
+@Repository
+public class BalanceHistoryRepository {
+
+    @FunctionalInterface
+    public interface BalanceConsumer {
+        void accept(LocalDateTime createdAt, long balanceCents);
+    }
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public BalanceHistoryRepository(DataSource dataSource) {
+        // MySQL Connector/J streams rows one at a time only with this fetch size.
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /** Rows without a {@code balance_after} (written before it was recorded) are skipped. */
+    public void streamBalances(long accountId, BalanceConsumer consumer) {
+        streamingJdbcTemplate.query(
+                "SELECT created_at, CAST(balance_after * 100 AS SIGNED) FROM account_transactions " +
+                        "WHERE account_id = ? ORDER BY seq",
+                rs -> {
+                    long cents = rs.getLong(2);
+                    if (!rs.wasNull()) {
+                        consumer.accept(rs.getTimestamp(1).toLocalDateTime(), cents);
+                    }
+                },
+                accountId);
+    }
+}
@@ -0,0 +1,27 @@
+package com.vastriantafyllou.bankapp.repository;
+
+import com.vastriantafyllou.bankapp.model.BatchCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, Long> {
+    List<BatchCheckpoint> findByJobNameAndRunKeyOrderByPartitionNo(String jobName, String runKey);
+
+    @Query("select distinct c.runKey from BatchCheckpoint c where c.jobName = :jobName and c.completed = false order by c.runKey")
+    List<String> findIncompleteRunKeys(@Param("jobName") String jobName);
+
+    @Query("select max(c.runKey) from BatchCheckpoint c where c.jobName = :jobName")
+    Optional<String> findLatestRunKey(@Param("jobName") String jobName);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from BatchCheckpoint c where c.id = :id")
+    Optional<BatchCheckpoint> findByIdForUpdate(@Param("id") Long id);
+}
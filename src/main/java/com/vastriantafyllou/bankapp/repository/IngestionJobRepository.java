@@ -0,0 +1,23 @@
+package com.vastriantafyllou.bankapp.repository;
+
+import com.vastriantafyllou.bankapp.core.enums.IngestionStatus;
+import com.vastriantafyllou.bankapp.model.IngestionJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IngestionJobRepository extends JpaRepository<IngestionJob, Long> {
+    List<IngestionJob> findByStatusIn(List<IngestionStatus> statuses);
+    List<IngestionJob> findAllByOrderByIdDesc();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from IngestionJob j where j.id = :id")
+    Optional<IngestionJob> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,37 @@
+package com.vastriantafyllou.bankapp.repository;
+
+import com.vastriantafyllou.bankapp.core.enums.PendingTransferStatus;
+import com.vastriantafyllou.bankapp.model.PendingTransfer;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PendingTransferRepository extends JpaRepository<PendingTransfer, Long> {
+    Optional<PendingTransfer> findByIdAndRequestedBy(Long id, String requestedBy);
+
+    // Rows locked by another worker's claim are skipped rather than waited on; rows backing off are not yet due.
+    @Query(value = "SELECT * FROM pending_transfers WHERE status = 'PENDING' " +
+            "AND (next_attempt_at IS NULL OR next_attempt_at <= :now) ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<PendingTransfer> lockNextPending(@Param("limit") int limit, @Param("now") LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from PendingTransfer p where p.id = :id")
+    Optional<PendingTransfer> findByIdForUpdate(@Param("id") Long id);
+
+    @Modifying
+    @Query("update PendingTransfer p set p.status = :pending, p.claimToken = null " +
+            "where p.status = :processing and p.claimedAt < :before")
+    int releaseStaleClaims(@Param("pending") PendingTransferStatus pending,
+                           @Param("processing") PendingTransferStatus processing,
+                           @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,13 @@
+package com.vastriantafyllou.bankapp.repository;
+
+import com.vastriantafyllou.bankapp.model.ReconciliationMismatch;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReconciliationMismatchRepository extends JpaRepository<ReconciliationMismatch, Long> {
+    List<ReconciliationMismatch> findByRunIdAndIdGreaterThanOrderByIdAsc(Long runId, Long afterId, Limit limit);
+}
@@ -0,0 +1,15 @@
+package com.vastriantafyllou.bankapp.repository;
+
+import com.vastriantafyllou.bankapp.core.enums.ReconciliationStatus;
+import com.vastriantafyllou.bankapp.model.ReconciliationRun;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReconciliationRunRepository extends JpaRepository<ReconciliationRun, Long> {
+    List<ReconciliationRun> findAllByOrderByIdDesc(Limit limit);
+    boolean existsByStatus(ReconciliationStatus status);
+}
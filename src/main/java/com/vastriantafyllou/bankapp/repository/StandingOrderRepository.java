@@ -0,0 +1,40 @@
+package com.vastriantafyllou.bankapp.repository;
+
+import com.vastriantafyllou.bankapp.core.enums.StandingOrderStatus;
+import com.vastriantafyllou.bankapp.model.StandingOrder;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StandingOrderRepository extends JpaRepository<StandingOrder, Long> {
+    List<StandingOrder> findByOwner_UsernameOrderByIdDesc(String username);
+    Optional<StandingOrder> findByIdAndOwner_Username(Long id, String username);
+
+    @Query("select o.id as id, o.fromIban as fromIban, o.nextExecutionAt as nextExecutionAt from StandingOrder o " +
+            "where o.status = :status and o.nextExecutionAt < :until order by o.nextExecutionAt")
+    List<DueStandingOrder> findDueBefore(@Param("status") StandingOrderStatus status, @Param("until") LocalDateTime until);
+
+    @Query("select o.id as id, o.fromIban as fromIban, o.nextExecutionAt as nextExecutionAt from StandingOrder o " +
+            "where o.status = :status and o.nextExecutionAt >= :from and o.nextExecutionAt < :until order by o.nextExecutionAt")
+    List<DueStandingOrder> findDueBetween(@Param("status") StandingOrderStatus status,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("until") LocalDateTime until);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from StandingOrder o join fetch o.owner where o.id = :id")
+    Optional<StandingOrder> findByIdForUpdate(@Param("id") Long id);
+
+    interface DueStandingOrder {
+        Long getId();
+        String getFromIban();
+        LocalDateTime getNextExecutionAt();
+    }
+}
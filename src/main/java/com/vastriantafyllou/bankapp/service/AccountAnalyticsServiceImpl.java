@@ -0,0 +1,121 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.ActivityGranularity;
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.core.exception.AccountNotFoundException;
+import com.vastriantafyllou.bankapp.core.exception.InvalidDateRangeException;
+import com.vastriantafyllou.bankapp.core.series.MinMaxDownsampler;
+import com.vastriantafyllou.bankapp.dto.ActivityBucketDTO;
+import com.vastriantafyllou.bankapp.dto.BalanceHistoryDTO;
+import com.vastriantafyllou.bankapp.model.Account;
+import com.vastriantafyllou.bankapp.repository.AccountDailyRollupRepository;
+import com.vastriantafyllou.bankapp.repository.AccountRepository;
+import com.vastriantafyllou.bankapp.repository.AccountTransactionRepository;
+import com.vastriantafyllou.bankapp.repository.BalanceHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Range totals per day or month from {@code account_daily_rollups}, plus a scan of the ledger rows after the
+ * account's {@code rollup_seq}, so the cost grows with the days in the range rather than the transactions. Accounts
+ * the rollup backfill has not reached yet are aggregated from the ledger directly.
+ * <p>
+ * Balance history is streamed from the ledger in {@code seq} order into a {@link MinMaxDownsampler}, so memory and
+ * response size depend on the requested number of points, not on the length of the history.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountAnalyticsServiceImpl implements IAccountAnalyticsService {
+
+    private static final Comparator<Bucket> BUCKET_ORDER = Comparator.comparing(Bucket::period)
+            .thenComparing(Bucket::type);
+
+    private final AccountRepository accountRepository;
+    private final AccountDailyRollupRepository rollupRepository;
+    private final AccountTransactionRepository accountTransactionRepository;
+    private final BalanceHistoryRepository balanceHistoryRepository;
+
+    @Value("${app.analytics.max-range-days:1100}")
+    private long maxRangeDays;
+
+    @Value("${app.analytics.max-chart-points:2000}")
+    private int maxChartPoints;
+
+    // One read-only transaction, so rollup_seq, the rollups and the tail come from the same snapshot.
+    @Override
+    @Transactional(readOnly = true)
+    public List<ActivityBucketDTO> getActivity(String iban, LocalDate from, LocalDate to, ActivityGranularity granularity,
+                                               String username, boolean isAdmin) {
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException("Η αρχική ημερομηνία πρέπει να είναι πριν από την τελική");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new InvalidDateRangeException("Το διάστημα δεν μπορεί να ξεπερνά τις " + maxRangeDays + " ημέρες");
+        }
+        Account account = findAccount(iban, username, isAdmin);
+
+        Map<Bucket, ActivityBucketDTO> buckets = new TreeMap<>(BUCKET_ORDER);
+        Long rollupSeq = account.getRollupSeq();
+        if (rollupSeq != null) {
+            rollupRepository.findDaily(account.getId(), from, to)
+                    .forEach(day -> add(buckets, granularity, day));
+        }
+        accountTransactionRepository.sumDaily(account.getId(), from.atStartOfDay(), to.plusDays(1).atStartOfDay(), rollupSeq)
+                .forEach(day -> add(buckets, granularity, day));
+        return new ArrayList<>(buckets.values());
+    }
+
+    // last_seq sizes the buckets up front; rows committed after it was read fall into the last bucket.
+    @Override
+    @Transactional(readOnly = true)
+    public BalanceHistoryDTO getBalanceHistory(String iban, int points, String username, boolean isAdmin) {
+        Account account = findAccount(iban, username, isAdmin);
+        long total = account.getLastSeq() == null ? 0 : account.getLastSeq();
+
+        MinMaxDownsampler downsampler = new MinMaxDownsampler(total, Math.clamp(points, 4, maxChartPoints));
+        long[] sourcePoints = new long[1];
+        balanceHistoryRepository.streamBalances(account.getId(), (createdAt, balanceCents) -> {
+            sourcePoints[0]++;
+            downsampler.add(createdAt, balanceCents);
+        });
+
+        List<MinMaxDownsampler.Point> series = downsampler.finish();
+        List<LocalDateTime> times = new ArrayList<>(series.size());
+        List<BigDecimal> balances = new ArrayList<>(series.size());
+        for (MinMaxDownsampler.Point point : series) {
+            times.add(point.time());
+            balances.add(BigDecimal.valueOf(point.value(), 2));
+        }
+        return new BalanceHistoryDTO(account.getIban(), sourcePoints[0], times, balances);
+    }
+
+    private Account findAccount(String iban, String username, boolean isAdmin) {
+        return (isAdmin
+                ? accountRepository.findByIban(iban)
+                : accountRepository.findByIbanAndOwner_Username(iban, username))
+                .orElseThrow(() -> new AccountNotFoundException("Ο λογαριασμός με IBAN " + iban + " δεν βρέθηκε"));
+    }
+
+    private static void add(Map<Bucket, ActivityBucketDTO> buckets, ActivityGranularity granularity, ActivityBucketDTO day) {
+        LocalDate period = granularity.bucketOf(day.getPeriod());
+        ActivityBucketDTO bucket = buckets.computeIfAbsent(new Bucket(period, day.getType()),
+                key -> new ActivityBucketDTO(period, day.getType(), 0L, BigDecimal.ZERO));
+        bucket.setCount(bucket.getCount() + day.getCount());
+        bucket.setTotal(bucket.getTotal().add(day.getTotal()));
+    }
+
+    private record Bucket(LocalDate period, TransactionType type) {
+    }
+}
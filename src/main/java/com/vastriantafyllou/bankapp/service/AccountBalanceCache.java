@@ -0,0 +1,108 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vastriantafyllou.bankapp.dto.AccountReadOnlyDTO;
+import com.vastriantafyllou.bankapp.event.AccountDeletedEvent;
+import com.vastriantafyllou.bankapp.event.LedgerEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * IBAN → (balance, version) for {@code getBalance}/{@code getAccountByIban}, bounded with Caffeine's W-TinyLFU
+ * eviction. Entries are loaded lazily from database reads and changed only after commit, from the
+ * {@link LedgerEvent}s every ledger write publishes; an update applies only if its {@code seq} is newer than the
+ * cached version.
+ * <p>
+ * A read that started before a commit must not re-insert the older balance after that commit's event was
+ * applied. Each event bumps a per-stripe epoch before touching the map, and {@link #populate} only inserts if
+ * the epoch it saw before reading the database is unchanged, checked atomically with the insert.
+ * <p>
+ * Events are local, so writes committed on another node never reach this cache. Entries therefore expire
+ * {@code ttl-ms} after they were written, and with {@code revalidate} on (the default) a hit is only served after
+ * one indexed lookup of {@code accounts.last_seq} confirms its version; {@code revalidate: false} is only safe
+ * when a single node writes to the database.
+ */
+@Component
+public class AccountBalanceCache {
+
+    private static final int EPOCH_STRIPES = 1024;
+
+    private final Cache<String, CachedAccount> cache;
+    private final AtomicLongArray epochs = new AtomicLongArray(EPOCH_STRIPES);
+    private final boolean revalidate;
+
+    public AccountBalanceCache(MeterRegistry meterRegistry,
+                               @Value("${app.balance-cache.max-size:100000}") long maxSize,
+                               @Value("${app.balance-cache.ttl-ms:30000}") long ttlMillis,
+                               @Value("${app.balance-cache.revalidate:true}") boolean revalidate) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        this.revalidate = revalidate;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "account-balances");
+    }
+
+    /** Whether a hit must be checked against {@code accounts.last_seq} before it is served. */
+    public boolean revalidates() {
+        return revalidate;
+    }
+
+    public record CachedAccount(long id, String iban, String accountNumber, String ownerUsername,
+                                BigDecimal balance, long version) {
+
+        public AccountReadOnlyDTO toDTO() {
+            return new AccountReadOnlyDTO(id, iban, accountNumber, balance, version);
+        }
+    }
+
+    /** The cached account, or {@code null} on a miss. Lock-free. */
+    public CachedAccount get(String iban) {
+        return cache.getIfPresent(iban);
+    }
+
+    /** Call before reading the account from the database and pass the result to {@link #populate}. */
+    public long epoch(String iban) {
+        return epochs.get(stripe(iban));
+    }
+
+    public void populate(long epoch, AccountReadOnlyDTO account, String ownerUsername) {
+        int stripe = stripe(account.getIban());
+        cache.asMap().compute(account.getIban(), (iban, cached) -> {
+            if (epochs.get(stripe) != epoch || (cached != null && cached.version() > account.getVersion())) {
+                return cached;
+            }
+            return new CachedAccount(account.getId(), iban, account.getAccountNumber(), ownerUsername,
+                    account.getBalance(), account.getVersion());
+        });
+    }
+
+    @TransactionalEventListener
+    public void onLedgerEvent(LedgerEvent event) {
+        epochs.incrementAndGet(stripe(event.iban()));
+        cache.asMap().computeIfPresent(event.iban(), (iban, cached) -> cached.version() >= event.seq()
+                ? cached
+                : new CachedAccount(cached.id(), iban, cached.accountNumber(), cached.ownerUsername(),
+                event.balanceAfter(), event.seq()));
+    }
+
+    @TransactionalEventListener
+    public void onAccountDeleted(AccountDeletedEvent event) {
+        epochs.incrementAndGet(stripe(event.iban()));
+        cache.invalidate(event.iban());
+    }
+
+    private static int stripe(String iban) {
+        int h = iban.hashCode();
+        return (h ^ (h >>> 16)) & (EPOCH_STRIPES - 1);
+    }
+}
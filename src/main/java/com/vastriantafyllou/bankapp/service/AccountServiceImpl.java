@@ -1,28 +1,57 @@
 package com.vastriantafyllou.bankapp.service;
 
+import com.vastriantafyllou.bankapp.batch.DailyRollupWriter;
+import com.vastriantafyllou.bankapp.batch.LedgerBatchWriter;
+import com.vastriantafyllou.bankapp.batch.LedgerEntry;
 import com.vastriantafyllou.bankapp.core.exception.AccountAlreadyExistsException;
 import com.vastriantafyllou.bankapp.core.exception.AccountNumberAlreadyExistsException;
 import com.vastriantafyllou.bankapp.core.exception.AccountNotFoundException;
+import com.vastriantafyllou.bankapp.core.exception.InvalidDateRangeException;
+import com.vastriantafyllou.bankapp.core.exception.InvalidFilterException;
 import com.vastriantafyllou.bankapp.core.exception.InvalidTransferException;
 import com.vastriantafyllou.bankapp.core.exception.InsufficientBalanceException;
 import com.vastriantafyllou.bankapp.core.exception.NegativeAmountException;
 import com.vastriantafyllou.bankapp.dto.AccountInsertDTO;
+import com.vastriantafyllou.bankapp.dto.AccountOverviewDTO;
 import com.vastriantafyllou.bankapp.dto.AccountReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.PostingDTO;
+import com.vastriantafyllou.bankapp.dto.TransactionFilterDTO;
+import com.vastriantafyllou.bankapp.dto.TransactionReadOnlyDTO;
+import com.vastriantafyllou.bankapp.event.AccountCreatedEvent;
+import com.vastriantafyllou.bankapp.event.AccountDeletedEvent;
+import com.vastriantafyllou.bankapp.event.LedgerEvent;
 import com.vastriantafyllou.bankapp.mapper.Mapper;
 import com.vastriantafyllou.bankapp.model.Account;
 import com.vastriantafyllou.bankapp.model.AccountTransaction;
 import com.vastriantafyllou.bankapp.model.AppUser;
 import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.core.types.Iban;
+import com.vastriantafyllou.bankapp.core.types.Money;
+import com.vastriantafyllou.bankapp.core.types.TransactionCursor;
 import com.vastriantafyllou.bankapp.repository.AccountRepository;
 import com.vastriantafyllou.bankapp.repository.AccountTransactionRepository;
+import com.vastriantafyllou.bankapp.repository.AccountTransactionSpecifications;
 import com.vastriantafyllou.bankapp.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,12 +61,70 @@ public class AccountServiceImpl implements IAccountService {
     private final AccountRepository accountRepository;
     private final AccountTransactionRepository accountTransactionRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LedgerBatchWriter ledgerBatchWriter;
+    private final DailyRollupWriter dailyRollupWriter;
+    private final AccountBalanceCache balanceCache;
+    private final RecentTransactionsBuffer recentTransactions;
+
+    // Lock waits in ms: negative waits for innodb_lock_wait_timeout, 0 is NOWAIT.
+    @Value("${app.locking.deposit-timeout-ms:3000}")
+    private int depositLockTimeoutMillis;
+
+    @Value("${app.locking.withdraw-timeout-ms:3000}")
+    private int withdrawLockTimeoutMillis;
+
+    @Value("${app.locking.transfer-timeout-ms:5000}")
+    private int transferLockTimeoutMillis;
+
+    @Value("${app.locking.nowait:false}")
+    private boolean noWait;
+
+    @Value("${app.overview.window-functions:true}")
+    private boolean overviewWindowFunctions;
 
     private AppUser requireUser(String username) {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
     }
 
+    private void append(AccountTransaction transaction) {
+        accountTransactionRepository.save(transaction);
+        Account account = transaction.getAccount();
+        // Accounts the rollup backfill has not reached yet get their rollups rebuilt by it.
+        if (account.getRollupSeq() != null) {
+            dailyRollupWriter.add(account.getId(), transaction.getCreatedAt(), transaction.getType(), transaction.getAmount());
+            account.setRollupSeq(transaction.getSeq());
+        }
+        eventPublisher.publishEvent(LedgerEvent.of(transaction));
+    }
+
+    // Must be called while holding the account's row lock, so sequence numbers stay gapless per account.
+    private long nextSeq(Account account) {
+        long last = account.getLastSeq() != null
+                ? account.getLastSeq()
+                : accountTransactionRepository.countByAccount_Id(account.getId());
+        account.setLastSeq(last + 1);
+        return last + 1;
+    }
+
+    // Another node may have written the account since a cache entry was filled; its last_seq tells.
+    private boolean isCurrent(String iban, long version) {
+        return accountRepository.findLastSeqByIban(iban).map(seq -> seq == version).orElse(false);
+    }
+
+    private int effectiveLockTimeout(int configuredMillis) {
+        return noWait ? 0 : configuredMillis;
+    }
+
+    private static Money toMoney(BigDecimal amount) {
+        try {
+            return Money.of(amount);
+        } catch (ArithmeticException e) {
+            throw new InvalidTransferException("Το ποσό " + amount.toPlainString() + " δεν είναι έγκυρο ποσό σε ευρώ");
+        }
+    }
+
     @Override
     @Transactional
     public AccountReadOnlyDTO createAccount(AccountInsertDTO dto, String username) {
@@ -50,26 +137,31 @@ public class AccountServiceImpl implements IAccountService {
         Account account = Mapper.mapToEntity(dto);
         account.setOwner(requireUser(username));
         Account savedAccount = accountRepository.save(account);
+        eventPublisher.publishEvent(new AccountCreatedEvent(savedAccount.getId(), savedAccount.getIban(),
+                savedAccount.getAccountNumber(), username));
         return Mapper.mapToReadOnlyDTO(savedAccount);
     }
 
     @Override
     @Transactional
     public void deposit(String iban, BigDecimal amount, String username, boolean isAdmin) {
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+        Money credit = toMoney(amount);
+        if (!credit.isPositive()) {
             throw new NegativeAmountException("Το ποσό κατάθεσης πρέπει να είναι θετικό");
         }
 
+        int lockTimeout = effectiveLockTimeout(depositLockTimeoutMillis);
         Account account = (isAdmin
-                ? accountRepository.findByIbanForUpdate(iban)
-                : accountRepository.findByIbanForUpdateAndOwnerUsername(iban, username))
+                ? accountRepository.findByIbanForUpdate(iban, lockTimeout)
+                : accountRepository.findByIbanForUpdateAndOwnerUsername(iban, username, lockTimeout))
                 .orElseThrow(() -> new AccountNotFoundException("Ο λογαριασμός με IBAN " + iban + " δεν βρέθηκε"));
 
-        account.setBalance(account.getBalance().add(amount));
+        account.setBalance(Money.of(account.getBalance()).plus(credit).toBigDecimal());
         accountRepository.save(account);
 
-        accountTransactionRepository.save(AccountTransaction.builder()
+        append(AccountTransaction.builder()
                 .account(account)
+                .seq(nextSeq(account))
                 .type(TransactionType.DEPOSIT)
                 .amount(amount)
                 .createdAt(LocalDateTime.now())
@@ -80,24 +172,28 @@ public class AccountServiceImpl implements IAccountService {
     @Override
     @Transactional
     public void withdraw(String iban, BigDecimal amount, String username, boolean isAdmin) {
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+        Money debit = toMoney(amount);
+        if (!debit.isPositive()) {
             throw new NegativeAmountException("Το ποσό ανάληψης πρέπει να είναι θετικό");
         }
 
+        int lockTimeout = effectiveLockTimeout(withdrawLockTimeoutMillis);
         Account account = (isAdmin
-                ? accountRepository.findByIbanForUpdate(iban)
-                : accountRepository.findByIbanForUpdateAndOwnerUsername(iban, username))
+                ? accountRepository.findByIbanForUpdate(iban, lockTimeout)
+                : accountRepository.findByIbanForUpdateAndOwnerUsername(iban, username, lockTimeout))
                 .orElseThrow(() -> new AccountNotFoundException("Ο λογαριασμός με IBAN " + iban + " δεν βρέθηκε"));
 
-        if (amount.compareTo(account.getBalance()) > 0) {
+        Money balance = Money.of(account.getBalance());
+        if (debit.isGreaterThan(balance)) {
             throw new InsufficientBalanceException("Ανεπαρκές υπόλοιπο. Διαθέσιμο: " + account.getBalance() + " €");
         }
 
-        account.setBalance(account.getBalance().subtract(amount));
+        account.setBalance(balance.minus(debit).toBigDecimal());
         accountRepository.save(account);
 
-        accountTransactionRepository.save(AccountTransaction.builder()
+        append(AccountTransaction.builder()
                 .account(account)
+                .seq(nextSeq(account))
                 .type(TransactionType.WITHDRAW)
                 .amount(amount)
                 .createdAt(LocalDateTime.now())
@@ -108,7 +204,8 @@ public class AccountServiceImpl implements IAccountService {
     @Override
     @Transactional
     public void transfer(String fromIban, String toIban, BigDecimal amount, String username, boolean isAdmin) {
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+        Money money = toMoney(amount);
+        if (!money.isPositive()) {
             throw new NegativeAmountException("Το ποσό μεταφοράς πρέπει να είναι θετικό");
         }
         if (fromIban.equals(toIban)) {
@@ -118,13 +215,14 @@ public class AccountServiceImpl implements IAccountService {
         String firstIban = fromIban.compareTo(toIban) < 0 ? fromIban : toIban;
         String secondIban = fromIban.compareTo(toIban) < 0 ? toIban : fromIban;
 
+        int lockTimeout = effectiveLockTimeout(transferLockTimeoutMillis);
         Account first = (isAdmin
-                ? accountRepository.findByIbanForUpdate(firstIban)
-                : accountRepository.findByIbanForUpdateAndOwnerUsername(firstIban, username))
+                ? accountRepository.findByIbanForUpdate(firstIban, lockTimeout)
+                : accountRepository.findByIbanForUpdateAndOwnerUsername(firstIban, username, lockTimeout))
                 .orElseThrow(() -> new AccountNotFoundException("Ο λογαριασμός με IBAN " + firstIban + " δεν βρέθηκε"));
         Account second = (isAdmin
-                ? accountRepository.findByIbanForUpdate(secondIban)
-                : accountRepository.findByIbanForUpdateAndOwnerUsername(secondIban, username))
+                ? accountRepository.findByIbanForUpdate(secondIban, lockTimeout)
+                : accountRepository.findByIbanForUpdateAndOwnerUsername(secondIban, username, lockTimeout))
                 .orElseThrow(() -> new AccountNotFoundException("Ο λογαριασμός με IBAN " + secondIban + " δεν βρέθηκε"));
 
         Account fromAccount = fromIban.equals(firstIban) ? first : second;
@@ -134,63 +232,176 @@ public class AccountServiceImpl implements IAccountService {
             throw new InvalidTransferException("Δεν επιτρέπεται μεταφορά σε λογαριασμό άλλου χρήστη");
         }
 
-        if (amount.compareTo(fromAccount.getBalance()) > 0) {
+        Money fromBalance = Money.of(fromAccount.getBalance());
+        if (money.isGreaterThan(fromBalance)) {
             throw new InsufficientBalanceException("Ανεπαρκές υπόλοιπο. Διαθέσιμο: " + fromAccount.getBalance() + " €");
         }
 
-        fromAccount.setBalance(fromAccount.getBalance().subtract(amount));
-        toAccount.setBalance(toAccount.getBalance().add(amount));
+        fromAccount.setBalance(fromBalance.minus(money).toBigDecimal());
+        toAccount.setBalance(Money.of(toAccount.getBalance()).plus(money).toBigDecimal());
 
         accountRepository.save(fromAccount);
         accountRepository.save(toAccount);
 
         LocalDateTime now = LocalDateTime.now();
-        accountTransactionRepository.save(AccountTransaction.builder()
+        UUID transferId = UUID.randomUUID();
+        append(AccountTransaction.builder()
                 .account(fromAccount)
+                .seq(nextSeq(fromAccount))
                 .type(TransactionType.TRANSFER_OUT)
                 .amount(amount)
                 .createdAt(now)
-                .counterpartyIban(toIban)
+                .counterpartyIban(Iban.parse(toAccount.getIban()))
+                .counterpartyAccount(toAccount)
+                .transferId(transferId)
                 .balanceAfter(fromAccount.getBalance())
                 .build());
 
-        accountTransactionRepository.save(AccountTransaction.builder()
+        append(AccountTransaction.builder()
                 .account(toAccount)
+                .seq(nextSeq(toAccount))
                 .type(TransactionType.TRANSFER_IN)
                 .amount(amount)
                 .createdAt(now)
-                .counterpartyIban(fromIban)
+                .counterpartyIban(Iban.parse(fromAccount.getIban()))
+                .counterpartyAccount(fromAccount)
+                .transferId(transferId)
                 .balanceAfter(toAccount.getBalance())
                 .build());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
+    public UUID transfer(List<PostingDTO> postings, String username, boolean isAdmin) {
+        // Net amount per account, in the iban order the rows are locked and written in.
+        SortedMap<String, Money> net = new TreeMap<>();
+        Money total = Money.ZERO;
+        for (PostingDTO posting : postings) {
+            Money amount = toMoney(posting.getAmount());
+            if (amount.signum() == 0) {
+                throw new NegativeAmountException("Το ποσό κάθε εγγραφής πρέπει να είναι διάφορο του μηδενός");
+            }
+            net.merge(posting.getIban(), amount, Money::plus);
+            total = total.plus(amount);
+        }
+        if (total.signum() != 0) {
+            throw new InvalidTransferException("Το άθροισμα χρεώσεων και πιστώσεων πρέπει να είναι μηδέν");
+        }
+        if (net.size() < 2 || net.values().stream().anyMatch(amount -> amount.signum() == 0)) {
+            throw new InvalidTransferException("Δεν επιτρέπεται μεταφορά στον ίδιο λογαριασμό");
+        }
+
+        int lockTimeout = effectiveLockTimeout(transferLockTimeoutMillis);
+        List<Account> accounts = isAdmin
+                ? accountRepository.findAllByIbanInForUpdate(net.keySet(), lockTimeout)
+                : accountRepository.findAllByIbanInForUpdateAndOwnerUsername(net.keySet(), username, lockTimeout);
+        if (accounts.size() != net.size()) {
+            Set<String> found = accounts.stream().map(Account::getIban).collect(Collectors.toSet());
+            String missing = net.keySet().stream().filter(iban -> !found.contains(iban)).findFirst().orElseThrow();
+            throw new AccountNotFoundException("Ο λογαριασμός με IBAN " + missing + " δεν βρέθηκε");
+        }
+
+        AppUser owner = accounts.get(0).getOwner();
+        if (owner == null || accounts.stream().anyMatch(account -> !owner.equals(account.getOwner()))) {
+            throw new InvalidTransferException("Δεν επιτρέπεται μεταφορά σε λογαριασμό άλλου χρήστη");
+        }
+        for (Account account : accounts) {
+            Money amount = net.get(account.getIban());
+            if (amount.isNegative() && amount.negate().isGreaterThan(Money.of(account.getBalance()))) {
+                throw new InsufficientBalanceException("Ανεπαρκές υπόλοιπο στον λογαριασμό " + account.getIban()
+                        + ". Διαθέσιμο: " + account.getBalance() + " €");
+            }
+        }
+
+        // With a single account on the other side (one debit, N credits or the reverse) the legs name it as counterparty.
+        List<Account> debited = accounts.stream().filter(a -> net.get(a.getIban()).signum() < 0).toList();
+        List<Account> credited = accounts.stream().filter(a -> net.get(a.getIban()).signum() > 0).toList();
+        Account debitCounterparty = credited.size() == 1 ? credited.get(0) : null;
+        Account creditCounterparty = debited.size() == 1 ? debited.get(0) : null;
+
+        UUID transferId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        List<LedgerEntry> entries = new ArrayList<>(accounts.size());
+        for (Account account : accounts) {
+            Money amount = net.get(account.getIban());
+            Account counterparty = amount.isNegative() ? debitCounterparty : creditCounterparty;
+            long lastSeq = account.getLastSeq() != null
+                    ? account.getLastSeq()
+                    : accountTransactionRepository.countByAccount_Id(account.getId());
+            entries.add(new LedgerEntry(
+                    account.getId(),
+                    account.getIban(),
+                    lastSeq + 1,
+                    amount.isNegative() ? TransactionType.TRANSFER_OUT : TransactionType.TRANSFER_IN,
+                    (amount.isNegative() ? amount.negate() : amount).toBigDecimal(),
+                    Money.of(account.getBalance()).plus(amount).toBigDecimal(),
+                    now,
+                    transferId,
+                    counterparty == null ? null : counterparty.getId(),
+                    counterparty == null ? null : Iban.parse(counterparty.getIban())));
+        }
+        // The locked entities stay untouched, so Hibernate has nothing to flush over the batched update.
+        ledgerBatchWriter.write(entries);
+        return transferId;
+    }
+
+    // No transaction here: a cache hit must not take a pooled connection.
+    @Override
     public BigDecimal getBalance(String iban, String username, boolean isAdmin) {
-        Account account = (isAdmin
-                ? accountRepository.findByIban(iban)
-                : accountRepository.findByIbanAndOwner_Username(iban, username))
-                .orElseThrow(() -> new AccountNotFoundException("Ο λογαριασμός με IBAN " + iban + " δεν βρέθηκε"));
-        return account.getBalance();
+        return getAccountByIban(iban, username, isAdmin).getBalance();
     }
 
+    // Admins page through every account with IAdminAccountService instead.
     @Override
     @Transactional(readOnly = true)
-    public List<AccountReadOnlyDTO> getAllAccounts(String username, boolean isAdmin) {
-        return (isAdmin ? accountRepository.findAll() : accountRepository.findByOwner_Username(username))
+    public List<AccountReadOnlyDTO> getAllAccounts(String username) {
+        return accountRepository.findByOwner_Username(username)
                 .stream()
                 .map(Mapper::mapToReadOnlyDTO)
                 .collect(Collectors.toList());
     }
 
+    // Two queries however many accounts the user has: the accounts, then the newest rows of all of them at once.
     @Override
     @Transactional(readOnly = true)
+    public List<AccountOverviewDTO> getAccountOverview(String username, int perAccount) {
+        List<Account> accounts = accountRepository.findByOwner_Username(username);
+        if (accounts.isEmpty()) {
+            return List.of();
+        }
+        List<Long> accountIds = accounts.stream().map(Account::getId).toList();
+        List<AccountTransaction> newest = overviewWindowFunctions
+                ? accountTransactionRepository.findNewestPerAccount(accountIds, perAccount)
+                : accountTransactionRepository.findNewestPerAccountBySeq(accountIds, perAccount);
+
+        Map<Long, List<TransactionReadOnlyDTO>> byAccount = newest.stream()
+                .collect(Collectors.groupingBy(t -> t.getAccount().getId(),
+                        Collectors.mapping(Mapper::mapToReadOnlyDTO, Collectors.toList())));
+        return accounts.stream()
+                .map(account -> new AccountOverviewDTO(Mapper.mapToReadOnlyDTO(account),
+                        byAccount.getOrDefault(account.getId(), List.of())))
+                .toList();
+    }
+
+    @Override
     public AccountReadOnlyDTO getAccountByIban(String iban, String username, boolean isAdmin) {
+        AccountBalanceCache.CachedAccount cached = balanceCache.get(iban);
+        if (cached != null && (isAdmin || username.equals(cached.ownerUsername()))
+                && (!balanceCache.revalidates() || isCurrent(iban, cached.version()))) {
+            return cached.toDTO();
+        }
+
+        long epoch = balanceCache.epoch(iban);
         Account account = (isAdmin
                 ? accountRepository.findByIban(iban)
                 : accountRepository.findByIbanAndOwner_Username(iban, username))
                 .orElseThrow(() -> new AccountNotFoundException("Ο λογαριασμός με IBAN " + iban + " δεν βρέθηκε"));
-        return Mapper.mapToReadOnlyDTO(account);
+        AccountReadOnlyDTO dto = Mapper.mapToReadOnlyDTO(account);
+        // The admin lookup leaves the owner unloaded, so only owner lookups fill the cache.
+        if (!isAdmin) {
+            balanceCache.populate(epoch, dto, username);
+        }
+        return dto;
     }
 
     @Override
@@ -205,6 +416,112 @@ public class AccountServiceImpl implements IAccountService {
         return accountTransactionRepository.findByAccount_IbanOrderByCreatedAtDesc(iban);
     }
 
+    // No transaction here: a first page served from the buffer must not take a pooled connection.
+    @Override
+    public Slice<AccountTransaction> getTransactionHistoryPage(String iban, int page, int size, String username, boolean isAdmin) {
+        if (page == 0) {
+            RecentTransactionsBuffer.Recent recent = recentTransactions.newest(iban, size);
+            if (recent != null && (isAdmin || username.equals(recent.ownerUsername()))) {
+                if (!recentTransactions.revalidates() || isCurrent(iban, recent.lastSeq())) {
+                    return new SliceImpl<>(recent.transactions(), PageRequest.of(0, size), recent.hasMore());
+                }
+                recentTransactions.invalidate(iban);
+            }
+        }
+
+        long epoch = recentTransactions.epoch(iban);
+        Account account = (isAdmin
+                ? accountRepository.findByIban(iban)
+                : accountRepository.findByIbanAndOwner_Username(iban, username))
+                .orElseThrow(() -> new AccountNotFoundException("Ο λογαριασμός με IBAN " + iban + " δεν βρέθηκε"));
+        if (page != 0) {
+            return accountTransactionRepository.findByAccount_IdOrderByIdDesc(account.getId(), PageRequest.of(page, size));
+        }
+
+        // Read enough rows to seed the buffer, then answer the requested size from them.
+        Slice<AccountTransaction> newest = accountTransactionRepository.findByAccount_IdOrderByIdDesc(account.getId(),
+                PageRequest.of(0, Math.max(size, recentTransactions.capacity())));
+        List<AccountTransaction> rows = newest.getContent();
+        recentTransactions.seed(epoch, iban, isAdmin ? null : username, rows, !newest.hasNext());
+        return new SliceImpl<>(rows.subList(0, Math.min(size, rows.size())), PageRequest.of(0, size),
+                rows.size() > size || newest.hasNext());
+    }
+
+    // One extra row tells whether another page exists without a count query.
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<AccountTransaction> searchTransactions(String iban, TransactionFilterDTO filter, TransactionCursor cursor, int size,
+                                                        String username, boolean isAdmin) {
+        Account account = (isAdmin
+                ? accountRepository.findByIban(iban)
+                : accountRepository.findByIbanAndOwner_Username(iban, username))
+                .orElseThrow(() -> new AccountNotFoundException("Ο λογαριασμός με IBAN " + iban + " δεν βρέθηκε"));
+
+        Specification<AccountTransaction> spec = toSpecification(account.getId(), filter);
+        if (cursor != null) {
+            spec = spec.and(AccountTransactionSpecifications.after(cursor));
+        }
+        List<AccountTransaction> rows = accountTransactionRepository.findBy(spec,
+                query -> query.sortBy(AccountTransactionSpecifications.KEYSET_ORDER).limit(size + 1).all());
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, PageRequest.of(0, size), hasNext);
+    }
+
+    private static Specification<AccountTransaction> toSpecification(Long accountId, TransactionFilterDTO filter) {
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter(filter.getTo())) {
+            throw new InvalidDateRangeException("Η αρχική ημερομηνία πρέπει να είναι πριν από την τελική");
+        }
+        if (filter.getMinAmount() != null && filter.getMaxAmount() != null
+                && filter.getMinAmount().compareTo(filter.getMaxAmount()) > 0) {
+            throw new InvalidFilterException("Το ελάχιστο ποσό δεν μπορεί να είναι μεγαλύτερο από το μέγιστο");
+        }
+
+        Specification<AccountTransaction> spec = AccountTransactionSpecifications.ofAccount(accountId);
+        if (filter.getFrom() != null) {
+            spec = spec.and(AccountTransactionSpecifications.createdFrom(filter.getFrom().atStartOfDay()));
+        }
+        if (filter.getTo() != null) {
+            spec = spec.and(AccountTransactionSpecifications.createdBefore(filter.getTo().plusDays(1).atStartOfDay()));
+        }
+        if (filter.getType() != null) {
+            spec = spec.and(AccountTransactionSpecifications.ofType(filter.getType()));
+        }
+        if (filter.getMinAmount() != null) {
+            spec = spec.and(AccountTransactionSpecifications.amountAtLeast(filter.getMinAmount()));
+        }
+        if (filter.getMaxAmount() != null) {
+            spec = spec.and(AccountTransactionSpecifications.amountAtMost(filter.getMaxAmount()));
+        }
+        if (filter.getCounterpartyIban() != null && !filter.getCounterpartyIban().isBlank()) {
+            Iban counterparty = Iban.tryParse(filter.getCounterpartyIban().strip());
+            if (counterparty == null) {
+                throw new InvalidFilterException("Μη έγκυρο IBAN αντισυμβαλλόμενου: " + filter.getCounterpartyIban());
+            }
+            spec = spec.and(AccountTransactionSpecifications.withCounterparty(counterparty));
+        }
+        return spec;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getLastSeq(String iban, String username, boolean isAdmin) {
+        Account account = (isAdmin
+                ? accountRepository.findByIban(iban)
+                : accountRepository.findByIbanAndOwner_Username(iban, username))
+                .orElseThrow(() -> new AccountNotFoundException("Ο λογαριασμός με IBAN " + iban + " δεν βρέθηκε"));
+        return account.getLastSeq() == null ? 0 : account.getLastSeq();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountTransaction> getTransactionsAfterSeq(String iban, long afterSeq, int limit, String username, boolean isAdmin) {
+        Account account = (isAdmin
+                ? accountRepository.findByIban(iban)
+                : accountRepository.findByIbanAndOwner_Username(iban, username))
+                .orElseThrow(() -> new AccountNotFoundException("Ο λογαριασμός με IBAN " + iban + " δεν βρέθηκε"));
+        return accountTransactionRepository.findByAccount_IdAndSeqGreaterThanOrderBySeqAsc(account.getId(), afterSeq, Limit.of(limit));
+    }
+
     @Override
     @Transactional
     public void deleteAccount(String iban, String username, boolean isAdmin) {
@@ -213,6 +530,9 @@ public class AccountServiceImpl implements IAccountService {
                 : accountRepository.findByIbanAndOwner_Username(iban, username))
                 .orElseThrow(() -> new AccountNotFoundException("Ο λογαριασμός με IBAN " + iban + " δεν βρέθηκε"));
         accountTransactionRepository.deleteByAccount_Iban(iban);
+        dailyRollupWriter.deleteAccount(account.getId());
+        accountTransactionRepository.clearCounterpartyAccount(account);
         accountRepository.delete(account);
+        eventPublisher.publishEvent(new AccountDeletedEvent(iban));
     }
 }
@@ -0,0 +1,146 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.event.LedgerEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed ledger events to Server-Sent Events subscribers of an account.
+ * Each subscriber has a bounded buffer; a subscriber whose buffer overflows is disconnected instead of
+ * slowing down the publisher, and its page falls back to a full reload.
+ */
+@Service
+public class AccountStreamService {
+
+    private final ConcurrentHashMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    public AccountStreamService(@Value("${app.stream.buffer-size:32}") int bufferSize,
+                                @Value("${app.stream.timeout-ms:1800000}") long timeoutMillis) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public SseEmitter subscribe(String iban) {
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(iban, emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.computeIfAbsent(iban, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        return emitter;
+    }
+
+    public int subscriberCount(String iban) {
+        Set<Subscriber> set = subscribers.get(iban);
+        return set == null ? 0 : set.size();
+    }
+
+    /** Package-private so tests can substitute an emitter that is not bound to a servlet response. */
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @TransactionalEventListener
+    public void onLedgerEvent(LedgerEvent event) {
+        Set<Subscriber> set = subscribers.get(event.iban());
+        if (set == null) {
+            return;
+        }
+        for (Subscriber subscriber : set) {
+            subscriber.offer(event);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(s -> s.emitter.complete()));
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.computeIfPresent(subscriber.iban, (k, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private void drop(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    /** The connection is already broken, so the emitter is failed rather than completed normally. */
+    private void fail(Subscriber subscriber, Throwable cause) {
+        remove(subscriber);
+        subscriber.emitter.completeWithError(cause);
+    }
+
+    private final class Subscriber {
+
+        private final String iban;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<LedgerEvent> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(String iban, SseEmitter emitter, ArrayBlockingQueue<LedgerEvent> queue) {
+            this.iban = iban;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        private void offer(LedgerEvent event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                drop(this);
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                LedgerEvent event;
+                while (!closed && (event = queue.poll()) != null) {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.seq()))
+                            .name("ledger")
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                fail(this, e);
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            if (!closed && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.AccountSortField;
+import com.vastriantafyllou.bankapp.core.exception.InvalidFilterException;
+import com.vastriantafyllou.bankapp.core.types.AccountCursor;
+import com.vastriantafyllou.bankapp.dto.AccountTotalsDTO;
+import com.vastriantafyllou.bankapp.dto.AdminAccountPageDTO;
+import com.vastriantafyllou.bankapp.dto.AdminAccountRowDTO;
+import com.vastriantafyllou.bankapp.repository.AdminAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Admin listing of all accounts one keyset page at a time, so neither the page nor the export holds the accounts
+ * table in memory.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminAccountServiceImpl implements IAdminAccountService {
+
+    private final AdminAccountRepository adminAccountRepository;
+
+    // One extra row tells whether another page exists without a count query.
+    @Override
+    @Transactional(readOnly = true)
+    public AdminAccountPageDTO getAccounts(AccountSortField sort, boolean descending, String cursor, int size) {
+        Object afterKey = null;
+        Long afterId = null;
+        if (cursor != null) {
+            AccountCursor after = AccountCursor.tryParse(cursor);
+            if (after == null || after.field() != sort || after.descending() != descending) {
+                throw new InvalidFilterException("Μη έγκυρος δείκτης σελίδας");
+            }
+            afterKey = sort == AccountSortField.BALANCE ? parseBalance(after.value()) : after.value();
+            afterId = after.id();
+        }
+
+        List<AdminAccountRowDTO> rows = adminAccountRepository.findPage(sort, descending, afterKey, afterId, size + 1);
+        if (rows.size() <= size) {
+            return new AdminAccountPageDTO(null, rows);
+        }
+        List<AdminAccountRowDTO> page = rows.subList(0, size);
+        return new AdminAccountPageDTO(cursorAfter(sort, descending, page.get(size - 1)).encode(), page);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AccountTotalsDTO getTotals() {
+        AccountTotalsDTO totals = adminAccountRepository.totals();
+        if (totals.getTotalBalance() == null) {
+            totals.setTotalBalance(BigDecimal.ZERO);
+        }
+        return totals;
+    }
+
+    @Override
+    public void exportAccounts(Consumer<AdminAccountRowDTO> consumer) {
+        adminAccountRepository.streamAll(consumer);
+    }
+
+    private static AccountCursor cursorAfter(AccountSortField sort, boolean descending, AdminAccountRowDTO row) {
+        String value = switch (sort) {
+            case BALANCE -> row.getBalance().toPlainString();
+            case IBAN -> row.getIban();
+            case OWNER -> row.getOwnerUsername();
+        };
+        return new AccountCursor(sort, descending, value, row.getId());
+    }
+
+    private static BigDecimal parseBalance(String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidFilterException("Μη έγκυρος δείκτης σελίδας");
+        }
+    }
+}
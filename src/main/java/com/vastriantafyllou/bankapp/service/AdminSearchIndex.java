@@ -0,0 +1,133 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.SearchHitKind;
+import com.vastriantafyllou.bankapp.core.search.NgramIndex;
+import com.vastriantafyllou.bankapp.dto.SearchHitDTO;
+import com.vastriantafyllou.bankapp.event.AccountCreatedEvent;
+import com.vastriantafyllou.bankapp.event.AccountDeletedEvent;
+import com.vastriantafyllou.bankapp.event.UserProfileChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Admin lookup of users (username, names, email) and accounts (IBAN, account number, owner) by prefix or
+ * substring, from an {@link NgramIndex} held in memory. It is filled at startup by streaming both tables and kept
+ * current by the events {@link UserServiceImpl} and {@link AccountServiceImpl} publish after commit.
+ * <p>
+ * Events that arrive while the startup load is still running win over the rows it streams: their keys are
+ * remembered, and the load skips them.
+ */
+@Slf4j
+@Component
+public class AdminSearchIndex {
+
+    private final NgramIndex<SearchHitDTO> index = new NgramIndex<>();
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final boolean enabled;
+
+    private Set<String> changedDuringLoad;
+
+    public AdminSearchIndex(DataSource dataSource, @Value("${app.admin-search.enabled:true}") boolean enabled) {
+        // MySQL Connector/J streams rows one at a time only with this fetch size.
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.enabled = enabled;
+    }
+
+    public List<SearchHitDTO> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            changedDuringLoad = new HashSet<>();
+        }
+        long start = System.nanoTime();
+        streamingJdbcTemplate.query(
+                "SELECT id, username, first_name, last_name, email FROM app_users",
+                rs -> putUnlessChanged(user(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.getString(5))));
+        streamingJdbcTemplate.query(
+                "SELECT a.id, a.iban, a.account_number, u.username FROM accounts a " +
+                        "LEFT JOIN app_users u ON u.id = a.owner_id",
+                rs -> putUnlessChanged(account(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4))));
+        synchronized (this) {
+            changedDuringLoad = null;
+        }
+        log.info("Admin search index loaded {} users and accounts in {} ms", index.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        put(user(event.userId(), event.username(), event.firstName(), event.lastName(), event.email()));
+    }
+
+    @TransactionalEventListener
+    public void onAccountCreated(AccountCreatedEvent event) {
+        put(account(event.accountId(), event.iban(), event.accountNumber(), event.ownerUsername()));
+    }
+
+    @TransactionalEventListener
+    public void onAccountDeleted(AccountDeletedEvent event) {
+        String key = accountKey(event.iban());
+        synchronized (this) {
+            markChanged(key);
+            index.remove(key);
+        }
+    }
+
+    private synchronized void put(Document document) {
+        markChanged(document.key());
+        index.put(document.key(), document.hit(), document.texts());
+    }
+
+    private synchronized void putUnlessChanged(Document document) {
+        if (changedDuringLoad == null || !changedDuringLoad.contains(document.key())) {
+            index.put(document.key(), document.hit(), document.texts());
+        }
+    }
+
+    private void markChanged(String key) {
+        if (changedDuringLoad != null) {
+            changedDuringLoad.add(key);
+        }
+    }
+
+    private static String userKey(long id) {
+        return "user:" + id;
+    }
+
+    private static String accountKey(String iban) {
+        return "account:" + iban;
+    }
+
+    private static Document user(long id, String username, String firstName, String lastName, String email) {
+        String name = ((firstName == null ? "" : firstName) + " " + (lastName == null ? "" : lastName)).strip();
+        String detail = email == null ? name : (name.isEmpty() ? email : name + " · " + email);
+        return new Document(userKey(id), new SearchHitDTO(SearchHitKind.USER, id, username, detail),
+                new String[]{username, firstName, lastName, email});
+    }
+
+    private static Document account(long id, String iban, String accountNumber, String ownerUsername) {
+        return new Document(accountKey(iban), new SearchHitDTO(SearchHitKind.ACCOUNT, id, iban, ownerUsername),
+                new String[]{iban, accountNumber, ownerUsername});
+    }
+
+    private record Document(String key, SearchHitDTO hit, String[] texts) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.types.TransactionCursor;
+import com.vastriantafyllou.bankapp.dto.AccountInsertDTO;
+import com.vastriantafyllou.bankapp.dto.AccountOverviewDTO;
+import com.vastriantafyllou.bankapp.dto.AccountReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.PostingDTO;
+import com.vastriantafyllou.bankapp.dto.TransactionFilterDTO;
+import com.vastriantafyllou.bankapp.model.AccountTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static com.vastriantafyllou.bankapp.service.ReadCoalescer.scope;
+
+/**
+ * Outermost {@link IAccountService}: coalesces identical concurrent reads through {@link ReadCoalescer} and hands
+ * writes to {@link LockRetryingAccountService}. Owners are keyed by username and admins share one scope, since
+ * an admin read returns the same data whoever asks.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+public class CoalescingAccountService implements IAccountService {
+
+    private final LockRetryingAccountService delegate;
+    private final ReadCoalescer coalescer;
+
+    @Override
+    public AccountReadOnlyDTO createAccount(AccountInsertDTO dto, String username) {
+        AccountReadOnlyDTO account = delegate.createAccount(dto, username);
+        coalescer.invalidate();
+        return account;
+    }
+
+    @Override
+    public void deposit(String iban, BigDecimal amount, String username, boolean isAdmin) {
+        delegate.deposit(iban, amount, username, isAdmin);
+        coalescer.invalidate();
+    }
+
+    @Override
+    public void withdraw(String iban, BigDecimal amount, String username, boolean isAdmin) {
+        delegate.withdraw(iban, amount, username, isAdmin);
+        coalescer.invalidate();
+    }
+
+    @Override
+    public void transfer(String fromIban, String toIban, BigDecimal amount, String username, boolean isAdmin) {
+        delegate.transfer(fromIban, toIban, amount, username, isAdmin);
+        coalescer.invalidate();
+    }
+
+    @Override
+    public UUID transfer(List<PostingDTO> postings, String username, boolean isAdmin) {
+        UUID transferId = delegate.transfer(postings, username, isAdmin);
+        coalescer.invalidate();
+        return transferId;
+    }
+
+    @Override
+    public BigDecimal getBalance(String iban, String username, boolean isAdmin) {
+        return coalescer.read("account.getBalance",
+                () -> delegate.getBalance(iban, username, isAdmin),
+                iban, scope(username, isAdmin));
+    }
+
+    @Override
+    public List<AccountReadOnlyDTO> getAllAccounts(String username) {
+        return coalescer.read("account.getAllAccounts",
+                () -> delegate.getAllAccounts(username),
+                username);
+    }
+
+    @Override
+    public List<AccountOverviewDTO> getAccountOverview(String username, int perAccount) {
+        return coalescer.read("account.getAccountOverview",
+                () -> delegate.getAccountOverview(username, perAccount),
+                username, perAccount);
+    }
+
+    @Override
+    public AccountReadOnlyDTO getAccountByIban(String iban, String username, boolean isAdmin) {
+        return coalescer.read("account.getAccountByIban",
+                () -> delegate.getAccountByIban(iban, username, isAdmin),
+                iban, scope(username, isAdmin));
+    }
+
+    // The history reads return managed AccountTransaction entities of the caller's persistence context, which must
+    // not be handed to other request threads, so they are never coalesced.
+    @Override
+    public List<AccountTransaction> getTransactionHistory(String iban, String username, boolean isAdmin) {
+        return delegate.getTransactionHistory(iban, username, isAdmin);
+    }
+
+    @Override
+    public Slice<AccountTransaction> getTransactionHistoryPage(String iban, int page, int size, String username, boolean isAdmin) {
+        return delegate.getTransactionHistoryPage(iban, page, size, username, isAdmin);
+    }
+
+    // Filter combinations rarely repeat concurrently, so searches are not coalesced.
+    @Override
+    public Slice<AccountTransaction> searchTransactions(String iban, TransactionFilterDTO filter, TransactionCursor cursor, int size,
+                                                        String username, boolean isAdmin) {
+        return delegate.searchTransactions(iban, filter, cursor, size, username, isAdmin);
+    }
+
+    @Override
+    public long getLastSeq(String iban, String username, boolean isAdmin) {
+        return coalescer.read("account.getLastSeq",
+                () -> delegate.getLastSeq(iban, username, isAdmin),
+                iban, scope(username, isAdmin));
+    }
+
+    @Override
+    public List<AccountTransaction> getTransactionsAfterSeq(String iban, long afterSeq, int limit, String username, boolean isAdmin) {
+        return delegate.getTransactionsAfterSeq(iban, afterSeq, limit, username, isAdmin);
+    }
+
+    @Override
+    public void deleteAccount(String iban, String username, boolean isAdmin) {
+        delegate.deleteAccount(iban, username, isAdmin);
+        coalescer.invalidate();
+    }
+}
@@ -0,0 +1,89 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.Role;
+import com.vastriantafyllou.bankapp.dto.ChangePasswordDTO;
+import com.vastriantafyllou.bankapp.dto.RegisterDTO;
+import com.vastriantafyllou.bankapp.dto.UpdateProfileDTO;
+import com.vastriantafyllou.bankapp.dto.UserReadOnlyDTO;
+import com.vastriantafyllou.bankapp.model.AppUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Coalesces identical concurrent reads of the admin user views through {@link ReadCoalescer}. These are only
+ * reachable by admins, so they share one scope. {@link #getByUsername} is never coalesced: it returns the
+ * entity, which callers may change.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+public class CoalescingUserService implements IUserService {
+
+    private final UserServiceImpl delegate;
+    private final ReadCoalescer coalescer;
+
+    @Override
+    public AppUser register(RegisterDTO dto) {
+        AppUser user = delegate.register(dto);
+        coalescer.invalidate();
+        return user;
+    }
+
+    @Override
+    public AppUser getByUsername(String username) {
+        return delegate.getByUsername(username);
+    }
+
+    @Override
+    public void updateProfile(String username, UpdateProfileDTO dto) {
+        delegate.updateProfile(username, dto);
+        coalescer.invalidate();
+    }
+
+    @Override
+    public void changePassword(String username, ChangePasswordDTO dto) {
+        delegate.changePassword(username, dto);
+    }
+
+    @Override
+    public List<UserReadOnlyDTO> getAllUsers() {
+        return coalescer.read("user.getAllUsers", delegate::getAllUsers);
+    }
+
+    @Override
+    public UserReadOnlyDTO getUserById(Long id) {
+        return coalescer.read("user.getUserById", () -> delegate.getUserById(id), id);
+    }
+
+    @Override
+    public void blockUser(Long userId) {
+        delegate.blockUser(userId);
+        coalescer.invalidate();
+    }
+
+    @Override
+    public void unblockUser(Long userId) {
+        delegate.unblockUser(userId);
+        coalescer.invalidate();
+    }
+
+    @Override
+    public void assignRole(Long userId, Role role) {
+        delegate.assignRole(userId, role);
+        coalescer.invalidate();
+    }
+
+    @Override
+    public void removeRole(Long userId, Role role) {
+        delegate.removeRole(userId, role);
+        coalescer.invalidate();
+    }
+
+    @Override
+    public long countUsers() {
+        return coalescer.read("user.countUsers", delegate::countUsers);
+    }
+}
@@ -1,9 +1,12 @@
 package com.vastriantafyllou.bankapp.service;
 
+import com.vastriantafyllou.bankapp.core.enums.Role;
+import com.vastriantafyllou.bankapp.core.types.RoleSetConverter;
 import com.vastriantafyllou.bankapp.model.AppUser;
 import com.vastriantafyllou.bankapp.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,12 +14,24 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
+    /** The authority set of every possible role mask, built once and shared by all logins with that mask. */
+    private static final List<Set<GrantedAuthority>> AUTHORITIES = IntStream
+            .rangeClosed(0, RoleSetConverter.toMask(EnumSet.allOf(Role.class)))
+            .mapToObj(mask -> RoleSetConverter.fromMask(mask).stream()
+                    .map(r -> (GrantedAuthority) new SimpleGrantedAuthority("ROLE_" + r.name()))
+                    .collect(Collectors.toUnmodifiableSet()))
+            .toList();
+
     private final UserRepository userRepository;
 
     @Override
@@ -31,9 +46,11 @@ public class CustomUserDetailsService implements UserDetailsService {
         return User.builder()
                 .username(appUser.getUsername())
                 .password(appUser.getPassword())
-                .authorities(appUser.getRoles().stream()
-                        .map(r -> new SimpleGrantedAuthority("ROLE_" + r.name()))
-                        .collect(Collectors.toSet()))
+                .authorities(authorities(appUser.getRoles()))
                 .build();
     }
+
+    static Set<GrantedAuthority> authorities(Set<Role> roles) {
+        return AUTHORITIES.get(RoleSetConverter.toMask(roles));
+    }
 }
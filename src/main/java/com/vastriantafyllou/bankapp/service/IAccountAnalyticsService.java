@@ -0,0 +1,15 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.ActivityGranularity;
+import com.vastriantafyllou.bankapp.dto.ActivityBucketDTO;
+import com.vastriantafyllou.bankapp.dto.BalanceHistoryDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IAccountAnalyticsService {
+    List<ActivityBucketDTO> getActivity(String iban, LocalDate from, LocalDate to, ActivityGranularity granularity,
+                                        String username, boolean isAdmin);
+
+    BalanceHistoryDTO getBalanceHistory(String iban, int points, String username, boolean isAdmin);
+}
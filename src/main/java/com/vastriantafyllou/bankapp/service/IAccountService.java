@@ -1,20 +1,33 @@
 package com.vastriantafyllou.bankapp.service;
 
+import com.vastriantafyllou.bankapp.core.types.TransactionCursor;
 import com.vastriantafyllou.bankapp.dto.AccountInsertDTO;
+import com.vastriantafyllou.bankapp.dto.AccountOverviewDTO;
 import com.vastriantafyllou.bankapp.dto.AccountReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.PostingDTO;
+import com.vastriantafyllou.bankapp.dto.TransactionFilterDTO;
 import com.vastriantafyllou.bankapp.model.AccountTransaction;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.UUID;
 
 public interface IAccountService {
     AccountReadOnlyDTO createAccount(AccountInsertDTO dto, String username);
     void deposit(String iban, BigDecimal amount, String username, boolean isAdmin);
     void withdraw(String iban, BigDecimal amount, String username, boolean isAdmin);
     void transfer(String fromIban, String toIban, BigDecimal amount, String username, boolean isAdmin);
+    UUID transfer(List<PostingDTO> postings, String username, boolean isAdmin);
     BigDecimal getBalance(String iban, String username, boolean isAdmin);
-    List<AccountReadOnlyDTO> getAllAccounts(String username, boolean isAdmin);
+    List<AccountReadOnlyDTO> getAllAccounts(String username);
+    List<AccountOverviewDTO> getAccountOverview(String username, int perAccount);
     AccountReadOnlyDTO getAccountByIban(String iban, String username, boolean isAdmin);
     List<AccountTransaction> getTransactionHistory(String iban, String username, boolean isAdmin);
+    Slice<AccountTransaction> getTransactionHistoryPage(String iban, int page, int size, String username, boolean isAdmin);
+    Slice<AccountTransaction> searchTransactions(String iban, TransactionFilterDTO filter, TransactionCursor cursor, int size,
+                                                 String username, boolean isAdmin);
+    long getLastSeq(String iban, String username, boolean isAdmin);
+    List<AccountTransaction> getTransactionsAfterSeq(String iban, long afterSeq, int limit, String username, boolean isAdmin);
     void deleteAccount(String iban, String username, boolean isAdmin);
 }
@@ -0,0 +1,14 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.AccountSortField;
+import com.vastriantafyllou.bankapp.dto.AccountTotalsDTO;
+import com.vastriantafyllou.bankapp.dto.AdminAccountPageDTO;
+import com.vastriantafyllou.bankapp.dto.AdminAccountRowDTO;
+
+import java.util.function.Consumer;
+
+public interface IAdminAccountService {
+    AdminAccountPageDTO getAccounts(AccountSortField sort, boolean descending, String cursor, int size);
+    AccountTotalsDTO getTotals();
+    void exportAccounts(Consumer<AdminAccountRowDTO> consumer);
+}
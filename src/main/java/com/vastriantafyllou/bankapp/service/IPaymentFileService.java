@@ -0,0 +1,16 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.dto.IngestionJobReadOnlyDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+public interface IPaymentFileService {
+    IngestionJobReadOnlyDTO submitFile(String fileName, InputStream content, String username) throws IOException;
+    List<IngestionJobReadOnlyDTO> getJobs();
+    IngestionJobReadOnlyDTO getJob(Long id);
+    IngestionJobReadOnlyDTO resumeJob(Long id);
+    Path getResultFile(Long id);
+}
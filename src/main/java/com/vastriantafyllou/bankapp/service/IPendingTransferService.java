@@ -0,0 +1,9 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.dto.PendingTransferReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.TransferRequestDTO;
+
+public interface IPendingTransferService {
+    PendingTransferReadOnlyDTO submitTransfer(TransferRequestDTO dto, String username, boolean isAdmin);
+    PendingTransferReadOnlyDTO getPendingTransfer(Long id, String username, boolean isAdmin);
+}
@@ -0,0 +1,12 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.dto.ReconciliationMismatchDTO;
+import com.vastriantafyllou.bankapp.dto.ReconciliationRunDTO;
+
+import java.util.List;
+
+public interface IReconciliationService {
+    ReconciliationRunDTO startRun();
+    List<ReconciliationRunDTO> getRuns(int limit);
+    List<ReconciliationMismatchDTO> getMismatches(Long runId, long afterId, int limit);
+}
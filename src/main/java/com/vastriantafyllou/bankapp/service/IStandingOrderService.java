@@ -0,0 +1,13 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.dto.StandingOrderInsertDTO;
+import com.vastriantafyllou.bankapp.dto.StandingOrderReadOnlyDTO;
+
+import java.util.List;
+
+public interface IStandingOrderService {
+    StandingOrderReadOnlyDTO createStandingOrder(StandingOrderInsertDTO dto, String username);
+    List<StandingOrderReadOnlyDTO> getStandingOrders(String username);
+    StandingOrderReadOnlyDTO getStandingOrder(Long id, String username);
+    void cancelStandingOrder(Long id, String username);
+}
@@ -0,0 +1,183 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.exception.AccountBusyException;
+import com.vastriantafyllou.bankapp.core.types.TransactionCursor;
+import com.vastriantafyllou.bankapp.dto.AccountInsertDTO;
+import com.vastriantafyllou.bankapp.dto.AccountOverviewDTO;
+import com.vastriantafyllou.bankapp.dto.AccountReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.PostingDTO;
+import com.vastriantafyllou.bankapp.dto.TransactionFilterDTO;
+import com.vastriantafyllou.bankapp.model.AccountTransaction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Retries account writes that lost a row-lock race: a lock wait that timed out, a {@code NOWAIT} lock that was
+ * already held, or a deadlock victim. Each attempt runs in a fresh transaction after an exponential backoff with
+ * full jitter; once the attempts run out the caller gets an {@link AccountBusyException}, which the exception
+ * handlers answer with 503 and {@code Retry-After}.
+ * <p>
+ * Before the first attempt the call takes the in-process locks of the IBANs involved from
+ * {@link AccountLockManager}, so writers to one account queue in the JVM rather than on pooled connections.
+ * <p>
+ * Calls made inside an existing transaction (standing orders, queued transfers) pass straight through: the
+ * failed transaction cannot be resumed, so those callers handle lock failures themselves (the standing order
+ * scheduler puts the order back on its wheel with backoff, the pending transfer worker requeues the row with backoff), and
+ * taking JVM locks while already holding row locks could deadlock against the web threads.
+ */
+@Slf4j
+@Service
+public class LockRetryingAccountService implements IAccountService {
+
+    private static final String BUSY_MESSAGE = "Ο λογαριασμός είναι απασχολημένος αυτή τη στιγμή. Δοκιμάστε ξανά σε λίγο.";
+
+    private final AccountServiceImpl delegate;
+    private final AccountLockManager lockManager;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long retryAfterSeconds;
+
+    public LockRetryingAccountService(AccountServiceImpl delegate,
+                                      AccountLockManager lockManager,
+                                      @Value("${app.locking.retry.max-attempts:3}") int maxAttempts,
+                                      @Value("${app.locking.retry.initial-backoff-ms:50}") long initialBackoffMillis,
+                                      @Value("${app.locking.retry.max-backoff-ms:500}") long maxBackoffMillis,
+                                      @Value("${app.locking.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.delegate = delegate;
+        this.lockManager = lockManager;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public AccountReadOnlyDTO createAccount(AccountInsertDTO dto, String username) {
+        return delegate.createAccount(dto, username);
+    }
+
+    @Override
+    public void deposit(String iban, BigDecimal amount, String username, boolean isAdmin) {
+        withRetry("deposit", () -> {
+            delegate.deposit(iban, amount, username, isAdmin);
+            return null;
+        }, iban);
+    }
+
+    @Override
+    public void withdraw(String iban, BigDecimal amount, String username, boolean isAdmin) {
+        withRetry("withdraw", () -> {
+            delegate.withdraw(iban, amount, username, isAdmin);
+            return null;
+        }, iban);
+    }
+
+    @Override
+    public void transfer(String fromIban, String toIban, BigDecimal amount, String username, boolean isAdmin) {
+        withRetry("transfer", () -> {
+            delegate.transfer(fromIban, toIban, amount, username, isAdmin);
+            return null;
+        }, fromIban, toIban);
+    }
+
+    @Override
+    public UUID transfer(List<PostingDTO> postings, String username, boolean isAdmin) {
+        String[] ibans = postings.stream().map(PostingDTO::getIban).toArray(String[]::new);
+        return withRetry("multi-leg transfer", () -> delegate.transfer(postings, username, isAdmin), ibans);
+    }
+
+    @Override
+    public BigDecimal getBalance(String iban, String username, boolean isAdmin) {
+        return delegate.getBalance(iban, username, isAdmin);
+    }
+
+    @Override
+    public List<AccountReadOnlyDTO> getAllAccounts(String username) {
+        return delegate.getAllAccounts(username);
+    }
+
+    @Override
+    public List<AccountOverviewDTO> getAccountOverview(String username, int perAccount) {
+        return delegate.getAccountOverview(username, perAccount);
+    }
+
+    @Override
+    public AccountReadOnlyDTO getAccountByIban(String iban, String username, boolean isAdmin) {
+        return delegate.getAccountByIban(iban, username, isAdmin);
+    }
+
+    @Override
+    public List<AccountTransaction> getTransactionHistory(String iban, String username, boolean isAdmin) {
+        return delegate.getTransactionHistory(iban, username, isAdmin);
+    }
+
+    @Override
+    public Slice<AccountTransaction> getTransactionHistoryPage(String iban, int page, int size, String username, boolean isAdmin) {
+        return delegate.getTransactionHistoryPage(iban, page, size, username, isAdmin);
+    }
+
+    @Override
+    public Slice<AccountTransaction> searchTransactions(String iban, TransactionFilterDTO filter, TransactionCursor cursor, int size,
+                                                        String username, boolean isAdmin) {
+        return delegate.searchTransactions(iban, filter, cursor, size, username, isAdmin);
+    }
+
+    @Override
+    public long getLastSeq(String iban, String username, boolean isAdmin) {
+        return delegate.getLastSeq(iban, username, isAdmin);
+    }
+
+    @Override
+    public List<AccountTransaction> getTransactionsAfterSeq(String iban, long afterSeq, int limit, String username, boolean isAdmin) {
+        return delegate.getTransactionsAfterSeq(iban, afterSeq, limit, username, isAdmin);
+    }
+
+    @Override
+    public void deleteAccount(String iban, String username, boolean isAdmin) {
+        delegate.deleteAccount(iban, username, isAdmin);
+    }
+
+    private <T> T withRetry(String operation, Supplier<T> call, String... ibans) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return call.get();
+        }
+        return lockManager.callWithLocks(() -> retry(operation, call), ibans);
+    }
+
+    private <T> T retry(String operation, Supplier<T> call) {
+        long backoff = initialBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("{} failed to lock after {} attempts: {}", operation, attempt, e.getMessage());
+                    throw new AccountBusyException(BUSY_MESSAGE, retryAfterSeconds, e);
+                }
+                sleep(ThreadLocalRandom.current().nextLong(backoff + 1), e);
+                backoff = Math.min(maxBackoffMillis, backoff * 2);
+            }
+        }
+    }
+
+    private void sleep(long millis, RuntimeException cause) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AccountBusyException(BUSY_MESSAGE, retryAfterSeconds, cause);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.IngestionStatus;
+import com.vastriantafyllou.bankapp.core.exception.IngestionJobNotFoundException;
+import com.vastriantafyllou.bankapp.dto.IngestionJobReadOnlyDTO;
+import com.vastriantafyllou.bankapp.event.IngestionJobSubmittedEvent;
+import com.vastriantafyllou.bankapp.mapper.Mapper;
+import com.vastriantafyllou.bankapp.model.IngestionJob;
+import com.vastriantafyllou.bankapp.repository.IngestionJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class PaymentFileServiceImpl implements IPaymentFileService {
+
+    private final IngestionJobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path storageDir;
+
+    public PaymentFileServiceImpl(IngestionJobRepository jobRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${app.ingestion.dir:data/ingestion}") String storageDir) {
+        this.jobRepository = jobRepository;
+        this.eventPublisher = eventPublisher;
+        this.storageDir = Path.of(storageDir);
+    }
+
+    @Override
+    @Transactional
+    public IngestionJobReadOnlyDTO submitFile(String fileName, InputStream content, String username) throws IOException {
+        Files.createDirectories(storageDir);
+        String key = UUID.randomUUID().toString();
+        Path input = storageDir.resolve(key + ".csv");
+        Files.copy(content, input);
+
+        IngestionJob job = jobRepository.save(IngestionJob.builder()
+                .fileName(fileName == null || fileName.isBlank() ? key + ".csv" : fileName)
+                .inputPath(input.toAbsolutePath().toString())
+                .resultPath(storageDir.resolve(key + ".result.csv").toAbsolutePath().toString())
+                .createdBy(username)
+                .build());
+        eventPublisher.publishEvent(new IngestionJobSubmittedEvent(job.getId()));
+        return Mapper.mapToReadOnlyDTO(job);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<IngestionJobReadOnlyDTO> getJobs() {
+        return jobRepository.findAllByOrderByIdDesc().stream().map(Mapper::mapToReadOnlyDTO).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IngestionJobReadOnlyDTO getJob(Long id) {
+        return Mapper.mapToReadOnlyDTO(requireJob(id));
+    }
+
+    @Override
+    @Transactional
+    public IngestionJobReadOnlyDTO resumeJob(Long id) {
+        IngestionJob job = requireJob(id);
+        if (job.getStatus() == IngestionStatus.FAILED) {
+            job.setStatus(IngestionStatus.PENDING);
+            job.setError(null);
+            eventPublisher.publishEvent(new IngestionJobSubmittedEvent(job.getId()));
+        }
+        return Mapper.mapToReadOnlyDTO(job);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Path getResultFile(Long id) {
+        return Path.of(requireJob(id).getResultPath());
+    }
+
+    private IngestionJob requireJob(Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new IngestionJobNotFoundException("Η εργασία αρχείου πληρωμών " + id + " δεν βρέθηκε"));
+    }
+}
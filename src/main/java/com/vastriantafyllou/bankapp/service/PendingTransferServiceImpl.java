@@ -0,0 +1,53 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.exception.AccountNotFoundException;
+import com.vastriantafyllou.bankapp.core.exception.InvalidTransferException;
+import com.vastriantafyllou.bankapp.core.exception.PendingTransferNotFoundException;
+import com.vastriantafyllou.bankapp.dto.PendingTransferReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.TransferRequestDTO;
+import com.vastriantafyllou.bankapp.mapper.Mapper;
+import com.vastriantafyllou.bankapp.model.PendingTransfer;
+import com.vastriantafyllou.bankapp.repository.AccountRepository;
+import com.vastriantafyllou.bankapp.repository.PendingTransferRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class PendingTransferServiceImpl implements IPendingTransferService {
+
+    private final PendingTransferRepository pendingTransferRepository;
+    private final AccountRepository accountRepository;
+
+    @Override
+    @Transactional
+    public PendingTransferReadOnlyDTO submitTransfer(TransferRequestDTO dto, String username, boolean isAdmin) {
+        if (dto.getFromIban().equals(dto.getToIban())) {
+            throw new InvalidTransferException("Δεν επιτρέπεται μεταφορά στον ίδιο λογαριασμό");
+        }
+        boolean exists = isAdmin
+                ? accountRepository.existsByIban(dto.getFromIban())
+                : accountRepository.existsByIbanAndOwner_Username(dto.getFromIban(), username);
+        if (!exists) {
+            throw new AccountNotFoundException("Ο λογαριασμός με IBAN " + dto.getFromIban() + " δεν βρέθηκε");
+        }
+
+        PendingTransfer transfer = pendingTransferRepository.save(PendingTransfer.builder()
+                .requestedBy(username)
+                .admin(isAdmin)
+                .fromIban(dto.getFromIban())
+                .toIban(dto.getToIban())
+                .amount(dto.getAmount())
+                .build());
+        return Mapper.mapToReadOnlyDTO(transfer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PendingTransferReadOnlyDTO getPendingTransfer(Long id, String username, boolean isAdmin) {
+        return (isAdmin ? pendingTransferRepository.findById(id) : pendingTransferRepository.findByIdAndRequestedBy(id, username))
+                .map(Mapper::mapToReadOnlyDTO)
+                .orElseThrow(() -> new PendingTransferNotFoundException("Η μεταφορά " + id + " δεν βρέθηκε"));
+    }
+}
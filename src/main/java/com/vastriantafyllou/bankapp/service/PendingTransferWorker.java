@@ -0,0 +1,192 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.concurrency.LockFailures;
+import com.vastriantafyllou.bankapp.core.enums.PendingTransferStatus;
+import com.vastriantafyllou.bankapp.model.PendingTransfer;
+import com.vastriantafyllou.bankapp.repository.PendingTransferRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes queued transfers from {@code pending_transfers}.
+ * <p>
+ * Every worker on every node claims a batch with {@code FOR UPDATE SKIP LOCKED}, so workers never wait on each
+ * other's rows. Each transfer then runs in its own transaction together with its {@code COMPLETED} update, so a
+ * row is completed exactly when its ledger rows commit. Claims older than {@code stale-after-ms} belong to a
+ * worker that died and are released back to {@code PENDING}.
+ * <p>
+ * A transfer that loses a row-lock race goes back to {@code PENDING} with a jittered exponential backoff in
+ * {@code next_attempt_at}, until {@code max-attempts} claims have been spent; only business failures and exhausted
+ * retries end as {@code FAILED}.
+ */
+@Slf4j
+@Service
+public class PendingTransferWorker {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final PendingTransferRepository pendingTransferRepository;
+    private final IAccountService accountService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.async-transfers.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.async-transfers.workers:4}")
+    private int workers;
+
+    @Value("${app.async-transfers.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.async-transfers.poll-ms:500}")
+    private long pollMillis;
+
+    @Value("${app.async-transfers.stale-after-ms:300000}")
+    private long staleAfterMillis;
+
+    @Value("${app.async-transfers.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.async-transfers.retry-backoff-ms:1000}")
+    private long retryBackoffMillis;
+
+    @Value("${app.async-transfers.max-retry-backoff-ms:60000}")
+    private long maxRetryBackoffMillis;
+
+    private ScheduledExecutorService executor;
+
+    public PendingTransferWorker(PendingTransferRepository pendingTransferRepository,
+                                 IAccountService accountService,
+                                 PlatformTransactionManager transactionManager) {
+        this.pendingTransferRepository = pendingTransferRepository;
+        this.accountService = accountService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        executor = Executors.newScheduledThreadPool(workers + 1, r -> {
+            Thread thread = new Thread(r, "pending-transfer-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            executor.scheduleWithFixedDelay(this::drain, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+        }
+        executor.scheduleWithFixedDelay(this::releaseStaleClaims, staleAfterMillis, staleAfterMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Claims and executes batches until the queue is empty. */
+    void drain() {
+        try {
+            List<PendingTransfer> claimed;
+            do {
+                String token = UUID.randomUUID().toString();
+                claimed = transactionTemplate.execute(status -> claim(token));
+                if (claimed == null) {
+                    return;
+                }
+                for (PendingTransfer transfer : claimed) {
+                    execute(transfer.getId(), token);
+                }
+            } while (claimed.size() == batchSize && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            log.error("Pending transfer worker failed", e);
+        }
+    }
+
+    private List<PendingTransfer> claim(String token) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingTransfer> batch = pendingTransferRepository.lockNextPending(batchSize, now);
+        for (PendingTransfer transfer : batch) {
+            transfer.setStatus(PendingTransferStatus.PROCESSING);
+            transfer.setClaimToken(token);
+            transfer.setClaimedAt(now);
+            transfer.setAttempts(transfer.getAttempts() + 1);
+        }
+        return batch;
+    }
+
+    private void execute(Long id, String token) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                PendingTransfer transfer = lockClaimed(id, token);
+                if (transfer == null) {
+                    return;
+                }
+                accountService.transfer(transfer.getFromIban(), transfer.getToIban(), transfer.getAmount(),
+                        transfer.getRequestedBy(), transfer.getAdmin());
+                transfer.setStatus(PendingTransferStatus.COMPLETED);
+                transfer.setCompletedAt(LocalDateTime.now());
+            });
+        } catch (RuntimeException e) {
+            fail(id, token, e);
+        }
+    }
+
+    private void fail(Long id, String token, RuntimeException failure) {
+        boolean contention = LockFailures.isLockFailure(failure);
+        transactionTemplate.executeWithoutResult(status -> {
+            PendingTransfer transfer = lockClaimed(id, token);
+            if (transfer == null) {
+                return;
+            }
+            if (contention && transfer.getAttempts() < maxAttempts) {
+                long delay = LockFailures.backoffMillis(transfer.getAttempts(), retryBackoffMillis, maxRetryBackoffMillis);
+                log.warn("Pending transfer {} could not lock its accounts (attempt {}), retrying in {} ms: {}",
+                        id, transfer.getAttempts(), delay, failure.getMessage());
+                transfer.setStatus(PendingTransferStatus.PENDING);
+                transfer.setClaimToken(null);
+                transfer.setClaimedAt(null);
+                transfer.setNextAttemptAt(LocalDateTime.now().plusNanos(delay * 1_000_000));
+                return;
+            }
+            String message = failure.getMessage() == null ? failure.getClass().getSimpleName() : failure.getMessage();
+            transfer.setStatus(PendingTransferStatus.FAILED);
+            transfer.setError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+            transfer.setCompletedAt(LocalDateTime.now());
+        });
+    }
+
+    private PendingTransfer lockClaimed(Long id, String token) {
+        return pendingTransferRepository.findByIdForUpdate(id)
+                .filter(t -> t.getStatus() == PendingTransferStatus.PROCESSING && token.equals(t.getClaimToken()))
+                .orElse(null);
+    }
+
+    void releaseStaleClaims() {
+        try {
+            int released = transactionTemplate.execute(status -> pendingTransferRepository.releaseStaleClaims(
+                    PendingTransferStatus.PENDING, PendingTransferStatus.PROCESSING,
+                    LocalDateTime.now().minusNanos(staleAfterMillis * 1_000_000)));
+            if (released > 0) {
+                log.warn("Released {} stale pending transfer claims", released);
+            }
+        } catch (RuntimeException e) {
+            log.error("Releasing stale pending transfer claims failed", e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.concurrency.SingleFlight;
+import com.vastriantafyllou.bankapp.event.AccountDeletedEvent;
+import com.vastriantafyllou.bankapp.event.LedgerEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for the read methods of the account and user services: concurrent identical calls, keyed by
+ * method, arguments and principal scope, share one database execution. Only the methods listed in
+ * {@code app.single-flight.methods} are coalesced; the rest, and any call made inside a transaction, run as-is.
+ * <p>
+ * A caller must never get a result read before a write it has already seen committed. Every write bumps a
+ * generation that is part of the key, after commit for ledger events and after the service call returns for the
+ * others, so a read started after a write never joins a flight that started before it.
+ * <p>
+ * Publishes {@code bank.single-flight.calls}, tagged by method and {@code outcome} ({@code executed} or
+ * {@code coalesced}).
+ */
+@Component
+public class ReadCoalescer {
+
+    /** Scope shared by all admins: their reads do not depend on who asks. */
+    public static final String ADMIN_SCOPE = "*admin";
+
+    private final Map<String, SingleFlight> flights = new HashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public ReadCoalescer(MeterRegistry meterRegistry,
+                         @Value("${app.single-flight.enabled:true}") boolean enabled,
+                         @Value("${app.single-flight.methods:}") Set<String> methods) {
+        if (!enabled) {
+            return;
+        }
+        for (String method : methods) {
+            SingleFlight flight = new SingleFlight();
+            flights.put(method, flight);
+            FunctionCounter.builder("bank.single-flight.calls", flight, SingleFlight::executedCount)
+                    .description("Service reads that hit the database")
+                    .tag("method", method)
+                    .tag("outcome", "executed")
+                    .register(meterRegistry);
+            FunctionCounter.builder("bank.single-flight.calls", flight, SingleFlight::coalescedCount)
+                    .description("Service reads that shared another caller's in-flight result")
+                    .tag("method", method)
+                    .tag("outcome", "coalesced")
+                    .register(meterRegistry);
+        }
+    }
+
+    public static String scope(String username, boolean isAdmin) {
+        return isAdmin ? ADMIN_SCOPE : username;
+    }
+
+    public <T> T read(String method, Supplier<T> call, Object... key) {
+        SingleFlight flight = flights.get(method);
+        if (flight == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return call.get();
+        }
+        return flight.execute(new Key(generation.get(), Arrays.asList(key)), call);
+    }
+
+    /** Makes every later read start its own flight. */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onLedgerEvent(LedgerEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener
+    public void onAccountDeleted(AccountDeletedEvent event) {
+        invalidate();
+    }
+
+    private record Key(long generation, List<Object> args) {
+    }
+}
@@ -0,0 +1,220 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vastriantafyllou.bankapp.core.types.Iban;
+import com.vastriantafyllou.bankapp.event.AccountDeletedEvent;
+import com.vastriantafyllou.bankapp.event.LedgerEvent;
+import com.vastriantafyllou.bankapp.model.AccountTransaction;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The newest {@code capacity} ledger rows of recently viewed accounts, one ring buffer per IBAN, so the first page
+ * of history needs no query. The number of buffered accounts is bounded by Caffeine's size eviction.
+ * <p>
+ * A ring is seeded from the first database read of page 0 and then appended from the {@link LedgerEvent}s
+ * published after commit. It must always hold a gapless run of the newest rows: an event whose {@code seq} does
+ * not directly follow the ring drops it, and seeding uses the same per-stripe epoch check as
+ * {@link AccountBalanceCache} so a read that raced a commit does not install a ring missing that commit.
+ * <p>
+ * Events are local, so an account written on another node would keep its old ring. Rings therefore expire
+ * {@code ttl-ms} after they were seeded, and with {@code revalidate} on (the default) the caller compares
+ * {@link Recent#lastSeq} with {@code accounts.last_seq} before serving and {@link #invalidate}s a ring that fell behind.
+ * <p>
+ * Buffered rows carry the ledger fields of {@link LedgerEvent} only; the account and transfer id are not set.
+ */
+@Component
+public class RecentTransactionsBuffer {
+
+    private static final int EPOCH_STRIPES = 1024;
+
+    private final Cache<String, Ring> cache;
+    private final AtomicLongArray epochs = new AtomicLongArray(EPOCH_STRIPES);
+    private final int capacity;
+    private final boolean revalidate;
+
+    public RecentTransactionsBuffer(MeterRegistry meterRegistry,
+                                    @Value("${app.recent-transactions.max-accounts:10000}") long maxAccounts,
+                                    @Value("${app.recent-transactions.capacity:50}") int capacity,
+                                    @Value("${app.recent-transactions.ttl-ms:30000}") long ttlMillis,
+                                    @Value("${app.recent-transactions.revalidate:true}") boolean revalidate) {
+        this.capacity = Math.max(1, capacity);
+        this.revalidate = revalidate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxAccounts)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "recent-transactions");
+    }
+
+    /**
+     * Newest first; {@code hasMore} is set when older rows exist beyond {@code transactions}. {@code lastSeq} is the
+     * newest seq the ring has seen, to compare with {@code accounts.last_seq}.
+     */
+    public record Recent(String ownerUsername, List<AccountTransaction> transactions, boolean hasMore, long lastSeq) {
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /** Whether {@link Recent#lastSeq} must be checked against {@code accounts.last_seq} before serving. */
+    public boolean revalidates() {
+        return revalidate;
+    }
+
+    /** Drops the ring of an account that was written elsewhere; the next first-page read seeds it again. */
+    public void invalidate(String iban) {
+        cache.invalidate(iban);
+    }
+
+    /**
+     * The newest {@code size} rows of the account, or {@code null} if it is not buffered or the ring holds fewer
+     * than {@code size} rows while older ones exist.
+     */
+    public Recent newest(String iban, int size) {
+        Ring ring = cache.getIfPresent(iban);
+        return ring == null ? null : ring.newest(size);
+    }
+
+    /** Call before reading the rows from the database and pass the result to {@link #seed}. */
+    public long epoch(String iban) {
+        return epochs.get(stripe(iban));
+    }
+
+    /**
+     * Installs a ring from the newest rows of the account, newest first. {@code complete} means the rows are the
+     * account's whole history. {@code ownerUsername} may be {@code null} when an admin read the rows.
+     */
+    public void seed(long epoch, String iban, String ownerUsername, List<AccountTransaction> newestFirst, boolean complete) {
+        int stripe = stripe(iban);
+        cache.asMap().compute(iban, (key, existing) -> {
+            if (existing != null) {
+                existing.claim(ownerUsername);
+                return existing;
+            }
+            if (epochs.get(stripe) != epoch) {
+                return null;
+            }
+            int count = Math.min(newestFirst.size(), capacity);
+            Ring ring = new Ring(capacity, ownerUsername, complete && newestFirst.size() <= capacity);
+            for (int i = count - 1; i >= 0; i--) {
+                AccountTransaction transaction = newestFirst.get(i);
+                if (transaction.getSeq() == null || !ring.seed(toEvent(iban, transaction))) {
+                    return null;
+                }
+            }
+            return ring;
+        });
+    }
+
+    @TransactionalEventListener
+    public void onLedgerEvent(LedgerEvent event) {
+        epochs.incrementAndGet(stripe(event.iban()));
+        cache.asMap().computeIfPresent(event.iban(), (iban, ring) -> ring.append(event) ? ring : null);
+    }
+
+    @TransactionalEventListener
+    public void onAccountDeleted(AccountDeletedEvent event) {
+        epochs.incrementAndGet(stripe(event.iban()));
+        cache.invalidate(event.iban());
+    }
+
+    private static int stripe(String iban) {
+        int h = iban.hashCode();
+        return (h ^ (h >>> 16)) & (EPOCH_STRIPES - 1);
+    }
+
+    private static LedgerEvent toEvent(String iban, AccountTransaction transaction) {
+        return new LedgerEvent(iban,
+                transaction.getSeq(),
+                transaction.getType(),
+                transaction.getAmount(),
+                transaction.getBalanceAfter(),
+                transaction.getCreatedAt(),
+                transaction.getCounterpartyIban() == null ? null : transaction.getCounterpartyIban().toString());
+    }
+
+    private static AccountTransaction toTransaction(LedgerEvent event) {
+        return AccountTransaction.builder()
+                .seq(event.seq())
+                .type(event.type())
+                .amount(event.amount())
+                .balanceAfter(event.balanceAfter())
+                .createdAt(event.createdAt())
+                .counterpartyIban(event.counterpartyIban() == null ? null : Iban.parse(event.counterpartyIban()))
+                .build();
+    }
+
+    private static final class Ring {
+
+        private final LedgerEvent[] slots;
+        private int head;
+        private int count;
+        private long lastSeq;
+        private boolean complete;
+        private volatile String ownerUsername;
+
+        Ring(int capacity, String ownerUsername, boolean complete) {
+            this.slots = new LedgerEvent[capacity];
+            this.ownerUsername = ownerUsername;
+            this.complete = complete;
+        }
+
+        void claim(String username) {
+            if (ownerUsername == null) {
+                ownerUsername = username;
+            }
+        }
+
+        /** Seeding may start at any seq; from then on the run must be gapless. */
+        synchronized boolean seed(LedgerEvent event) {
+            if (count > 0 && event.seq() != lastSeq + 1) {
+                return false;
+            }
+            push(event);
+            return true;
+        }
+
+        synchronized boolean append(LedgerEvent event) {
+            if (event.seq() != lastSeq + 1) {
+                return false;
+            }
+            push(event);
+            return true;
+        }
+
+        private void push(LedgerEvent event) {
+            slots[head] = event;
+            head = (head + 1) % slots.length;
+            if (count < slots.length) {
+                count++;
+            } else {
+                complete = false;
+            }
+            lastSeq = event.seq();
+        }
+
+        synchronized Recent newest(int size) {
+            if (size > count && !complete) {
+                return null;
+            }
+            int n = Math.min(size, count);
+            List<AccountTransaction> transactions = new ArrayList<>(n);
+            for (int i = 1; i <= n; i++) {
+                transactions.add(toTransaction(slots[Math.floorMod(head - i, slots.length)]));
+            }
+            return new Recent(ownerUsername, transactions, count > size || !complete, lastSeq);
+        }
+    }
+}
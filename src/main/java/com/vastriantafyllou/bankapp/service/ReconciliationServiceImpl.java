@@ -0,0 +1,62 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.batch.LedgerReconciliationJob;
+import com.vastriantafyllou.bankapp.core.exception.ReconciliationInProgressException;
+import com.vastriantafyllou.bankapp.dto.ReconciliationMismatchDTO;
+import com.vastriantafyllou.bankapp.dto.ReconciliationRunDTO;
+import com.vastriantafyllou.bankapp.mapper.Mapper;
+import com.vastriantafyllou.bankapp.model.ReconciliationRun;
+import com.vastriantafyllou.bankapp.repository.ReconciliationMismatchRepository;
+import com.vastriantafyllou.bankapp.repository.ReconciliationRunRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+@RequiredArgsConstructor
+public class ReconciliationServiceImpl implements IReconciliationService {
+
+    private final LedgerReconciliationJob reconciliationJob;
+    private final ReconciliationRunRepository runRepository;
+    private final ReconciliationMismatchRepository mismatchRepository;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "ledger-reconciliation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public ReconciliationRunDTO startRun() {
+        ReconciliationRun run = reconciliationJob.start();
+        if (run == null) {
+            throw new ReconciliationInProgressException("Ένας έλεγχος συμφωνίας εκτελείται ήδη");
+        }
+        executor.execute(() -> reconciliationJob.execute(run.getId()));
+        return Mapper.mapToReadOnlyDTO(run);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReconciliationRunDTO> getRuns(int limit) {
+        return runRepository.findAllByOrderByIdDesc(Limit.of(limit)).stream().map(Mapper::mapToReadOnlyDTO).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReconciliationMismatchDTO> getMismatches(Long runId, long afterId, int limit) {
+        return mismatchRepository.findByRunIdAndIdGreaterThanOrderByIdAsc(runId, afterId, Limit.of(limit)).stream()
+                .map(Mapper::mapToReadOnlyDTO)
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,279 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.concurrency.LockFailures;
+import com.vastriantafyllou.bankapp.core.enums.StandingOrderStatus;
+import com.vastriantafyllou.bankapp.core.scheduling.HierarchicalTimingWheel;
+import com.vastriantafyllou.bankapp.event.StandingOrderScheduledEvent;
+import com.vastriantafyllou.bankapp.model.StandingOrder;
+import com.vastriantafyllou.bankapp.repository.StandingOrderRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires standing orders from an in-memory {@link HierarchicalTimingWheel}.
+ * <p>
+ * Only orders due within {@code app.standing-orders.horizon-ms} are held in memory; the horizon is extended
+ * incrementally from the {@code (status, next_execution_at)} index. Due orders are grouped by source IBAN and each
+ * group runs sequentially on one worker, so orders debiting the same account never contend for its row lock.
+ * {@code next_execution_at} only moves in the transaction that executes the transfer, so orders that were due
+ * while the application was down are still due on startup and fire immediately.
+ * <p>
+ * A run that loses a row-lock race (lock wait timeout, deadlock, busy account) is not a failed payment: the order
+ * keeps its {@code next_execution_at} and goes back on the wheel after an exponential backoff with full jitter,
+ * capped at {@code app.standing-orders.max-retry-backoff-ms}. Any other failure is recorded and the order moves on
+ * to its next period.
+ */
+@Slf4j
+@Service
+public class StandingOrderScheduler {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final StandingOrderRepository standingOrderRepository;
+    private final IAccountService accountService;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, LocalDateTime> scheduled = new ConcurrentHashMap<>();
+
+    @Value("${app.standing-orders.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.standing-orders.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${app.standing-orders.wheel-size:64}")
+    private int wheelSize;
+
+    @Value("${app.standing-orders.horizon-ms:3600000}")
+    private long horizonMillis;
+
+    @Value("${app.standing-orders.threads:4}")
+    private int threads;
+
+    @Value("${app.standing-orders.retry-backoff-ms:1000}")
+    private long retryBackoffMillis;
+
+    @Value("${app.standing-orders.max-retry-backoff-ms:60000}")
+    private long maxRetryBackoffMillis;
+
+    private HierarchicalTimingWheel<Due> wheel;
+    private ScheduledExecutorService ticker;
+    private ExecutorService workers;
+    private volatile LocalDateTime loadedUntil;
+
+    public StandingOrderScheduler(StandingOrderRepository standingOrderRepository,
+                                  IAccountService accountService,
+                                  PlatformTransactionManager transactionManager) {
+        this.standingOrderRepository = standingOrderRepository;
+        this.accountService = accountService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        workers = Executors.newFixedThreadPool(threads);
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "standing-order-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        LocalDateTime until = LocalDateTime.now().plusNanos(horizonMillis * 1_000_000);
+        List<Due> missed = new ArrayList<>();
+        for (StandingOrderRepository.DueStandingOrder order : standingOrderRepository.findDueBefore(StandingOrderStatus.ACTIVE, until)) {
+            schedule(new Due(order.getId(), order.getFromIban(), order.getNextExecutionAt(), 0), missed);
+        }
+        loadedUntil = until;
+        if (!missed.isEmpty()) {
+            log.info("Recovering {} standing orders that became due while the application was down", missed.size());
+            dispatch(missed);
+        }
+
+        ticker.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        // At least one tick, so a tiny horizon cannot turn into the zero delay the executor rejects.
+        long refreshMillis = Math.max(tickMillis, horizonMillis / 4);
+        ticker.scheduleWithFixedDelay(this::extendHorizon, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            workers.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onScheduled(StandingOrderScheduledEvent event) {
+        LocalDateTime until = loadedUntil;
+        if (until == null || event.nextExecutionAt() == null || !event.nextExecutionAt().isBefore(until)) {
+            return;
+        }
+        List<Due> immediate = new ArrayList<>();
+        schedule(new Due(event.id(), event.fromIban(), event.nextExecutionAt(), 0), immediate);
+        dispatch(immediate);
+    }
+
+    private void tick() {
+        try {
+            List<Due> due;
+            synchronized (this) {
+                due = wheel.advance(System.currentTimeMillis());
+            }
+            dispatch(due);
+        } catch (RuntimeException e) {
+            log.error("Standing order tick failed", e);
+        }
+    }
+
+    private void extendHorizon() {
+        try {
+            LocalDateTime from = loadedUntil;
+            LocalDateTime until = LocalDateTime.now().plusNanos(horizonMillis * 1_000_000);
+            List<Due> immediate = new ArrayList<>();
+            for (StandingOrderRepository.DueStandingOrder order
+                    : standingOrderRepository.findDueBetween(StandingOrderStatus.ACTIVE, from, until)) {
+                schedule(new Due(order.getId(), order.getFromIban(), order.getNextExecutionAt(), 0), immediate);
+            }
+            loadedUntil = until;
+            dispatch(immediate);
+        } catch (RuntimeException e) {
+            log.error("Loading standing orders for the next horizon failed", e);
+        }
+    }
+
+    /** Adds {@code due} to the wheel, or to {@code immediate} if its time has already come. */
+    private void schedule(Due due, List<Due> immediate) {
+        if (due.at().equals(scheduled.put(due.id(), due.at()))) {
+            return;
+        }
+        enqueue(due, due.at().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), immediate);
+    }
+
+    private void enqueue(Due due, long deadline, List<Due> immediate) {
+        boolean added;
+        synchronized (this) {
+            added = wheel.add(deadline, due);
+        }
+        if (!added) {
+            immediate.add(due);
+        }
+    }
+
+    private void dispatch(List<Due> due) {
+        if (due.isEmpty()) {
+            return;
+        }
+        Map<String, List<Due>> bySource = new LinkedHashMap<>();
+        for (Due order : due) {
+            bySource.computeIfAbsent(order.fromIban(), k -> new ArrayList<>()).add(order);
+        }
+        for (List<Due> group : bySource.values()) {
+            workers.execute(() -> group.forEach(this::execute));
+        }
+    }
+
+    private void execute(Due due) {
+        if (!scheduled.remove(due.id(), due.at())) {
+            return;
+        }
+        LocalDateTime next;
+        try {
+            next = transactionTemplate.execute(status -> {
+                StandingOrder order = lockIfStillDue(due);
+                if (order == null) {
+                    return null;
+                }
+                accountService.transfer(order.getFromIban(), order.getToIban(), order.getAmount(),
+                        order.getOwner().getUsername(), false);
+                order.setLastExecutedAt(LocalDateTime.now());
+                order.setLastError(null);
+                order.advance();
+                return order.getNextExecutionAt();
+            });
+        } catch (RuntimeException e) {
+            if (LockFailures.isLockFailure(e)) {
+                retryLater(due, e);
+                return;
+            }
+            log.warn("Standing order {} failed: {}", due.id(), e.getMessage());
+            next = recordFailure(due, e);
+        }
+        if (next != null) {
+            List<Due> immediate = new ArrayList<>();
+            if (next.isBefore(loadedUntil)) {
+                schedule(new Due(due.id(), due.fromIban(), next, 0), immediate);
+            }
+            immediate.forEach(this::execute);
+        }
+    }
+
+    // The same occurrence again later; next_execution_at was rolled back with the transfer and stays as it was.
+    private void retryLater(Due due, RuntimeException failure) {
+        // Rescheduled while this run was in flight: the newer occurrence is already on the wheel.
+        if (scheduled.putIfAbsent(due.id(), due.at()) != null) {
+            return;
+        }
+        int attempts = due.attempts() + 1;
+        long delay = Math.max(tickMillis, LockFailures.backoffMillis(attempts, retryBackoffMillis, maxRetryBackoffMillis));
+        log.warn("Standing order {} could not lock its accounts (attempt {}), retrying in {} ms: {}",
+                due.id(), attempts, delay, failure.getMessage());
+        Due retry = new Due(due.id(), due.fromIban(), due.at(), attempts);
+        List<Due> immediate = new ArrayList<>();
+        enqueue(retry, System.currentTimeMillis() + delay, immediate);
+        immediate.forEach(this::execute);
+    }
+
+    private LocalDateTime recordFailure(Due due, RuntimeException failure) {
+        try {
+            return transactionTemplate.execute(status -> {
+                StandingOrder order = lockIfStillDue(due);
+                if (order == null) {
+                    return null;
+                }
+                String message = failure.getMessage() == null ? failure.getClass().getSimpleName() : failure.getMessage();
+                order.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+                order.setFailureCount(order.getFailureCount() + 1);
+                order.advance();
+                return order.getNextExecutionAt();
+            });
+        } catch (RuntimeException e) {
+            // Left due in the database; the next startup picks it up again.
+            log.error("Recording the failure of standing order {} failed", due.id(), e);
+            return null;
+        }
+    }
+
+    // Cancelled, already executed by another node, or rescheduled since it was loaded: skip.
+    private StandingOrder lockIfStillDue(Due due) {
+        return standingOrderRepository.findByIdForUpdate(due.id())
+                .filter(o -> o.getStatus() == StandingOrderStatus.ACTIVE && due.at().equals(o.getNextExecutionAt()))
+                .orElse(null);
+    }
+
+    /** {@code attempts} counts the lock failures of this occurrence so far. */
+    private record Due(long id, String fromIban, LocalDateTime at, int attempts) {
+    }
+}
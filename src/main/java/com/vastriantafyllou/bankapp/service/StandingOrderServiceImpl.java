@@ -0,0 +1,93 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.StandingOrderStatus;
+import com.vastriantafyllou.bankapp.core.exception.AccountNotFoundException;
+import com.vastriantafyllou.bankapp.core.exception.InvalidTransferException;
+import com.vastriantafyllou.bankapp.core.exception.StandingOrderNotFoundException;
+import com.vastriantafyllou.bankapp.dto.StandingOrderInsertDTO;
+import com.vastriantafyllou.bankapp.dto.StandingOrderReadOnlyDTO;
+import com.vastriantafyllou.bankapp.event.StandingOrderScheduledEvent;
+import com.vastriantafyllou.bankapp.mapper.Mapper;
+import com.vastriantafyllou.bankapp.model.StandingOrder;
+import com.vastriantafyllou.bankapp.repository.AccountRepository;
+import com.vastriantafyllou.bankapp.repository.StandingOrderRepository;
+import com.vastriantafyllou.bankapp.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class StandingOrderServiceImpl implements IStandingOrderService {
+
+    private final StandingOrderRepository standingOrderRepository;
+    private final AccountRepository accountRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public StandingOrderReadOnlyDTO createStandingOrder(StandingOrderInsertDTO dto, String username) {
+        if (dto.getFromIban().equals(dto.getToIban())) {
+            throw new InvalidTransferException("Δεν επιτρέπεται μεταφορά στον ίδιο λογαριασμό");
+        }
+        if (!dto.getFirstExecutionAt().isAfter(LocalDateTime.now())) {
+            throw new InvalidTransferException("Η πρώτη εκτέλεση πρέπει να είναι στο μέλλον");
+        }
+        if (dto.getEndDate() != null && dto.getEndDate().isBefore(dto.getFirstExecutionAt().toLocalDate())) {
+            throw new InvalidTransferException("Η ημερομηνία λήξης δεν μπορεί να είναι πριν την πρώτη εκτέλεση");
+        }
+        for (String iban : List.of(dto.getFromIban(), dto.getToIban())) {
+            if (!accountRepository.existsByIbanAndOwner_Username(iban, username)) {
+                throw new AccountNotFoundException("Ο λογαριασμός με IBAN " + iban + " δεν βρέθηκε");
+            }
+        }
+
+        StandingOrder order = standingOrderRepository.save(StandingOrder.builder()
+                .owner(userRepository.findByUsername(username)
+                        .orElseThrow(() -> new IllegalStateException("Authenticated user not found")))
+                .fromIban(dto.getFromIban())
+                .toIban(dto.getToIban())
+                .amount(dto.getAmount())
+                .frequency(dto.getFrequency())
+                .firstExecutionAt(dto.getFirstExecutionAt())
+                .nextExecutionAt(dto.getFirstExecutionAt())
+                .endDate(dto.getEndDate())
+                .build());
+        eventPublisher.publishEvent(new StandingOrderScheduledEvent(order.getId(), order.getFromIban(), order.getNextExecutionAt()));
+        return Mapper.mapToReadOnlyDTO(order);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StandingOrderReadOnlyDTO> getStandingOrders(String username) {
+        return standingOrderRepository.findByOwner_UsernameOrderByIdDesc(username).stream()
+                .map(Mapper::mapToReadOnlyDTO)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StandingOrderReadOnlyDTO getStandingOrder(Long id, String username) {
+        return Mapper.mapToReadOnlyDTO(requireOrder(id, username));
+    }
+
+    @Override
+    @Transactional
+    public void cancelStandingOrder(Long id, String username) {
+        StandingOrder order = requireOrder(id, username);
+        if (order.getStatus() == StandingOrderStatus.ACTIVE) {
+            order.setStatus(StandingOrderStatus.CANCELLED);
+            order.setNextExecutionAt(null);
+        }
+    }
+
+    private StandingOrder requireOrder(Long id, String username) {
+        return standingOrderRepository.findByIdAndOwner_Username(id, username)
+                .orElseThrow(() -> new StandingOrderNotFoundException("Η πάγια εντολή " + id + " δεν βρέθηκε"));
+    }
+}
@@ -8,15 +8,19 @@ import com.vastriantafyllou.bankapp.dto.ChangePasswordDTO;
 import com.vastriantafyllou.bankapp.dto.RegisterDTO;
 import com.vastriantafyllou.bankapp.dto.UpdateProfileDTO;
 import com.vastriantafyllou.bankapp.dto.UserReadOnlyDTO;
+import com.vastriantafyllou.bankapp.event.UserProfileChangedEvent;
 import com.vastriantafyllou.bankapp.model.AppUser;
 import com.vastriantafyllou.bankapp.repository.AccountRepository;
 import com.vastriantafyllou.bankapp.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +29,12 @@ public class UserServiceImpl implements IUserService {
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private void publishProfile(AppUser user) {
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId(), user.getUsername(), user.getFirstName(),
+                user.getLastName(), user.getEmail()));
+    }
 
     @Override
     @Transactional
@@ -39,7 +49,9 @@ public class UserServiceImpl implements IUserService {
                 .build();
         user.getRoles().add(Role.USER);
 
-        return userRepository.save(user);
+        AppUser saved = userRepository.save(user);
+        publishProfile(saved);
+        return saved;
     }
 
     @Override
@@ -58,6 +70,7 @@ public class UserServiceImpl implements IUserService {
         user.setEmail(dto.getEmail());
         user.setPhone(dto.getPhone());
         userRepository.save(user);
+        publishProfile(user);
     }
 
     @Override
@@ -112,7 +125,10 @@ public class UserServiceImpl implements IUserService {
     public void assignRole(Long userId, Role role) {
         AppUser user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("Ο χρήστης δεν βρέθηκε"));
-        user.getRoles().add(role);
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        roles.addAll(user.getRoles());
+        roles.add(role);
+        user.setRoles(roles);
         userRepository.save(user);
     }
 
@@ -121,7 +137,10 @@ public class UserServiceImpl implements IUserService {
     public void removeRole(Long userId, Role role) {
         AppUser user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("Ο χρήστης δεν βρέθηκε"));
-        user.getRoles().remove(role);
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        roles.addAll(user.getRoles());
+        roles.remove(role);
+        user.setRoles(roles);
         userRepository.save(user);
     }
 
@@ -0,0 +1,246 @@
+package com.vastriantafyllou.bankapp.batch;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.model.BatchCheckpoint;
+import com.vastriantafyllou.bankapp.repository.BatchCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InterestAccrualJobTest {
+
+    private static final LocalDate DAY = LocalDate.of(2023, 3, 14);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private BatchCheckpointRepository checkpointRepository;
+
+    @Mock
+    private LedgerBatchWriter ledgerBatchWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InterestAccrualJob job;
+
+    /** The accounts table: id -> (balance, last_seq). */
+    private final TreeMap<Long, Object[]> accounts = new TreeMap<>();
+    private final List<BatchCheckpoint> checkpoints = new ArrayList<>();
+    private final List<LedgerEntry> written = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        job = new InterestAccrualJob(jdbcTemplate, checkpointRepository, ledgerBatchWriter, transactionManager);
+        // 36.5% a year is exactly 0.1% a day in a 365-day year.
+        ReflectionTestUtils.setField(job, "annualRate", new BigDecimal("0.365"));
+        ReflectionTestUtils.setField(job, "partitions", 2);
+        ReflectionTestUtils.setField(job, "threads", 1);
+        ReflectionTestUtils.setField(job, "chunkSize", 2);
+        ReflectionTestUtils.setField(job, "maxAttempts", 3);
+        ReflectionTestUtils.setField(job, "retryBackoffMillis", 1L);
+        ReflectionTestUtils.setField(job, "maxRetryBackoffMillis", 5L);
+        ReflectionTestUtils.setField(job, "catchUpDays", 7);
+    }
+
+    private void account(long id, String balance, long lastSeq) {
+        accounts.put(id, new Object[]{new BigDecimal(balance), lastSeq});
+    }
+
+    private static ResultSet row(long id, BigDecimal balance, long lastSeq) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(id);
+        when(rs.getString(2)).thenReturn("GR" + String.format("%025d", id));
+        when(rs.getBigDecimal(3)).thenReturn(balance);
+        when(rs.getLong(4)).thenReturn(lastSeq);
+        return rs;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubDatabase() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(checkpointRepository.findByJobNameAndRunKeyOrderByPartitionNo(InterestAccrualJob.JOB_NAME, DAY.toString()))
+                .thenAnswer(invocation -> List.copyOf(checkpoints));
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COALESCE(MIN(id)"), any(RowMapper.class)))
+                .thenAnswer(invocation -> new long[]{accounts.firstKey(), accounts.lastKey()});
+        when(checkpointRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<BatchCheckpoint> created = invocation.getArgument(0);
+            for (BatchCheckpoint checkpoint : created) {
+                checkpoint.setId((long) checkpoints.size() + 1);
+                checkpoints.add(checkpoint);
+            }
+            return created;
+        });
+        when(checkpointRepository.findByIdForUpdate(anyLong())).thenAnswer(invocation -> Optional.of(
+                checkpoints.get(((Long) invocation.getArgument(0)).intValue() - 1)));
+        when(jdbcTemplate.query(startsWith("SELECT a.id, a.iban, a.balance"), any(RowMapper.class), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    RowMapper<Object> mapper = invocation.getArgument(1);
+                    long after = invocation.getArgument(2);
+                    long end = invocation.getArgument(3);
+                    int limit = invocation.getArgument(4);
+                    List<Object> rows = new ArrayList<>();
+                    for (Map.Entry<Long, Object[]> account : accounts.entrySet()) {
+                        if (account.getKey() > after && account.getKey() <= end && rows.size() < limit) {
+                            rows.add(mapper.mapRow(row(account.getKey(), (BigDecimal) account.getValue()[0],
+                                    (Long) account.getValue()[1]), rows.size()));
+                        }
+                    }
+                    return rows;
+                });
+    }
+
+    private static List<Long> accountIds(List<LedgerEntry> entries) {
+        return entries.stream().map(LedgerEntry::accountId).toList();
+    }
+
+    @Test
+    @DisplayName("should credit banker's-rounded daily interest and skip accounts that round to zero")
+    void run_rounding() {
+        account(1, "5.00", 0);
+        account(2, "15.00", 7);
+        account(3, "25.00", 2);
+        account(4, "1000.00", 9);
+        stubDatabase();
+        doAnswer(invocation -> written.addAll(invocation.getArgument(0))).when(ledgerBatchWriter).write(anyList());
+
+        long credited = job.run(DAY);
+
+        assertThat(credited).isEqualTo(3);
+        assertThat(written).extracting(LedgerEntry::accountId, LedgerEntry::seq, LedgerEntry::type,
+                        e -> e.amount().toPlainString(), e -> e.balanceAfter().toPlainString())
+                .containsExactly(
+                        tuple(2L, 8L, TransactionType.INTEREST, "0.02", "15.02"),
+                        tuple(3L, 3L, TransactionType.INTEREST, "0.02", "25.02"),
+                        tuple(4L, 10L, TransactionType.INTEREST, "1.00", "1001.00"));
+        assertThat(written).allSatisfy(e -> assertThat(e.createdAt()).isEqualTo(DAY.plusDays(1).atStartOfDay()));
+    }
+
+    @Test
+    @DisplayName("should resume after the last committed chunk of each partition and credit no account twice")
+    void run_resumesFromCheckpoint() {
+        for (long id = 1; id <= 8; id++) {
+            account(id, "1000.00", 0);
+        }
+        stubDatabase();
+        boolean[] failed = {false};
+        doAnswer(invocation -> {
+            List<LedgerEntry> entries = invocation.getArgument(0);
+            if (!failed[0] && accountIds(entries).contains(7L)) {
+                failed[0] = true;
+                throw new IllegalStateException("connection lost");
+            }
+            return written.addAll(entries);
+        }).when(ledgerBatchWriter).write(anyList());
+
+        assertThatThrownBy(() -> job.run(DAY)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(checkpoints).extracting(BatchCheckpoint::getRangeStart, BatchCheckpoint::getRangeEnd,
+                        BatchCheckpoint::getLastProcessedId, BatchCheckpoint::getCompleted)
+                .containsExactly(tuple(1L, 4L, 4L, true), tuple(5L, 8L, 6L, false));
+        assertThat(accountIds(written)).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+
+        long credited = job.run(DAY);
+
+        assertThat(credited).isEqualTo(2);
+        assertThat(accountIds(written)).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+        assertThat(checkpoints).allSatisfy(c -> assertThat(c.getCompleted()).isTrue());
+        verify(checkpointRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("should retry a chunk that lost a row-lock race instead of failing the run")
+    void run_retriesLockFailure() {
+        for (long id = 1; id <= 4; id++) {
+            account(id, "1000.00", 0);
+        }
+        stubDatabase();
+        int[] failures = {0};
+        doAnswer(invocation -> {
+            List<LedgerEntry> entries = invocation.getArgument(0);
+            if (failures[0] < 2 && accountIds(entries).contains(3L)) {
+                failures[0]++;
+                throw new CannotAcquireLockException("Deadlock found when trying to get lock");
+            }
+            return written.addAll(entries);
+        }).when(ledgerBatchWriter).write(anyList());
+
+        long credited = job.run(DAY);
+
+        assertThat(credited).isEqualTo(4);
+        assertThat(failures[0]).isEqualTo(2);
+        assertThat(accountIds(written)).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(checkpoints).allSatisfy(c -> assertThat(c.getCompleted()).isTrue());
+    }
+
+    @Test
+    @DisplayName("should give up on a chunk that keeps losing lock races and leave it for the next run")
+    void run_lockFailureAttemptsExhausted() {
+        for (long id = 1; id <= 4; id++) {
+            account(id, "1000.00", 0);
+        }
+        stubDatabase();
+        doAnswer(invocation -> {
+            List<LedgerEntry> entries = invocation.getArgument(0);
+            if (accountIds(entries).contains(3L)) {
+                throw new CannotAcquireLockException("Lock wait timeout exceeded");
+            }
+            return written.addAll(entries);
+        }).when(ledgerBatchWriter).write(anyList());
+
+        assertThatThrownBy(() -> job.run(DAY)).isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(CannotAcquireLockException.class);
+
+        // The first partition writes two chunks (the last one empty), then three attempts at the failing chunk.
+        verify(ledgerBatchWriter, times(5)).write(anyList());
+        assertThat(checkpoints.get(1).getLastProcessedId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("should resume unfinished days and catch up missed days before yesterday")
+    void pendingDays_resumesAndCatchesUp() {
+        when(checkpointRepository.findIncompleteRunKeys(InterestAccrualJob.JOB_NAME)).thenReturn(List.of("2023-03-08"));
+        when(checkpointRepository.findLatestRunKey(InterestAccrualJob.JOB_NAME)).thenReturn(Optional.of("2023-03-11"));
+
+        assertThat(job.pendingDays(DAY)).containsExactly(
+                LocalDate.of(2023, 3, 8), LocalDate.of(2023, 3, 12), LocalDate.of(2023, 3, 13), DAY);
+    }
+
+    @Test
+    @DisplayName("should look back at most catch-up-days and not catch up before the first run")
+    void pendingDays_bounded() {
+        ReflectionTestUtils.setField(job, "catchUpDays", 2);
+        when(checkpointRepository.findIncompleteRunKeys(InterestAccrualJob.JOB_NAME)).thenReturn(List.of());
+        when(checkpointRepository.findLatestRunKey(InterestAccrualJob.JOB_NAME)).thenReturn(Optional.of("2023-01-01"));
+
+        assertThat(job.pendingDays(DAY)).containsExactly(LocalDate.of(2023, 3, 12), LocalDate.of(2023, 3, 13), DAY);
+
+        when(checkpointRepository.findLatestRunKey(InterestAccrualJob.JOB_NAME)).thenReturn(Optional.empty());
+
+        assertThat(job.pendingDays(DAY)).containsExactly(DAY);
+    }
+}
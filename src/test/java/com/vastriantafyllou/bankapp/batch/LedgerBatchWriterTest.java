@@ -0,0 +1,104 @@
+package com.vastriantafyllou.bankapp.batch;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.core.types.Iban;
+import com.vastriantafyllou.bankapp.event.LedgerEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerBatchWriterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 10, 0);
+    private static final String IBAN_1 = "GR0000000000000000000000001";
+    private static final String IBAN_2 = "GR0000000000000000000000002";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DailyRollupWriter dailyRollupWriter;
+
+    @InjectMocks
+    private LedgerBatchWriter writer;
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<Object[]>> batchCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    @Test
+    @DisplayName("should update each account once with the balance, last_seq and rollup_seq of its last entry")
+    void write_updatesAccountsFromLastEntry() {
+        List<LedgerEntry> entries = List.of(
+                new LedgerEntry(1L, IBAN_1, 5, TransactionType.DEPOSIT, new BigDecimal("10.00"), new BigDecimal("110.00"), NOW),
+                new LedgerEntry(1L, IBAN_1, 6, TransactionType.WITHDRAW, new BigDecimal("30.00"), new BigDecimal("80.00"), NOW),
+                new LedgerEntry(2L, IBAN_2, 3, TransactionType.INTEREST, new BigDecimal("0.02"), new BigDecimal("20.02"), NOW));
+
+        writer.write(entries);
+
+        ArgumentCaptor<List<Object[]>> updates = batchCaptor();
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE accounts SET balance = ?, last_seq = ?, rollup_seq"),
+                updates.capture());
+        assertThat(updates.getValue()).containsExactly(
+                new Object[]{new BigDecimal("80.00"), 6L, 6L, 1L},
+                new Object[]{new BigDecimal("20.02"), 3L, 3L, 2L});
+    }
+
+    @Test
+    @DisplayName("should insert one ledger row per entry, feed the rollups and publish an event per entry")
+    void write_insertsEveryEntry() {
+        UUID transferId = UUID.fromString("00000000-0000-0001-0000-000000000002");
+        Iban counterparty = Iban.parse(IBAN_2);
+        List<LedgerEntry> entries = List.of(
+                new LedgerEntry(1L, IBAN_1, 5, TransactionType.DEPOSIT, new BigDecimal("10.00"), new BigDecimal("110.00"), NOW),
+                new LedgerEntry(1L, IBAN_1, 6, TransactionType.TRANSFER_OUT, new BigDecimal("30.00"), new BigDecimal("80.00"),
+                        NOW, transferId, 2L, counterparty));
+
+        writer.write(entries);
+
+        ArgumentCaptor<List<Object[]>> inserts = batchCaptor();
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO account_transactions"), inserts.capture());
+        assertThat(inserts.getValue()).hasSize(2);
+        assertThat(inserts.getValue().get(0)).containsExactly(1L, 5L, "DEPOSIT", new BigDecimal("10.00"),
+                Timestamp.valueOf(NOW), new BigDecimal("110.00"), null, null, null);
+        Object[] transferRow = inserts.getValue().get(1);
+        assertThat(transferRow[6]).isEqualTo(new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 2});
+        assertThat(transferRow[7]).isEqualTo(2L);
+        assertThat(transferRow[8]).isEqualTo(counterparty.toBytes());
+
+        verify(dailyRollupWriter).addAll(entries);
+        ArgumentCaptor<LedgerEvent> events = ArgumentCaptor.forClass(LedgerEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(LedgerEvent::seq, LedgerEvent::counterpartyIban)
+                .containsExactly(tuple(5L, null), tuple(6L, IBAN_2));
+    }
+
+    @Test
+    @DisplayName("should not touch the database for an empty batch")
+    void write_empty() {
+        writer.write(List.of());
+
+        verifyNoInteractions(jdbcTemplate, eventPublisher, dailyRollupWriter);
+    }
+}
@@ -0,0 +1,68 @@
+package com.vastriantafyllou.bankapp.batch;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LedgerReconciliationJobTest {
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+
+    private LedgerReconciliationJob.ChainState state;
+    private List<Object[]> mismatches;
+
+    @BeforeEach
+    void setUp() {
+        state = new LedgerReconciliationJob.ChainState();
+        state.reset(1L);
+        mismatches = new ArrayList<>();
+    }
+
+    private Map<Long, LedgerReconciliationJob.AccountRow> account(long balance) {
+        return Map.of(1L, new LedgerReconciliationJob.AccountRow(TEST_IBAN, balance));
+    }
+
+    @Test
+    @DisplayName("should accept a consistent chain")
+    void chain_consistent() {
+        var accounts = account(115000L);
+        state.accept(accounts, 10, 1L, TransactionType.DEPOSIT, 100000L, 100000L, mismatches);
+        state.accept(accounts, 11, 2L, TransactionType.WITHDRAW, 5000L, 95000L, mismatches);
+        state.accept(accounts, 12, 3L, TransactionType.TRANSFER_IN, 20000L, 115000L, mismatches);
+        state.close(accounts, mismatches);
+
+        assertThat(mismatches).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should restart the chain after a row without balance_after")
+    void chain_legacyRow() {
+        var accounts = account(20000L);
+        state.accept(accounts, 10, 1L, TransactionType.DEPOSIT, 10000L, 10000L, mismatches);
+        state.accept(accounts, 11, 2L, TransactionType.DEPOSIT, 5000L, LedgerReconciliationJob.ChainState.NO_BALANCE, mismatches);
+        state.accept(accounts, 12, 3L, TransactionType.DEPOSIT, 5000L, 20000L, mismatches);
+        state.close(accounts, mismatches);
+
+        assertThat(mismatches).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should report chain breaks, sequence gaps and a stale balance")
+    void chain_broken() {
+        var accounts = account(99900L);
+        state.accept(accounts, 10, 1L, TransactionType.DEPOSIT, 100000L, 100000L, mismatches);
+        state.accept(accounts, 11, 3L, TransactionType.TRANSFER_OUT, 10000L, 95000L, mismatches);
+        state.close(accounts, mismatches);
+
+        assertThat(mismatches).extracting(row -> row[3]).containsExactly("SEQ_GAP", "CHAIN_BREAK", "BALANCE_MISMATCH");
+        assertThat((BigDecimal) mismatches.get(1)[6]).isEqualByComparingTo("900.00");
+    }
+}
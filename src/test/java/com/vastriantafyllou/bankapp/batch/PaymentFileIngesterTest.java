@@ -0,0 +1,207 @@
+package com.vastriantafyllou.bankapp.batch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.vastriantafyllou.bankapp.core.enums.IngestionStatus;
+import com.vastriantafyllou.bankapp.core.types.Money;
+import com.vastriantafyllou.bankapp.model.Account;
+import com.vastriantafyllou.bankapp.model.IngestionJob;
+import com.vastriantafyllou.bankapp.repository.AccountRepository;
+import com.vastriantafyllou.bankapp.repository.AccountTransactionRepository;
+import com.vastriantafyllou.bankapp.repository.IngestionJobRepository;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PaymentFileIngesterTest {
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+
+    @Test
+    @DisplayName("should parse a credit line with an optional reference")
+    void parse_valid() {
+        PaymentFileIngester.Instruction instruction =
+                PaymentFileIngester.Instruction.parse(3, " " + TEST_IBAN + ", 1500.50 ,Salary, March");
+
+        assertThat(instruction.isValid()).isTrue();
+        assertThat(instruction.iban()).isEqualTo(TEST_IBAN);
+        assertThat(instruction.amount()).isEqualTo(Money.ofCents(150_050));
+    }
+
+    @Test
+    @DisplayName("should skip headers, comments and blank lines")
+    void parse_skipped() {
+        assertThat(PaymentFileIngester.Instruction.parse(1, "iban,amount").outcome()).isEqualTo("SKIPPED,");
+        assertThat(PaymentFileIngester.Instruction.parse(2, "# payroll").outcome()).isEqualTo("SKIPPED,");
+        assertThat(PaymentFileIngester.Instruction.parse(3, "   ").outcome()).isEqualTo("SKIPPED,");
+    }
+
+    @Test
+    @DisplayName("should reject malformed lines")
+    void parse_rejected() {
+        assertThat(PaymentFileIngester.Instruction.parse(2, TEST_IBAN).outcome()).startsWith("REJECTED");
+        assertThat(PaymentFileIngester.Instruction.parse(2, "GR12,10.00").outcome()).startsWith("REJECTED");
+        assertThat(PaymentFileIngester.Instruction.parse(2, TEST_IBAN + ",abc").outcome()).startsWith("REJECTED");
+        assertThat(PaymentFileIngester.Instruction.parse(2, TEST_IBAN + ",-5.00").outcome()).startsWith("REJECTED");
+        assertThat(PaymentFileIngester.Instruction.parse(2, TEST_IBAN + ",1.005").outcome()).startsWith("REJECTED");
+    }
+
+    @Nested
+    @ExtendWith(MockitoExtension.class)
+    class RunTests {
+
+        private static final long JOB_ID = 7L;
+        private static final String IBAN_A = "GR0000000000000000000000001";
+        private static final String IBAN_B = "GR0000000000000000000000002";
+        private static final String IBAN_UNKNOWN = "GR0000000000000000000000009";
+
+        @Mock
+        private IngestionJobRepository jobRepository;
+
+        @Mock
+        private AccountRepository accountRepository;
+
+        @Mock
+        private AccountTransactionRepository accountTransactionRepository;
+
+        @Mock
+        private LedgerBatchWriter ledgerBatchWriter;
+
+        @Mock
+        private PlatformTransactionManager transactionManager;
+
+        @TempDir
+        Path dir;
+
+        private PaymentFileIngester ingester;
+        private IngestionJob job;
+        private Path input;
+        private Path result;
+        private final List<LedgerEntry> written = new ArrayList<>();
+
+        /** Checkpoint and result file size at every commit: {linesProcessed, resultBytes, file length}. */
+        private final List<long[]> commits = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            ingester = new PaymentFileIngester(jobRepository, accountRepository, accountTransactionRepository,
+                    ledgerBatchWriter, transactionManager);
+            ReflectionTestUtils.setField(ingester, "chunkSize", 2);
+            input = dir.resolve("input.csv");
+            result = dir.resolve("result.csv");
+            job = IngestionJob.builder()
+                    .id(JOB_ID)
+                    .fileName("payroll.csv")
+                    .inputPath(input.toString())
+                    .resultPath(result.toString())
+                    .createdBy("admin")
+                    .build();
+
+            List<Account> accounts = List.of(
+                    Account.builder().id(1L).iban(IBAN_A).balance(new BigDecimal("100.00")).lastSeq(3L).build(),
+                    Account.builder().id(2L).iban(IBAN_B).balance(new BigDecimal("0.00")).lastSeq(0L).build());
+            when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+            doAnswer(invocation -> commits.add(new long[]{job.getLinesProcessed(), job.getResultBytes(),
+                    Files.exists(result) ? Files.size(result) : 0}))
+                    .when(transactionManager).commit(any());
+            when(jobRepository.findByIdForUpdate(JOB_ID)).thenAnswer(invocation -> Optional.of(job));
+            when(accountRepository.findAllByIbanInForUpdate(anyCollection())).thenAnswer(invocation -> {
+                Collection<String> ibans = invocation.getArgument(0);
+                return accounts.stream().filter(a -> ibans.contains(a.getIban())).toList();
+            });
+            doAnswer(invocation -> written.addAll(invocation.getArgument(0))).when(ledgerBatchWriter).write(anyList());
+        }
+
+        private void input(String... lines) throws IOException {
+            Files.write(input, List.of(lines), StandardCharsets.UTF_8);
+        }
+
+        @Test
+        @DisplayName("should commit every chunk together with its checkpoint and the result lines it describes")
+        void run_commitsChunkWithCheckpoint() throws IOException {
+            input("iban,amount", IBAN_A + ",10.00", IBAN_B + ",2.50", IBAN_A + ",abc", IBAN_UNKNOWN + ",1.00");
+
+            ingester.run(JOB_ID);
+
+            // Marking the job running, three chunks of at most two lines, then marking it completed.
+            assertThat(commits).extracting(c -> c[0]).containsExactly(0L, 2L, 4L, 5L, 5L);
+            assertThat(commits).allSatisfy(c -> assertThat(c[1]).isEqualTo(c[2]));
+            assertThat(Files.readAllLines(result, StandardCharsets.UTF_8)).containsExactly(
+                    "line,status,message",
+                    "1,SKIPPED,",
+                    "2,ACCEPTED,",
+                    "3,ACCEPTED,",
+                    "4,REJECTED,Μη έγκυρο ποσό",
+                    "5,REJECTED,Ο λογαριασμός δεν βρέθηκε");
+            assertThat(written).extracting(LedgerEntry::accountId, LedgerEntry::seq, e -> e.balanceAfter().toPlainString())
+                    .containsExactly(tuple(1L, 4L, "110.00"), tuple(2L, 1L, "2.50"));
+            assertThat(job.getStatus()).isEqualTo(IngestionStatus.COMPLETED);
+            assertThat(job.getAcceptedCount()).isEqualTo(2);
+            assertThat(job.getRejectedCount()).isEqualTo(2);
+            assertThat(job.getAcceptedAmount()).isEqualTo(Money.ofCents(1_250));
+        }
+
+        @Test
+        @DisplayName("should resume with the first line after the last committed chunk")
+        void run_resumesFromCheckpoint() throws IOException {
+            input(IBAN_A + ",1.00", IBAN_A + ",2.00", IBAN_B + ",3.00", IBAN_A + ",4.00");
+            String committed = "line,status,message\n1,ACCEPTED,\n2,ACCEPTED,\n";
+            Files.writeString(result, committed, StandardCharsets.UTF_8);
+            job.setStatus(IngestionStatus.RUNNING);
+            job.setLinesProcessed(2L);
+            job.setResultBytes((long) committed.getBytes(StandardCharsets.UTF_8).length);
+            job.setAcceptedCount(2L);
+            job.setAcceptedAmount(Money.ofCents(300));
+
+            ingester.run(JOB_ID);
+
+            assertThat(written).extracting(LedgerEntry::accountId, e -> e.amount().toPlainString())
+                    .containsExactly(tuple(1L, "4.00"), tuple(2L, "3.00"));
+            assertThat(Files.readString(result, StandardCharsets.UTF_8))
+                    .isEqualTo(committed + "3,ACCEPTED,\n4,ACCEPTED,\n");
+            assertThat(job.getLinesProcessed()).isEqualTo(4);
+            assertThat(job.getAcceptedCount()).isEqualTo(4);
+            assertThat(job.getAcceptedAmount()).isEqualTo(Money.ofCents(1_000));
+            assertThat(job.getStatus()).isEqualTo(IngestionStatus.COMPLETED);
+        }
+
+        @Test
+        @DisplayName("should truncate result lines of an uncommitted chunk before continuing")
+        void run_truncatesUncommittedResults() throws IOException {
+            input(IBAN_A + ",1.00", IBAN_B + ",2.00", IBAN_A + ",3.00");
+            String committed = "line,status,message\n1,ACCEPTED,\n2,ACCEPTED,\n";
+            // The crashed run wrote part of the next chunk's results but never committed its checkpoint.
+            Files.writeString(result, committed + "3,ACCEPTED,\n4,ACC", StandardCharsets.UTF_8);
+            job.setStatus(IngestionStatus.RUNNING);
+            job.setLinesProcessed(2L);
+            job.setResultBytes((long) committed.getBytes(StandardCharsets.UTF_8).length);
+
+            ingester.run(JOB_ID);
+
+            assertThat(Files.readString(result, StandardCharsets.UTF_8)).isEqualTo(committed + "3,ACCEPTED,\n");
+            assertThat(job.getResultBytes()).isEqualTo(Files.size(result));
+            assertThat(written).extracting(LedgerEntry::seq).containsExactly(4L);
+        }
+    }
+}
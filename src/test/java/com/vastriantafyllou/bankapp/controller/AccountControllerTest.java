@@ -1,9 +1,15 @@
 package com.vastriantafyllou.bankapp.controller;
 
+import com.vastriantafyllou.bankapp.core.enums.AccountSortField;
 import com.vastriantafyllou.bankapp.core.exception.*;
 import com.vastriantafyllou.bankapp.dto.AccountInsertDTO;
+import com.vastriantafyllou.bankapp.dto.AccountOverviewDTO;
 import com.vastriantafyllou.bankapp.dto.AccountReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.AdminAccountPageDTO;
+import com.vastriantafyllou.bankapp.service.AccountStreamService;
+import com.vastriantafyllou.bankapp.service.IAccountAnalyticsService;
 import com.vastriantafyllou.bankapp.service.IAccountService;
+import com.vastriantafyllou.bankapp.service.IAdminAccountService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,11 +18,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.util.Collections;
@@ -36,6 +45,15 @@ class AccountControllerTest {
     @Mock
     private IAccountService accountService;
 
+    @Mock
+    private AccountStreamService accountStreamService;
+
+    @Mock
+    private IAccountAnalyticsService analyticsService;
+
+    @Mock
+    private IAdminAccountService adminAccountService;
+
     @InjectMocks
     private AccountController accountController;
 
@@ -66,23 +84,32 @@ class AccountControllerTest {
         @Test
         @DisplayName("should return accounts list for authenticated user")
         void listAccounts_authenticated() throws Exception {
-            AccountReadOnlyDTO dto = new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal("1000.00"));
-            when(accountService.getAllAccounts("testuser", false)).thenReturn(List.of(dto));
+            AccountReadOnlyDTO dto = new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal("1000.00"), 0L);
+            when(accountService.getAccountOverview("testuser", 3))
+                    .thenReturn(List.of(new AccountOverviewDTO(dto, Collections.emptyList())));
 
             mockMvc.perform(get("/accounts").principal(userAuth()))
                     .andExpect(status().isOk())
                     .andExpect(view().name("accounts/list"))
-                    .andExpect(model().attributeExists("accounts"));
+                    .andExpect(model().attribute("accounts", List.of(dto)))
+                    .andExpect(model().attributeExists("recentTransactions"));
+            verify(accountService, never()).getAllAccounts(anyString());
         }
 
         @Test
-        @DisplayName("admin should see all accounts")
+        @DisplayName("admin should see one keyset page of all accounts")
         void listAccounts_admin() throws Exception {
-            when(accountService.getAllAccounts("admin", true)).thenReturn(Collections.emptyList());
+            when(adminAccountService.getAccounts(AccountSortField.BALANCE, true, "abc", 50))
+                    .thenReturn(new AdminAccountPageDTO("next", Collections.emptyList()));
 
-            mockMvc.perform(get("/accounts").principal(adminAuth()))
+            mockMvc.perform(get("/accounts").principal(adminAuth())
+                            .param("sort", "BALANCE")
+                            .param("direction", "DESC")
+                            .param("cursor", "abc"))
                     .andExpect(status().isOk())
-                    .andExpect(view().name("accounts/list"));
+                    .andExpect(view().name("accounts/list"))
+                    .andExpect(model().attribute("nextCursor", "next"));
+            verify(accountService, never()).getAllAccounts(anyString());
         }
     }
 
@@ -107,7 +134,7 @@ class AccountControllerTest {
         @Test
         @DisplayName("should create account successfully")
         void createAccount_success() throws Exception {
-            AccountReadOnlyDTO result = new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal("500.00"));
+            AccountReadOnlyDTO result = new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal("500.00"), 0L);
             when(accountService.createAccount(any(AccountInsertDTO.class), eq("testuser"))).thenReturn(result);
 
             mockMvc.perform(post("/accounts/new")
@@ -170,9 +197,9 @@ class AccountControllerTest {
         @Test
         @DisplayName("should show account details")
         void viewAccount_success() throws Exception {
-            AccountReadOnlyDTO dto = new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal("1000.00"));
+            AccountReadOnlyDTO dto = new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal("1000.00"), 0L);
             when(accountService.getAccountByIban(TEST_IBAN, "testuser", false)).thenReturn(dto);
-            when(accountService.getTransactionHistory(TEST_IBAN, "testuser", false)).thenReturn(Collections.emptyList());
+            when(accountService.getTransactionHistoryPage(TEST_IBAN, 0, 20, "testuser", false)).thenReturn(new SliceImpl<>(Collections.emptyList()));
 
             mockMvc.perform(get("/accounts/" + TEST_IBAN).principal(userAuth()))
                     .andExpect(status().isOk())
@@ -180,6 +207,20 @@ class AccountControllerTest {
                     .andExpect(model().attributeExists("account", "transactionDTO", "transferDTO", "transactions"));
         }
 
+        @Test
+        @DisplayName("should show the requested history page")
+        void viewAccount_olderPage() throws Exception {
+            AccountReadOnlyDTO dto = new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal("1000.00"), 0L);
+            when(accountService.getAccountByIban(TEST_IBAN, "testuser", false)).thenReturn(dto);
+            when(accountService.getTransactionHistoryPage(TEST_IBAN, 1, 20, "testuser", false))
+                    .thenReturn(new SliceImpl<>(Collections.emptyList(), PageRequest.of(1, 20), false));
+
+            mockMvc.perform(get("/accounts/" + TEST_IBAN).param("page", "1").principal(userAuth()))
+                    .andExpect(status().isOk())
+                    .andExpect(model().attribute("historyPage", 1))
+                    .andExpect(model().attribute("historyHasNext", false));
+        }
+
         @Test
         @DisplayName("should redirect when account not found")
         void viewAccount_notFound() throws Exception {
@@ -291,9 +332,9 @@ class AccountControllerTest {
         @Test
         @DisplayName("should show validation error when toIban is blank")
         void transfer_blankToIban() throws Exception {
-            AccountReadOnlyDTO dto = new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal("1000.00"));
+            AccountReadOnlyDTO dto = new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal("1000.00"), 0L);
             when(accountService.getAccountByIban(TEST_IBAN, "testuser", false)).thenReturn(dto);
-            when(accountService.getTransactionHistory(TEST_IBAN, "testuser", false)).thenReturn(Collections.emptyList());
+            when(accountService.getTransactionHistoryPage(TEST_IBAN, 0, 20, "testuser", false)).thenReturn(new SliceImpl<>(Collections.emptyList()));
 
             mockMvc.perform(post("/accounts/" + TEST_IBAN + "/transfer")
                             .principal(userAuth())
@@ -306,6 +347,36 @@ class AccountControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /accounts/{iban}/events")
+    class AccountEventsTests {
+
+        @Test
+        @DisplayName("should open an event stream for an accessible account")
+        void accountEvents_subscribes() throws Exception {
+            AccountReadOnlyDTO dto = new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal("1000.00"), 0L);
+            when(accountService.getAccountByIban(TEST_IBAN, "testuser", false)).thenReturn(dto);
+            when(accountStreamService.subscribe(TEST_IBAN)).thenReturn(new SseEmitter());
+
+            mockMvc.perform(get("/accounts/" + TEST_IBAN + "/events").principal(userAuth()))
+                    .andExpect(request().asyncStarted());
+
+            verify(accountStreamService).subscribe(TEST_IBAN);
+        }
+
+        @Test
+        @DisplayName("should not subscribe to someone else's account")
+        void accountEvents_notFound() throws Exception {
+            when(accountService.getAccountByIban(TEST_IBAN, "testuser", false))
+                    .thenThrow(new AccountNotFoundException("Not found"));
+
+            mockMvc.perform(get("/accounts/" + TEST_IBAN + "/events").principal(userAuth()))
+                    .andExpect(status().is3xxRedirection());
+
+            verify(accountStreamService, never()).subscribe(any());
+        }
+    }
+
     @Nested
     @DisplayName("POST /accounts/{iban}/delete")
     class DeleteAccountTests {
@@ -0,0 +1,227 @@
+package com.vastriantafyllou.bankapp.controller.api;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.core.exception.AccountBusyException;
+import com.vastriantafyllou.bankapp.core.exception.ApiExceptionHandler;
+import com.vastriantafyllou.bankapp.core.exception.InsufficientBalanceException;
+import com.vastriantafyllou.bankapp.core.types.TransactionCursor;
+import com.vastriantafyllou.bankapp.dto.AccountReadOnlyDTO;
+import com.vastriantafyllou.bankapp.model.AccountTransaction;
+import com.vastriantafyllou.bankapp.service.IAccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountRestControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private IAccountService accountService;
+
+    @InjectMocks
+    private AccountRestController controller;
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+    private static final String TEST_IBAN_2 = "GR9876543210987654321098765";
+    private static final String TEST_ACCOUNT_NUMBER = "12345678901234567890";
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    private static Authentication userAuth() {
+        return new UsernamePasswordAuthenticationToken("testuser", "pass",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/accounts")
+    class ListAccountsTests {
+
+        @Test
+        @DisplayName("should list the user's own accounts")
+        void listAccounts_user() throws Exception {
+            AccountReadOnlyDTO dto = new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal("1000.00"), 4L);
+            when(accountService.getAllAccounts("testuser")).thenReturn(List.of(dto));
+
+            mockMvc.perform(get("/api/v1/accounts").principal(userAuth()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].iban").value(TEST_IBAN));
+        }
+
+        @Test
+        @DisplayName("should send admins to the paged admin listing")
+        void listAccounts_admin() throws Exception {
+            Authentication admin = new UsernamePasswordAuthenticationToken("admin", "pass",
+                    List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+            mockMvc.perform(get("/api/v1/accounts").principal(admin))
+                    .andExpect(status().isSeeOther())
+                    .andExpect(header().string("Location", "/api/v1/admin/accounts"));
+
+            verifyNoInteractions(accountService);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/accounts/{iban}")
+    class GetAccountTests {
+
+        @Test
+        @DisplayName("should return account with weak ETag")
+        void getAccount_success() throws Exception {
+            AccountReadOnlyDTO dto = new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal("1000.00"), 4L);
+            when(accountService.getAccountByIban(TEST_IBAN, "testuser", false)).thenReturn(dto);
+
+            mockMvc.perform(get("/api/v1/accounts/{iban}", TEST_IBAN).principal(userAuth()))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "W/\"1-4\""))
+                    .andExpect(jsonPath("$.iban").value(TEST_IBAN))
+                    .andExpect(jsonPath("$.balance").value(1000.00));
+        }
+
+        @Test
+        @DisplayName("should answer 304 when the version did not change")
+        void getAccount_notModified() throws Exception {
+            AccountReadOnlyDTO dto = new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal("1000.00"), 4L);
+            when(accountService.getAccountByIban(TEST_IBAN, "testuser", false)).thenReturn(dto);
+
+            mockMvc.perform(get("/api/v1/accounts/{iban}/balance", TEST_IBAN)
+                            .header("If-None-Match", "W/\"1-4\"")
+                            .principal(userAuth()))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/accounts/{iban}/transfer")
+    class TransferTests {
+
+        @Test
+        @DisplayName("should transfer and return the updated source account")
+        void transfer_success() throws Exception {
+            AccountReadOnlyDTO dto = new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal("900.00"), 5L);
+            when(accountService.getAccountByIban(TEST_IBAN, "testuser", false)).thenReturn(dto);
+
+            mockMvc.perform(post("/api/v1/accounts/{iban}/transfer", TEST_IBAN)
+                            .principal(userAuth())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"toIban\":\"" + TEST_IBAN_2 + "\",\"amount\":100.00}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.version").value(5));
+
+            verify(accountService).transfer(eq(TEST_IBAN), eq(TEST_IBAN_2), argThat(a -> a.compareTo(new BigDecimal("100")) == 0),
+                    eq("testuser"), eq(false));
+        }
+
+        @Test
+        @DisplayName("should return 400 on insufficient balance")
+        void transfer_insufficientBalance() throws Exception {
+            doThrow(new InsufficientBalanceException("Ανεπαρκές υπόλοιπο"))
+                    .when(accountService).transfer(anyString(), anyString(), any(), anyString(), anyBoolean());
+
+            mockMvc.perform(post("/api/v1/accounts/{iban}/transfer", TEST_IBAN)
+                            .principal(userAuth())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"toIban\":\"" + TEST_IBAN_2 + "\",\"amount\":5000.00}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.detail").value("Ανεπαρκές υπόλοιπο"));
+        }
+
+        @Test
+        @DisplayName("should return 503 with Retry-After when the account stays locked")
+        void transfer_accountBusy() throws Exception {
+            doThrow(new AccountBusyException("Ο λογαριασμός είναι απασχολημένος", 2, null))
+                    .when(accountService).transfer(anyString(), anyString(), any(), anyString(), anyBoolean());
+
+            mockMvc.perform(post("/api/v1/accounts/{iban}/transfer", TEST_IBAN)
+                            .principal(userAuth())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"toIban\":\"" + TEST_IBAN_2 + "\",\"amount\":100.00}"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "2"))
+                    .andExpect(jsonPath("$.detail").value("Ο λογαριασμός είναι απασχολημένος"));
+        }
+
+        @Test
+        @DisplayName("should reject invalid body without calling the service")
+        void transfer_invalidBody() throws Exception {
+            mockMvc.perform(post("/api/v1/accounts/{iban}/transfer", TEST_IBAN)
+                            .principal(userAuth())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"toIban\":\"\",\"amount\":0}"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(accountService);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/accounts/{iban}/transactions/search")
+    class SearchTransactionsTests {
+
+        @Test
+        @DisplayName("should bind the filters and return a cursor to the next page")
+        void search_nextCursor() throws Exception {
+            LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 10, 15);
+            AccountTransaction row = AccountTransaction.builder().id(42L).seq(7L).type(TransactionType.DEPOSIT)
+                    .amount(new BigDecimal("50.00")).balanceAfter(new BigDecimal("150.00")).createdAt(createdAt).build();
+            TransactionCursor cursor = new TransactionCursor(LocalDateTime.of(2026, 3, 2, 9, 0), 50L);
+            when(accountService.searchTransactions(eq(TEST_IBAN),
+                    argThat(f -> f.getType() == TransactionType.DEPOSIT && LocalDate.of(2026, 3, 1).equals(f.getFrom())),
+                    eq(cursor), eq(1), eq("testuser"), eq(false)))
+                    .thenReturn(new SliceImpl<>(List.of(row), PageRequest.of(0, 1), true));
+
+            mockMvc.perform(get("/api/v1/accounts/{iban}/transactions/search", TEST_IBAN)
+                            .param("type", "DEPOSIT")
+                            .param("from", "2026-03-01")
+                            .param("cursor", cursor.encode())
+                            .param("size", "1")
+                            .principal(userAuth()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.transactions[0].seq").value(7))
+                    .andExpect(jsonPath("$.nextCursor").value(new TransactionCursor(createdAt, 42L).encode()));
+        }
+
+        @Test
+        @DisplayName("should reject a malformed cursor without calling the service")
+        void search_invalidCursor() throws Exception {
+            mockMvc.perform(get("/api/v1/accounts/{iban}/transactions/search", TEST_IBAN)
+                            .param("cursor", "not-a-cursor")
+                            .principal(userAuth()))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(accountService);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.vastriantafyllou.bankapp.controller.api;
+
+import com.vastriantafyllou.bankapp.dto.AdminAccountRowDTO;
+import com.vastriantafyllou.bankapp.service.IAdminAccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminAccountRestControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private IAdminAccountService adminAccountService;
+
+    @InjectMocks
+    private AdminAccountRestController controller;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("should export CSV with quoting and without live formulas")
+    @SuppressWarnings("unchecked")
+    void exportAccounts_escapesValues() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<AdminAccountRowDTO> consumer = invocation.getArgument(0);
+            consumer.accept(new AdminAccountRowDTO(1L, "GR1234567890123456789012345", "12345678901234567890",
+                    new BigDecimal("-5.00"), "=HYPERLINK(\"x\")"));
+            consumer.accept(new AdminAccountRowDTO(2L, "GR9876543210987654321098765", null,
+                    new BigDecimal("10.00"), "@me,you"));
+            return null;
+        }).when(adminAccountService).exportAccounts(any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/admin/accounts/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("id,iban,account_number,balance,owner\n"
+                        + "1,GR1234567890123456789012345,12345678901234567890,-5.00,\"'=HYPERLINK(\"\"x\"\")\"\n"
+                        + "2,GR9876543210987654321098765,,10.00,\"'@me,you\"\n"));
+    }
+}
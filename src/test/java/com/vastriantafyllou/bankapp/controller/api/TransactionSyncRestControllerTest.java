@@ -0,0 +1,131 @@
+package com.vastriantafyllou.bankapp.controller.api;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.core.exception.AccountNotFoundException;
+import com.vastriantafyllou.bankapp.core.exception.ApiExceptionHandler;
+import com.vastriantafyllou.bankapp.model.AccountTransaction;
+import com.vastriantafyllou.bankapp.service.IAccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSyncRestControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private IAccountService accountService;
+
+    @InjectMocks
+    private TransactionSyncRestController controller;
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    private static Authentication userAuth() {
+        return new UsernamePasswordAuthenticationToken("testuser", "pass",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Test
+    @DisplayName("should return transactions after the given seq with an ETag")
+    void sync_returnsDelta() throws Exception {
+        AccountTransaction tx = AccountTransaction.builder()
+                .id(9L).seq(3L).type(TransactionType.DEPOSIT)
+                .amount(new BigDecimal("10.00")).balanceAfter(new BigDecimal("110.00"))
+                .createdAt(LocalDateTime.of(2026, 1, 1, 12, 0)).build();
+        when(accountService.getLastSeq(TEST_IBAN, "testuser", false)).thenReturn(3L);
+        when(accountService.getTransactionsAfterSeq(TEST_IBAN, 2L, 501, "testuser", false)).thenReturn(List.of(tx));
+
+        mockMvc.perform(get("/api/v1/accounts/{iban}/sync", TEST_IBAN).param("afterSeq", "2").principal(userAuth()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"3\""))
+                .andExpect(jsonPath("$.lastSeq").value(3))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.transactions[0].seq").value(3))
+                .andExpect(jsonPath("$.transactions[0].type").value("DEPOSIT"));
+    }
+
+    private static AccountTransaction transaction(long seq) {
+        return AccountTransaction.builder()
+                .id(seq).seq(seq).type(TransactionType.DEPOSIT)
+                .amount(new BigDecimal("1.00")).balanceAfter(BigDecimal.valueOf(seq))
+                .createdAt(LocalDateTime.of(2026, 1, 1, 12, 0)).build();
+    }
+
+    @Test
+    @DisplayName("should report more rows and trim the look-ahead row when the page is full")
+    void sync_hasMore() throws Exception {
+        when(accountService.getLastSeq(TEST_IBAN, "testuser", false)).thenReturn(10L);
+        when(accountService.getTransactionsAfterSeq(TEST_IBAN, 0L, 3, "testuser", false))
+                .thenReturn(List.of(transaction(1), transaction(2), transaction(3)));
+
+        mockMvc.perform(get("/api/v1/accounts/{iban}/sync", TEST_IBAN).param("limit", "2").principal(userAuth()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.transactions.length()").value(2))
+                .andExpect(jsonPath("$.transactions[1].seq").value(2));
+    }
+
+    @Test
+    @DisplayName("should not report more rows when the last page is exactly full")
+    void sync_lastPageExactlyFull() throws Exception {
+        when(accountService.getLastSeq(TEST_IBAN, "testuser", false)).thenReturn(2L);
+        when(accountService.getTransactionsAfterSeq(TEST_IBAN, 0L, 3, "testuser", false))
+                .thenReturn(List.of(transaction(1), transaction(2)));
+
+        mockMvc.perform(get("/api/v1/accounts/{iban}/sync", TEST_IBAN).param("limit", "2").principal(userAuth()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.transactions.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("should answer 304 without querying transactions when nothing changed")
+    void sync_notModified() throws Exception {
+        when(accountService.getLastSeq(TEST_IBAN, "testuser", false)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/v1/accounts/{iban}/sync", TEST_IBAN)
+                        .param("afterSeq", "3")
+                        .header("If-None-Match", "W/\"3\"")
+                        .principal(userAuth()))
+                .andExpect(status().isNotModified());
+
+        verify(accountService, never()).getTransactionsAfterSeq(anyString(), anyLong(), anyInt(), anyString(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("should return 404 for unknown account")
+    void sync_notFound() throws Exception {
+        when(accountService.getLastSeq(TEST_IBAN, "testuser", false))
+                .thenThrow(new AccountNotFoundException("not found"));
+
+        mockMvc.perform(get("/api/v1/accounts/{iban}/sync", TEST_IBAN).principal(userAuth()))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,115 @@
+package com.vastriantafyllou.bankapp.controller.api;
+
+import com.vastriantafyllou.bankapp.core.enums.PendingTransferStatus;
+import com.vastriantafyllou.bankapp.core.exception.ApiExceptionHandler;
+import com.vastriantafyllou.bankapp.core.exception.PendingTransferNotFoundException;
+import com.vastriantafyllou.bankapp.dto.PendingTransferReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.TransferRequestDTO;
+import com.vastriantafyllou.bankapp.service.IAccountService;
+import com.vastriantafyllou.bankapp.service.IPendingTransferService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferRestControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private IPendingTransferService pendingTransferService;
+
+    @Mock
+    private IAccountService accountService;
+
+    @InjectMocks
+    private TransferRestController controller;
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+    private static final String TEST_IBAN_2 = "GR9876543210987654321098765";
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    private static Authentication userAuth() {
+        return new UsernamePasswordAuthenticationToken("testuser", "pass",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Test
+    @DisplayName("should queue the transfer and answer 202 with a status location")
+    void submitTransfer_accepted() throws Exception {
+        PendingTransferReadOnlyDTO pending = new PendingTransferReadOnlyDTO(42L, TEST_IBAN, TEST_IBAN_2,
+                new BigDecimal("250.00"), PendingTransferStatus.PENDING, null, LocalDateTime.now(), null);
+        when(pendingTransferService.submitTransfer(any(TransferRequestDTO.class), eq("testuser"), eq(false))).thenReturn(pending);
+
+        mockMvc.perform(post("/api/v1/transfers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromIban\":\"" + TEST_IBAN + "\",\"toIban\":\"" + TEST_IBAN_2 + "\",\"amount\":250.00}")
+                        .principal(userAuth()))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/api/v1/transfers/42"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("should answer 404 for an unknown transfer")
+    void getTransfer_notFound() throws Exception {
+        when(pendingTransferService.getPendingTransfer(42L, "testuser", false))
+                .thenThrow(new PendingTransferNotFoundException("Η μεταφορά 42 δεν βρέθηκε"));
+
+        mockMvc.perform(get("/api/v1/transfers/{id}", 42L).principal(userAuth()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("should post a multi-leg transfer and return its id")
+    void postTransfer_success() throws Exception {
+        UUID transferId = UUID.randomUUID();
+        when(accountService.transfer(anyList(), eq("testuser"), eq(false))).thenReturn(transferId);
+
+        mockMvc.perform(post("/api/v1/transfers/postings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"postings\":[{\"iban\":\"" + TEST_IBAN + "\",\"amount\":-100.00}," +
+                                "{\"iban\":\"" + TEST_IBAN_2 + "\",\"amount\":100.00}]}")
+                        .principal(userAuth()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transferId").value(transferId.toString()));
+    }
+
+    @Test
+    @DisplayName("should reject a transfer with a single posting")
+    void postTransfer_singlePosting() throws Exception {
+        mockMvc.perform(post("/api/v1/transfers/postings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"postings\":[{\"iban\":\"" + TEST_IBAN + "\",\"amount\":-100.00}]}")
+                        .principal(userAuth()))
+                .andExpect(status().isBadRequest());
+        verify(accountService, never()).transfer(anyList(), anyString(), anyBoolean());
+    }
+}
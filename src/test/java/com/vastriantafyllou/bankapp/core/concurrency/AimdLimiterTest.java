@@ -0,0 +1,69 @@
+package com.vastriantafyllou.bankapp.core.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AimdLimiterTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("should reject at once when the limit is reached")
+    void tryAcquire_rejectsOverLimit() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 100, 0.5);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(0, 10 * MS, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should grow by about one per window of fast requests, but only while busy")
+    void release_fastGrows() {
+        AimdLimiter limiter = new AimdLimiter(4, 1, 10, 100, 0.5);
+
+        // One request at a time never uses half of the limit.
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.release(0, 10 * MS, false);
+        }
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        // Saturated: each completion is immediately replaced.
+        while (limiter.tryAcquire()) {
+        }
+        for (int i = 0; i < 5; i++) {
+            limiter.release(0, 10 * MS, false);
+            limiter.tryAcquire();
+        }
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("should cut once per congested period and never below the minimum")
+    void release_slowCutsOnce() {
+        AimdLimiter limiter = new AimdLimiter(8, 2, 10, 100, 0.5);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire();
+        }
+
+        // Three slow requests that all started before the first cut.
+        limiter.release(0, 200 * MS, false);
+        limiter.release(0, 210 * MS, false);
+        limiter.release(0, 220 * MS, true);
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        limiter.tryAcquire();
+        limiter.release(300 * MS, 500 * MS, false);
+        limiter.tryAcquire();
+        limiter.release(600 * MS, 800 * MS, false);
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,103 @@
+package com.vastriantafyllou.bankapp.core.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should share the in-flight result with callers of the same key")
+    void execute_coalesces() throws Exception {
+        SingleFlight flight = new SingleFlight();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flight.execute("k", () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "result";
+        }), pool);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> flight.execute("k", () -> {
+            executions.incrementAndGet();
+            return "other";
+        }), pool);
+        while (flight.coalescedCount() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(executions).hasValue(1);
+        assertThat(flight.executedCount()).isEqualTo(1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("should run again once the previous call completed, and keep keys apart")
+    void execute_notCached() {
+        SingleFlight flight = new SingleFlight();
+        AtomicInteger executions = new AtomicInteger();
+
+        flight.execute("k", executions::incrementAndGet);
+        flight.execute("k", executions::incrementAndGet);
+        flight.execute("other", executions::incrementAndGet);
+
+        assertThat(executions).hasValue(3);
+        assertThat(flight.coalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should rethrow the leader's exception to every caller")
+    void execute_exception() throws Exception {
+        SingleFlight flight = new SingleFlight();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> flight.execute("k", () -> {
+            started.countDown();
+            await(release);
+            throw failure;
+        }), pool);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() -> flight.execute("k", () -> "unused"), pool);
+        while (flight.coalescedCount() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.vastriantafyllou.bankapp.core.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StripedLocksTest {
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+    private static final String TEST_IBAN_2 = "GR9876543210987654321098765";
+
+    @Test
+    @DisplayName("should round the stripe count up to a power of two")
+    void stripeCount_powerOfTwo() {
+        assertThat(new StripedLocks(1000, true).stripeCount()).isEqualTo(1024);
+        assertThat(new StripedLocks(1024, true).stripeCount()).isEqualTo(1024);
+        assertThat(new StripedLocks(1, true).stripeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should take each stripe once, in ascending order")
+    void tryLock_sortedAndDistinct() throws InterruptedException {
+        StripedLocks locks = new StripedLocks(1, true);
+
+        int[] held = locks.tryLock(100, TimeUnit.MILLISECONDS, TEST_IBAN_2, TEST_IBAN, TEST_IBAN_2);
+
+        assertThat(held).containsExactly(0);
+        locks.unlock(held);
+
+        StripedLocks wide = new StripedLocks(64, true);
+        int[] both = wide.tryLock(100, TimeUnit.MILLISECONDS, TEST_IBAN_2, TEST_IBAN);
+        assertThat(both).isSorted();
+        wide.unlock(both);
+    }
+
+    @Test
+    @DisplayName("should time out while another thread holds the stripe and release nothing")
+    void tryLock_timeout() throws Exception {
+        StripedLocks locks = new StripedLocks(1, true);
+        int[] held = locks.tryLock(100, TimeUnit.MILLISECONDS, TEST_IBAN);
+
+        int[] other = CompletableFuture.supplyAsync(() -> {
+            try {
+                return locks.tryLock(20, TimeUnit.MILLISECONDS, TEST_IBAN_2);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }).get(5, TimeUnit.SECONDS);
+
+        assertThat(other).isNull();
+        locks.unlock(held);
+        int[] again = locks.tryLock(100, TimeUnit.MILLISECONDS, TEST_IBAN_2);
+        assertThat(again).containsExactly(0);
+        locks.unlock(again);
+    }
+}
@@ -0,0 +1,72 @@
+package com.vastriantafyllou.bankapp.core.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("should expire items only once their deadline has passed")
+    void advance_expiresAtDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, START);
+        wheel.add(START + 2500, "a");
+
+        assertThat(wheel.advance(START + 2999)).isEmpty();
+        assertThat(wheel.advance(START + 3000)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should cascade far deadlines down through the levels")
+    void advance_cascadesOverflow() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 4, START);
+        wheel.add(START + 100_000, "far");
+        wheel.add(START + 5_000, "near");
+
+        assertThat(wheel.advance(START + 5_000)).containsExactly("near");
+        assertThat(wheel.advance(START + 99_999)).isEmpty();
+        assertThat(wheel.advance(START + 100_000)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("should reject deadlines that already passed")
+    void add_pastDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, START);
+
+        assertThat(wheel.add(START - 1, "late")).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should fire random deadlines in order and never early")
+    void advance_randomDeadlines() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1000, 16, START);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long deadline = START + 1 + random.nextInt(5_000_000);
+            deadlines.add(deadline);
+            wheel.add(deadline, deadline);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        for (long now = START; now <= START + 5_001_000; now += 7_000) {
+            for (Long deadline : wheel.advance(now)) {
+                assertThat(deadline).isLessThanOrEqualTo(now);
+                assertThat(now - deadline).isLessThan(7_000 + 1000);
+                fired.add(deadline);
+            }
+        }
+
+        assertThat(fired).hasSize(deadlines.size()).isSorted();
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,57 @@
+package com.vastriantafyllou.bankapp.core.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NgramIndexTest {
+
+    private static final String TEST_IBAN = "GR1601101250000000012300695";
+
+    private NgramIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramIndex<>();
+        index.put("user:1", "alice", "alice", "Alice", "Papadopoulou", "alice@example.com");
+        index.put("user:2", "malik", "malik", null, "Alison", "m@example.org");
+        index.put("account:" + TEST_IBAN, TEST_IBAN, TEST_IBAN, "12345678901234567890", "alice");
+    }
+
+    @Test
+    @DisplayName("should answer short queries by field prefix only")
+    void search_shortPrefix() {
+        assertThat(index.search("a", 10)).containsExactly("alice", "malik", TEST_IBAN);
+        assertThat(index.search("MA", 10)).containsExactly("malik");
+        assertThat(index.search("li", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should match substrings and rank prefix matches first")
+    void search_substring() {
+        assertThat(index.search("0000001230", 10)).containsExactly(TEST_IBAN);
+        assertThat(index.search("example", 10)).containsExactly("alice", "malik");
+        assertThat(index.search("ali", 10)).containsExactly("alice", "malik", TEST_IBAN);
+        assertThat(index.search("lik", 10)).containsExactly("malik");
+        assertThat(index.search("opoul", 1)).containsExactly("alice");
+    }
+
+    @Test
+    @DisplayName("should drop replaced and removed documents, also across compaction")
+    void putAndRemove() {
+        index.put("user:1", "alicia", "alicia");
+        index.remove("account:" + TEST_IBAN);
+
+        assertThat(index.search("alice", 10)).isEmpty();
+        assertThat(index.search("alic", 10)).containsExactly("alicia");
+
+        for (int i = 0; i < 5000; i++) {
+            index.put("churn:" + (i % 10), "v" + i, "churn" + i);
+        }
+        assertThat(index.size()).isEqualTo(12);
+        assertThat(index.search("churn4999", 10)).containsExactly("v4999");
+        assertThat(index.search("alicia", 10)).containsExactly("alicia");
+    }
+}
@@ -0,0 +1,66 @@
+package com.vastriantafyllou.bankapp.core.series;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MinMaxDownsamplerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private static List<Long> values(List<MinMaxDownsampler.Point> points) {
+        return points.stream().map(MinMaxDownsampler.Point::value).toList();
+    }
+
+    @Test
+    @DisplayName("should keep first, min, max and last of each bucket in their original order")
+    void finish_keepsExtremesInOrder() {
+        MinMaxDownsampler downsampler = new MinMaxDownsampler(8, 8);
+        long[] series = {5, 9, 1, 4, 4, 2, 8, 3};
+        for (int i = 0; i < series.length; i++) {
+            downsampler.add(START.plusMinutes(i), series[i]);
+        }
+
+        List<MinMaxDownsampler.Point> points = downsampler.finish();
+
+        assertThat(values(points)).containsExactly(5L, 9L, 1L, 4L, 4L, 2L, 8L, 3L);
+        assertThat(points).extracting(MinMaxDownsampler.Point::time).isSorted();
+    }
+
+    @Test
+    @DisplayName("should not repeat a point that is both an extreme and an endpoint")
+    void finish_noDuplicates() {
+        MinMaxDownsampler downsampler = new MinMaxDownsampler(5, 4);
+        long[] series = {1, 2, 3, 4, 5};
+        for (int i = 0; i < series.length; i++) {
+            downsampler.add(START.plusMinutes(i), series[i]);
+        }
+
+        assertThat(values(downsampler.finish())).containsExactly(1L, 5L);
+    }
+
+    @Test
+    @DisplayName("should stay within maxPoints for long series, even past the expected total")
+    void finish_bounded() {
+        MinMaxDownsampler downsampler = new MinMaxDownsampler(10_000, 100);
+        for (int i = 0; i < 12_000; i++) {
+            downsampler.add(START.plusSeconds(i), i % 1000 == 0 ? -i : i);
+        }
+
+        List<MinMaxDownsampler.Point> points = downsampler.finish();
+
+        assertThat(points).hasSizeLessThanOrEqualTo(100);
+        assertThat(values(points)).contains(-11_000L, 11_999L);
+        assertThat(points).extracting(MinMaxDownsampler.Point::time).isSorted();
+    }
+
+    @Test
+    @DisplayName("should return nothing for an empty series")
+    void finish_empty() {
+        assertThat(new MinMaxDownsampler(0, 200).finish()).isEmpty();
+    }
+}
@@ -0,0 +1,61 @@
+package com.vastriantafyllou.bankapp.core.types;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IbanTest {
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+    private static final String TEST_IBAN_2 = "GR9876543210987654321098765";
+
+    @Test
+    @DisplayName("should round-trip through text")
+    void parse_format_roundTrip() {
+        assertThat(Iban.parse(TEST_IBAN).toString()).isEqualTo(TEST_IBAN);
+        assertThat(Iban.parse("GR0000000000000000000000000").toString()).isEqualTo("GR0000000000000000000000000");
+        assertThat(Iban.parse(TEST_IBAN).country()).isEqualTo("GR");
+    }
+
+    @Test
+    @DisplayName("should round-trip through the 16-byte key")
+    void bytes_roundTrip() {
+        Iban iban = Iban.parse(TEST_IBAN);
+
+        byte[] bytes = iban.toBytes();
+
+        assertThat(bytes).hasSize(Iban.BYTES);
+        assertThat(Iban.fromBytes(bytes)).isEqualTo(iban);
+    }
+
+    @Test
+    @DisplayName("should order keys like the textual IBANs")
+    void compareTo_matchesTextOrder() {
+        Iban first = Iban.parse(TEST_IBAN);
+        Iban second = Iban.parse(TEST_IBAN_2);
+
+        assertThat(first.compareTo(second)).isNegative();
+        assertThat(java.util.Arrays.compareUnsigned(first.toBytes(), second.toBytes())).isNegative();
+    }
+
+    @Test
+    @DisplayName("should compare equal values and text without parsing")
+    void equals_and_matches() {
+        Iban iban = Iban.parse(TEST_IBAN);
+
+        assertThat(iban).isEqualTo(Iban.parse(TEST_IBAN)).hasSameHashCodeAs(Iban.parse(TEST_IBAN));
+        assertThat(iban.matches(TEST_IBAN)).isTrue();
+        assertThat(iban.matches(TEST_IBAN_2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reject malformed input")
+    void parse_invalid() {
+        assertThat(Iban.tryParse("GR123")).isNull();
+        assertThat(Iban.tryParse("gr1234567890123456789012345")).isNull();
+        assertThat(Iban.tryParse("GR12345678901234567890123X5")).isNull();
+        assertThatThrownBy(() -> Iban.parse(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Iban.fromBytes(new byte[3])).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.vastriantafyllou.bankapp.core.types;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("should parse plain amounts with up to two decimals")
+    void tryParse_valid() {
+        assertThat(Money.tryParse("1500.50")).isEqualTo(Money.ofCents(150_050));
+        assertThat(Money.tryParse("1500.5")).isEqualTo(Money.ofCents(150_050));
+        assertThat(Money.tryParse("7")).isEqualTo(Money.ofCents(700));
+        assertThat(Money.tryParse(".05")).isEqualTo(Money.ofCents(5));
+        assertThat(Money.tryParse("-0.01")).isEqualTo(Money.ofCents(-1));
+    }
+
+    @Test
+    @DisplayName("should reject malformed, over-precise and overflowing amounts")
+    void tryParse_invalid() {
+        assertThat(Money.tryParse("")).isNull();
+        assertThat(Money.tryParse("-")).isNull();
+        assertThat(Money.tryParse("1.005")).isNull();
+        assertThat(Money.tryParse("1e3")).isNull();
+        assertThat(Money.tryParse("12 ")).isNull();
+        assertThat(Money.tryParse("99999999999999999999")).isNull();
+        assertThatThrownBy(() -> Money.parse("abc")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should format like BigDecimal.toPlainString, including Long.MIN_VALUE")
+    void toString_matchesBigDecimal() {
+        for (long cents : new long[]{0, 5, -5, 100, -1205, 150_050, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertThat(Money.ofCents(cents).toString()).isEqualTo(BigDecimal.valueOf(cents, 2).toPlainString());
+        }
+    }
+
+    @Test
+    @DisplayName("should convert exactly to and from BigDecimal")
+    void bigDecimal_roundTrip() {
+        assertThat(Money.of(new BigDecimal("12.3")).cents()).isEqualTo(1230);
+        assertThat(Money.ofCents(1230).toBigDecimal()).isEqualTo(new BigDecimal("12.30"));
+        assertThatThrownBy(() -> Money.of(new BigDecimal("0.001"))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("should throw instead of wrapping on overflow")
+    void plus_overflow() {
+        assertThat(Money.ofCents(150).plus(Money.ofCents(-200))).isEqualTo(Money.ofCents(-50));
+        assertThatThrownBy(() -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofCents(Long.MIN_VALUE).negate())
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
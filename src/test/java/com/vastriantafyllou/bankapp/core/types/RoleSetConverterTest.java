@@ -0,0 +1,34 @@
+package com.vastriantafyllou.bankapp.core.types;
+
+import com.vastriantafyllou.bankapp.core.enums.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RoleSetConverterTest {
+
+    private final RoleSetConverter converter = new RoleSetConverter();
+
+    @Test
+    @DisplayName("should keep the stored bit of each role")
+    void bits_stable() {
+        assertThat(converter.convertToDatabaseColumn(Set.of(Role.USER))).isEqualTo(1);
+        assertThat(converter.convertToDatabaseColumn(Set.of(Role.ADMIN))).isEqualTo(2);
+        assertThat(converter.convertToDatabaseColumn(Set.of())).isZero();
+        assertThat(converter.convertToDatabaseColumn(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("should round-trip every combination of roles")
+    void mask_roundTrip() {
+        for (int mask = 0; mask <= RoleSetConverter.toMask(EnumSet.allOf(Role.class)); mask++) {
+            assertThat(converter.convertToDatabaseColumn(converter.convertToEntityAttribute(mask))).isEqualTo(mask);
+        }
+        assertThat(converter.convertToEntityAttribute(3)).containsExactly(Role.USER, Role.ADMIN);
+        assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+    }
+}
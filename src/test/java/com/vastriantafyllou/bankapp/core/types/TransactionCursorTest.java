@@ -0,0 +1,30 @@
+package com.vastriantafyllou.bankapp.core.types;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TransactionCursorTest {
+
+    @Test
+    @DisplayName("should round-trip through its URL-safe token")
+    void encode_roundTrip() {
+        TransactionCursor cursor = new TransactionCursor(LocalDateTime.of(2026, 3, 2, 9, 0, 0, 123_456_000), 50L);
+
+        String token = cursor.encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(TransactionCursor.tryParse(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("should return null for tokens it did not produce")
+    void tryParse_invalid() {
+        assertThat(TransactionCursor.tryParse("not-a-cursor")).isNull();
+        assertThat(TransactionCursor.tryParse("!!")).isNull();
+        assertThat(TransactionCursor.tryParse("")).isNull();
+    }
+}
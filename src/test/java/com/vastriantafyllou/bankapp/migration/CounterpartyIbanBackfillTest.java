@@ -0,0 +1,58 @@
+package com.vastriantafyllou.bankapp.migration;
+
+import com.vastriantafyllou.bankapp.core.types.Iban;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CounterpartyIbanBackfillTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private CounterpartyIbanBackfill backfill;
+
+    @Test
+    @DisplayName("should be required only while parseable legacy values are left")
+    void isRequired_remainingWork() {
+        when(jdbcTemplate.queryForObject(contains("information_schema.columns"), eq(Integer.class))).thenReturn(1);
+        when(jdbcTemplate.queryForObject(contains("REGEXP_LIKE(counterparty_iban"), eq(Boolean.class)))
+                .thenReturn(true, false);
+
+        assertThat(backfill.isRequired()).isTrue();
+        assertThat(backfill.isRequired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should not be required once the legacy column is gone")
+    void isRequired_noLegacyColumn() {
+        when(jdbcTemplate.queryForObject(contains("information_schema.columns"), eq(Integer.class))).thenReturn(0);
+
+        assertThat(backfill.isRequired()).isFalse();
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Boolean.class));
+    }
+
+    @Test
+    @DisplayName("should select exactly the values Iban accepts")
+    void validIbanRegex_matchesIban() {
+        Pattern pattern = Pattern.compile(CounterpartyIbanBackfill.VALID_IBAN_REGEX);
+
+        for (String value : new String[]{"GR1234567890123456789012345", "gr1234567890123456789012345",
+                "GR123456789012345678901234", "GR12345678901234567890123456", "GR12345678901234567890123X5",
+                "1R1234567890123456789012345", "GR 234567890123456789012345", ""}) {
+            assertThat(pattern.matcher(value).matches()).as(value).isEqualTo(Iban.isValid(value));
+        }
+    }
+}
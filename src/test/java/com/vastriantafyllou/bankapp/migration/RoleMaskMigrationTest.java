@@ -0,0 +1,58 @@
+package com.vastriantafyllou.bankapp.migration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoleMaskMigrationTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private RoleMaskMigration migration;
+
+    @Test
+    @DisplayName("should fill every NULL mask from the legacy roles in one statement")
+    void migrate_fromLegacyRoles() {
+        when(jdbcTemplate.queryForObject(contains("role_mask IS NULL"), eq(Boolean.class))).thenReturn(true);
+        when(jdbcTemplate.queryForObject(contains("information_schema.tables"), eq(Integer.class))).thenReturn(1);
+
+        migration.afterSingletonsInstantiated();
+
+        verify(jdbcTemplate).update("UPDATE app_users u SET role_mask = " + RoleMaskMigration.legacyMask() +
+                " WHERE u.role_mask IS NULL");
+        assertThat(RoleMaskMigration.legacyMask())
+                .contains("WHEN 'USER' THEN 1", "WHEN 'ADMIN' THEN 2", "FROM app_user_roles r WHERE r.user_id = u.id");
+    }
+
+    @Test
+    @DisplayName("should give users no roles when the legacy table is gone")
+    void migrate_noLegacyTable() {
+        when(jdbcTemplate.queryForObject(contains("role_mask IS NULL"), eq(Boolean.class))).thenReturn(true);
+        when(jdbcTemplate.queryForObject(contains("information_schema.tables"), eq(Integer.class))).thenReturn(0);
+
+        migration.afterSingletonsInstantiated();
+
+        verify(jdbcTemplate).update("UPDATE app_users u SET role_mask = 0 WHERE u.role_mask IS NULL");
+    }
+
+    @Test
+    @DisplayName("should do nothing once every user has a mask")
+    void migrate_nothingPending() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class))).thenReturn(false);
+
+        migration.afterSingletonsInstantiated();
+
+        verify(jdbcTemplate, never()).update(anyString());
+    }
+}
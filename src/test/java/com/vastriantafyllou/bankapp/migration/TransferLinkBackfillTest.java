@@ -0,0 +1,129 @@
+package com.vastriantafyllou.bankapp.migration;
+
+import com.vastriantafyllou.bankapp.core.types.Iban;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferLinkBackfillTest {
+
+    private static final String IBAN_A = "GR0000000000000000000000001";
+    private static final String IBAN_B = "GR0000000000000000000000002";
+    private static final BigDecimal AMOUNT = new BigDecimal("50.00");
+    private static final Timestamp CREATED_AT = Timestamp.valueOf(LocalDateTime.of(2024, 2, 1, 9, 30));
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransferLinkBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        backfill = new TransferLinkBackfill(jdbcTemplate, transactionManager);
+    }
+
+    private static ResultSet outLeg(long id, String ownIban, String counterparty) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(id);
+        when(rs.getLong(2)).thenReturn(1L);
+        when(rs.getString(3)).thenReturn(ownIban);
+        when(rs.getBigDecimal(4)).thenReturn(AMOUNT);
+        when(rs.getTimestamp(5)).thenReturn(CREATED_AT);
+        when(rs.getBytes(6)).thenReturn(Iban.parse(counterparty).toBytes());
+        return rs;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void outLegs(ResultSet... rows) {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(jdbcTemplate.query(startsWith("SELECT t.id, t.account_id"), any(RowMapper.class), eq(0L), eq(100)))
+                .thenAnswer(invocation -> {
+                    RowMapper<Object> mapper = invocation.getArgument(1);
+                    List<Object> legs = new ArrayList<>();
+                    for (ResultSet row : rows) {
+                        legs.add(mapper.mapRow(row, legs.size()));
+                    }
+                    return legs;
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> updates() {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE account_transactions"), captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("should pair each of two identical out-legs with its own in-leg")
+    void runChunk_duplicateLegs() throws Exception {
+        outLegs(outLeg(10, IBAN_A, IBAN_B), outLeg(11, IBAN_A, IBAN_B));
+        when(jdbcTemplate.queryForList("SELECT id FROM accounts WHERE iban = ?", Long.class, IBAN_B))
+                .thenReturn(List.of(2L));
+        // The chunk's updates are not applied yet, so both out-legs see both unlinked in-legs.
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM account_transactions"), eq(Long.class),
+                eq(2L), any(byte[].class), eq(AMOUNT), eq(CREATED_AT), anyInt()))
+                .thenAnswer(invocation -> List.of(20L, 21L).subList(0, Math.min(2, (Integer) invocation.getArgument(6))));
+
+        assertThat(backfill.runChunk(100)).isEqualTo(2);
+
+        List<Object[]> updates = updates();
+        assertThat(updates).extracting(u -> u[0], u -> u[2])
+                .containsExactly(tuple(2L, 10L), tuple(1L, 20L), tuple(2L, 11L), tuple(1L, 21L));
+        assertThat(updates.get(0)[1]).isEqualTo(updates.get(1)[1]);
+        assertThat(updates.get(2)[1]).isEqualTo(updates.get(3)[1]);
+        assertThat(updates.get(0)[1]).isNotEqualTo(updates.get(2)[1]);
+    }
+
+    @Test
+    @DisplayName("should give unlinkable out-legs a transfer id so they are not scanned again")
+    void runChunk_unlinkableLegs() throws Exception {
+        // The counterparty account was deleted; the second leg's own stored IBAN does not parse.
+        outLegs(outLeg(10, IBAN_A, IBAN_B), outLeg(11, "GR-legacy", IBAN_A));
+        when(jdbcTemplate.queryForList("SELECT id FROM accounts WHERE iban = ?", Long.class, IBAN_B))
+                .thenReturn(List.of());
+        when(jdbcTemplate.queryForList("SELECT id FROM accounts WHERE iban = ?", Long.class, IBAN_A))
+                .thenReturn(List.of(1L));
+
+        assertThat(backfill.runChunk(100)).isEqualTo(2);
+
+        List<Object[]> updates = updates();
+        assertThat(updates).extracting(u -> u[0], u -> u[2])
+                .containsExactly(tuple(null, 10L), tuple(1L, 11L));
+        assertThat(updates).allSatisfy(u -> assertThat(u[1]).isNotNull());
+        verify(jdbcTemplate, never()).queryForList(startsWith("SELECT id FROM account_transactions"), eq(Long.class),
+                any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should be required only while out-legs without a transfer id are left")
+    void isRequired() {
+        when(jdbcTemplate.queryForObject(contains("transfer_id IS NULL"), eq(Boolean.class))).thenReturn(true, false);
+
+        assertThat(backfill.isRequired()).isTrue();
+        assertThat(backfill.isRequired()).isFalse();
+    }
+}
@@ -0,0 +1,148 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.ActivityGranularity;
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.core.exception.AccountNotFoundException;
+import com.vastriantafyllou.bankapp.core.exception.InvalidDateRangeException;
+import com.vastriantafyllou.bankapp.dto.ActivityBucketDTO;
+import com.vastriantafyllou.bankapp.dto.BalanceHistoryDTO;
+import com.vastriantafyllou.bankapp.model.Account;
+import com.vastriantafyllou.bankapp.repository.AccountDailyRollupRepository;
+import com.vastriantafyllou.bankapp.repository.AccountRepository;
+import com.vastriantafyllou.bankapp.repository.AccountTransactionRepository;
+import com.vastriantafyllou.bankapp.repository.BalanceHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountAnalyticsServiceImplTest {
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+    private static final String TEST_USERNAME = "testuser";
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 2, 28);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountDailyRollupRepository rollupRepository;
+
+    @Mock
+    private AccountTransactionRepository accountTransactionRepository;
+
+    @Mock
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @InjectMocks
+    private AccountAnalyticsServiceImpl analyticsService;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(analyticsService, "maxRangeDays", 1100L);
+        ReflectionTestUtils.setField(analyticsService, "maxChartPoints", 2000);
+        account = Account.builder().id(1L).iban(TEST_IBAN).balance(BigDecimal.ZERO).lastSeq(12L).rollupSeq(10L).build();
+    }
+
+    private static ActivityBucketDTO day(int month, int day, TransactionType type, long count, String total) {
+        return new ActivityBucketDTO(LocalDate.of(2026, month, day), type, count, new BigDecimal(total));
+    }
+
+    @Test
+    @DisplayName("should add the tail after rollup_seq to the rollups and group by month")
+    void getActivity_rollupsPlusTail() {
+        when(accountRepository.findByIbanAndOwner_Username(TEST_IBAN, TEST_USERNAME)).thenReturn(Optional.of(account));
+        when(rollupRepository.findDaily(1L, FROM, TO)).thenReturn(List.of(
+                day(1, 5, TransactionType.DEPOSIT, 2, "30.00"),
+                day(2, 1, TransactionType.DEPOSIT, 1, "5.00"),
+                day(2, 1, TransactionType.WITHDRAW, 1, "7.00")));
+        when(accountTransactionRepository.sumDaily(1L, FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay(), 10L))
+                .thenReturn(List.of(day(2, 27, TransactionType.DEPOSIT, 2, "20.00")));
+
+        List<ActivityBucketDTO> result = analyticsService.getActivity(TEST_IBAN, FROM, TO, ActivityGranularity.MONTH,
+                TEST_USERNAME, false);
+
+        assertThat(result).extracting(ActivityBucketDTO::getPeriod, ActivityBucketDTO::getType, ActivityBucketDTO::getCount)
+                .containsExactly(
+                        tuple(LocalDate.of(2026, 1, 1), TransactionType.DEPOSIT, 2L),
+                        tuple(LocalDate.of(2026, 2, 1), TransactionType.DEPOSIT, 3L),
+                        tuple(LocalDate.of(2026, 2, 1), TransactionType.WITHDRAW, 1L));
+        assertThat(result.get(1).getTotal()).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    @DisplayName("should aggregate the ledger directly for accounts not rolled up yet")
+    void getActivity_notBackfilled() {
+        account.setRollupSeq(null);
+        when(accountRepository.findByIban(TEST_IBAN)).thenReturn(Optional.of(account));
+        when(accountTransactionRepository.sumDaily(eq(1L), any(), any(), isNull()))
+                .thenReturn(List.of(day(1, 5, TransactionType.DEPOSIT, 4, "40.00")));
+
+        List<ActivityBucketDTO> result = analyticsService.getActivity(TEST_IBAN, FROM, TO, ActivityGranularity.DAY,
+                TEST_USERNAME, true);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getCount()).isEqualTo(4L);
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    @DisplayName("should reject reversed and overlong ranges")
+    void getActivity_invalidRange() {
+        assertThatThrownBy(() -> analyticsService.getActivity(TEST_IBAN, TO, FROM, ActivityGranularity.DAY, TEST_USERNAME, false))
+                .isInstanceOf(InvalidDateRangeException.class);
+        assertThatThrownBy(() -> analyticsService.getActivity(TEST_IBAN, FROM, FROM.plusYears(4), ActivityGranularity.DAY,
+                TEST_USERNAME, false))
+                .isInstanceOf(InvalidDateRangeException.class);
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    @DisplayName("should throw when the account is not the caller's")
+    void getActivity_notFound() {
+        when(accountRepository.findByIbanAndOwner_Username(TEST_IBAN, TEST_USERNAME)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> analyticsService.getActivity(TEST_IBAN, FROM, TO, ActivityGranularity.DAY, TEST_USERNAME, false))
+                .isInstanceOf(AccountNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should downsample the streamed balances and keep their extremes")
+    void getBalanceHistory_downsampled() {
+        account.setLastSeq(1000L);
+        when(accountRepository.findByIbanAndOwner_Username(TEST_IBAN, TEST_USERNAME)).thenReturn(Optional.of(account));
+        doAnswer(invocation -> {
+            BalanceHistoryRepository.BalanceConsumer consumer = invocation.getArgument(1);
+            LocalDateTime start = LocalDateTime.of(2026, 1, 1, 0, 0);
+            for (int i = 0; i < 1000; i++) {
+                consumer.accept(start.plusMinutes(i), i == 500 ? -7_50 : i * 100L);
+            }
+            return null;
+        }).when(balanceHistoryRepository).streamBalances(eq(1L), any());
+
+        BalanceHistoryDTO result = analyticsService.getBalanceHistory(TEST_IBAN, 40, TEST_USERNAME, false);
+
+        assertThat(result.getSourcePoints()).isEqualTo(1000L);
+        assertThat(result.getBalances()).hasSizeLessThanOrEqualTo(40).hasSameSizeAs(result.getTimes());
+        assertThat(result.getBalances()).contains(new BigDecimal("-7.50"), new BigDecimal("999.00"));
+        assertThat(result.getTimes()).isSorted();
+    }
+}
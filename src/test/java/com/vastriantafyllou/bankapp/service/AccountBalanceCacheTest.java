@@ -0,0 +1,94 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.dto.AccountReadOnlyDTO;
+import com.vastriantafyllou.bankapp.event.AccountDeletedEvent;
+import com.vastriantafyllou.bankapp.event.LedgerEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccountBalanceCacheTest {
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+    private static final String TEST_ACCOUNT_NUMBER = "12345678901234567890";
+    private static final String TEST_USERNAME = "testuser";
+
+    private AccountBalanceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AccountBalanceCache(new SimpleMeterRegistry(), 100, 60_000, true);
+    }
+
+    private static AccountReadOnlyDTO account(String balance, long version) {
+        return new AccountReadOnlyDTO(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, new BigDecimal(balance), version);
+    }
+
+    private static LedgerEvent deposit(String balanceAfter, long seq) {
+        return new LedgerEvent(TEST_IBAN, seq, TransactionType.DEPOSIT, new BigDecimal("1.00"),
+                new BigDecimal(balanceAfter), LocalDateTime.now(), null);
+    }
+
+    @Test
+    @DisplayName("should apply committed writes to a cached account")
+    void onLedgerEvent_updatesEntry() {
+        cache.populate(cache.epoch(TEST_IBAN), account("100.00", 4), TEST_USERNAME);
+
+        cache.onLedgerEvent(deposit("101.00", 5));
+
+        assertThat(cache.get(TEST_IBAN).balance()).isEqualByComparingTo("101.00");
+        assertThat(cache.get(TEST_IBAN).version()).isEqualTo(5L);
+        assertThat(cache.get(TEST_IBAN).ownerUsername()).isEqualTo(TEST_USERNAME);
+    }
+
+    @Test
+    @DisplayName("should ignore events older than the cached version")
+    void onLedgerEvent_staleIgnored() {
+        cache.populate(cache.epoch(TEST_IBAN), account("102.00", 6), TEST_USERNAME);
+
+        cache.onLedgerEvent(deposit("101.00", 5));
+
+        assertThat(cache.get(TEST_IBAN).balance()).isEqualByComparingTo("102.00");
+    }
+
+    @Test
+    @DisplayName("should not insert a read that raced with a commit")
+    void populate_racingReadDropped() {
+        long epoch = cache.epoch(TEST_IBAN);
+        // Commit of seq 5 lands between the database read and the insert.
+        cache.onLedgerEvent(deposit("101.00", 5));
+
+        cache.populate(epoch, account("100.00", 4), TEST_USERNAME);
+
+        assertThat(cache.get(TEST_IBAN)).isNull();
+    }
+
+    @Test
+    @DisplayName("should not replace a newer entry with an older read")
+    void populate_olderVersionKept() {
+        cache.populate(cache.epoch(TEST_IBAN), account("102.00", 6), TEST_USERNAME);
+
+        cache.populate(cache.epoch(TEST_IBAN), account("100.00", 4), TEST_USERNAME);
+
+        assertThat(cache.get(TEST_IBAN).version()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("should drop deleted accounts")
+    void onAccountDeleted_invalidates() {
+        long epoch = cache.epoch(TEST_IBAN);
+        cache.populate(epoch, account("100.00", 4), TEST_USERNAME);
+
+        cache.onAccountDeleted(new AccountDeletedEvent(TEST_IBAN));
+        cache.populate(epoch, account("100.00", 4), TEST_USERNAME);
+
+        assertThat(cache.get(TEST_IBAN)).isNull();
+    }
+}
@@ -1,9 +1,19 @@
 package com.vastriantafyllou.bankapp.service;
 
+import com.vastriantafyllou.bankapp.batch.DailyRollupWriter;
+import com.vastriantafyllou.bankapp.batch.LedgerBatchWriter;
+import com.vastriantafyllou.bankapp.batch.LedgerEntry;
 import com.vastriantafyllou.bankapp.core.enums.TransactionType;
 import com.vastriantafyllou.bankapp.core.exception.*;
+import com.vastriantafyllou.bankapp.core.types.Iban;
 import com.vastriantafyllou.bankapp.dto.AccountInsertDTO;
+import com.vastriantafyllou.bankapp.dto.AccountOverviewDTO;
 import com.vastriantafyllou.bankapp.dto.AccountReadOnlyDTO;
+import com.vastriantafyllou.bankapp.dto.PostingDTO;
+import com.vastriantafyllou.bankapp.dto.TransactionFilterDTO;
+import com.vastriantafyllou.bankapp.event.AccountCreatedEvent;
+import com.vastriantafyllou.bankapp.event.AccountDeletedEvent;
+import com.vastriantafyllou.bankapp.event.LedgerEvent;
 import com.vastriantafyllou.bankapp.model.Account;
 import com.vastriantafyllou.bankapp.model.AccountTransaction;
 import com.vastriantafyllou.bankapp.model.AppUser;
@@ -16,13 +26,22 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -40,6 +59,21 @@ class AccountServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LedgerBatchWriter ledgerBatchWriter;
+
+    @Mock
+    private DailyRollupWriter dailyRollupWriter;
+
+    @Mock
+    private AccountBalanceCache balanceCache;
+
+    @Mock
+    private RecentTransactionsBuffer recentTransactions;
+
     @InjectMocks
     private AccountServiceImpl accountService;
 
@@ -90,6 +124,7 @@ class AccountServiceImplTest {
             assertThat(result.getAccountNumber()).isEqualTo(TEST_ACCOUNT_NUMBER);
             assertThat(result.getBalance()).isEqualByComparingTo(new BigDecimal("500.00"));
             verify(accountRepository).save(any(Account.class));
+            verify(eventPublisher).publishEvent(new AccountCreatedEvent(1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, TEST_USERNAME));
         }
 
         @Test
@@ -126,7 +161,7 @@ class AccountServiceImplTest {
         @DisplayName("should deposit successfully as user")
         void deposit_success() {
             BigDecimal amount = new BigDecimal("200.00");
-            when(accountRepository.findByIbanForUpdateAndOwnerUsername(TEST_IBAN, TEST_USERNAME))
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(TEST_IBAN), eq(TEST_USERNAME), anyInt()))
                     .thenReturn(Optional.of(testAccount));
             when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
@@ -141,20 +176,68 @@ class AccountServiceImplTest {
             assertThat(tx.getType()).isEqualTo(TransactionType.DEPOSIT);
             assertThat(tx.getAmount()).isEqualByComparingTo(amount);
             assertThat(tx.getBalanceAfter()).isEqualByComparingTo(new BigDecimal("1200.00"));
+            assertThat(tx.getSeq()).isEqualTo(1L);
+            assertThat(testAccount.getLastSeq()).isEqualTo(1L);
+
+            ArgumentCaptor<LedgerEvent> eventCaptor = ArgumentCaptor.forClass(LedgerEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().iban()).isEqualTo(TEST_IBAN);
+            assertThat(eventCaptor.getValue().seq()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("should fold the deposit into the daily rollup and advance rollup_seq")
+        void deposit_rollup() {
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(TEST_IBAN), eq(TEST_USERNAME), anyInt()))
+                    .thenReturn(Optional.of(testAccount));
+
+            accountService.deposit(TEST_IBAN, new BigDecimal("10.00"), TEST_USERNAME, false);
+
+            verify(dailyRollupWriter).add(eq(1L), any(), eq(TransactionType.DEPOSIT), eq(new BigDecimal("10.00")));
+            assertThat(testAccount.getRollupSeq()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("should leave accounts the rollup backfill has not reached to it")
+        void deposit_rollupPending() {
+            testAccount.setRollupSeq(null);
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(TEST_IBAN), eq(TEST_USERNAME), anyInt()))
+                    .thenReturn(Optional.of(testAccount));
+
+            accountService.deposit(TEST_IBAN, new BigDecimal("10.00"), TEST_USERNAME, false);
+
+            verifyNoInteractions(dailyRollupWriter);
+            assertThat(testAccount.getRollupSeq()).isNull();
+        }
+
+        @Test
+        @DisplayName("should continue the sequence after legacy rows")
+        void deposit_legacyAccountSeq() {
+            testAccount.setLastSeq(null);
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(TEST_IBAN), eq(TEST_USERNAME), anyInt()))
+                    .thenReturn(Optional.of(testAccount));
+            when(accountTransactionRepository.countByAccount_Id(1L)).thenReturn(7L);
+
+            accountService.deposit(TEST_IBAN, new BigDecimal("10.00"), TEST_USERNAME, false);
+
+            ArgumentCaptor<AccountTransaction> txCaptor = ArgumentCaptor.forClass(AccountTransaction.class);
+            verify(accountTransactionRepository).save(txCaptor.capture());
+            assertThat(txCaptor.getValue().getSeq()).isEqualTo(8L);
+            assertThat(testAccount.getLastSeq()).isEqualTo(8L);
         }
 
         @Test
         @DisplayName("should deposit successfully as admin")
         void deposit_asAdmin() {
             BigDecimal amount = new BigDecimal("100.00");
-            when(accountRepository.findByIbanForUpdate(TEST_IBAN))
+            when(accountRepository.findByIbanForUpdate(eq(TEST_IBAN), anyInt()))
                     .thenReturn(Optional.of(testAccount));
             when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
             accountService.deposit(TEST_IBAN, amount, TEST_USERNAME, true);
 
             assertThat(testAccount.getBalance()).isEqualByComparingTo(new BigDecimal("1100.00"));
-            verify(accountRepository).findByIbanForUpdate(TEST_IBAN);
+            verify(accountRepository).findByIbanForUpdate(eq(TEST_IBAN), anyInt());
         }
 
         @Test
@@ -173,10 +256,19 @@ class AccountServiceImplTest {
                     .isInstanceOf(NegativeAmountException.class);
         }
 
+        @Test
+        @DisplayName("should reject amounts with fractions of a cent")
+        void deposit_subCentAmount() {
+            assertThatThrownBy(() -> accountService.deposit(TEST_IBAN, new BigDecimal("10.005"), TEST_USERNAME, false))
+                    .isInstanceOf(InvalidTransferException.class);
+
+            verify(accountRepository, never()).save(any());
+        }
+
         @Test
         @DisplayName("should throw when account not found")
         void deposit_accountNotFound() {
-            when(accountRepository.findByIbanForUpdateAndOwnerUsername(TEST_IBAN, TEST_USERNAME))
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(TEST_IBAN), eq(TEST_USERNAME), anyInt()))
                     .thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> accountService.deposit(TEST_IBAN, new BigDecimal("100.00"), TEST_USERNAME, false))
@@ -192,7 +284,7 @@ class AccountServiceImplTest {
         @DisplayName("should withdraw successfully")
         void withdraw_success() {
             BigDecimal amount = new BigDecimal("300.00");
-            when(accountRepository.findByIbanForUpdateAndOwnerUsername(TEST_IBAN, TEST_USERNAME))
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(TEST_IBAN), eq(TEST_USERNAME), anyInt()))
                     .thenReturn(Optional.of(testAccount));
             when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
@@ -215,7 +307,7 @@ class AccountServiceImplTest {
         @Test
         @DisplayName("should throw on insufficient balance")
         void withdraw_insufficientBalance() {
-            when(accountRepository.findByIbanForUpdateAndOwnerUsername(TEST_IBAN, TEST_USERNAME))
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(TEST_IBAN), eq(TEST_USERNAME), anyInt()))
                     .thenReturn(Optional.of(testAccount));
 
             assertThatThrownBy(() -> accountService.withdraw(TEST_IBAN, new BigDecimal("2000.00"), TEST_USERNAME, false))
@@ -227,7 +319,7 @@ class AccountServiceImplTest {
         @Test
         @DisplayName("should throw when account not found")
         void withdraw_accountNotFound() {
-            when(accountRepository.findByIbanForUpdateAndOwnerUsername(TEST_IBAN, TEST_USERNAME))
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(TEST_IBAN), eq(TEST_USERNAME), anyInt()))
                     .thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> accountService.withdraw(TEST_IBAN, new BigDecimal("100.00"), TEST_USERNAME, false))
@@ -237,7 +329,7 @@ class AccountServiceImplTest {
         @Test
         @DisplayName("should withdraw exact balance successfully")
         void withdraw_exactBalance() {
-            when(accountRepository.findByIbanForUpdateAndOwnerUsername(TEST_IBAN, TEST_USERNAME))
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(TEST_IBAN), eq(TEST_USERNAME), anyInt()))
                     .thenReturn(Optional.of(testAccount));
             when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
@@ -274,9 +366,9 @@ class AccountServiceImplTest {
             Account firstAccount = firstIban.equals(TEST_IBAN) ? testAccount : toAccount;
             Account secondAccount = secondIban.equals(TEST_IBAN_2) ? toAccount : testAccount;
 
-            when(accountRepository.findByIbanForUpdateAndOwnerUsername(firstIban, TEST_USERNAME))
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(firstIban), eq(TEST_USERNAME), anyInt()))
                     .thenReturn(Optional.of(firstAccount));
-            when(accountRepository.findByIbanForUpdateAndOwnerUsername(secondIban, TEST_USERNAME))
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(secondIban), eq(TEST_USERNAME), anyInt()))
                     .thenReturn(Optional.of(secondAccount));
 
             accountService.transfer(TEST_IBAN, TEST_IBAN_2, amount, TEST_USERNAME, false);
@@ -284,7 +376,17 @@ class AccountServiceImplTest {
             assertThat(testAccount.getBalance()).isEqualByComparingTo(new BigDecimal("800.00"));
             assertThat(toAccount.getBalance()).isEqualByComparingTo(new BigDecimal("700.00"));
 
-            verify(accountTransactionRepository, times(2)).save(any(AccountTransaction.class));
+            ArgumentCaptor<AccountTransaction> txCaptor = ArgumentCaptor.forClass(AccountTransaction.class);
+            verify(accountTransactionRepository, times(2)).save(txCaptor.capture());
+            assertThat(txCaptor.getAllValues())
+                    .extracting(AccountTransaction::getCounterpartyIban)
+                    .containsExactly(Iban.parse(TEST_IBAN_2), Iban.parse(TEST_IBAN));
+            assertThat(txCaptor.getAllValues())
+                    .extracting(AccountTransaction::getCounterpartyAccount)
+                    .containsExactly(toAccount, testAccount);
+            assertThat(txCaptor.getAllValues().get(0).getTransferId())
+                    .isNotNull()
+                    .isEqualTo(txCaptor.getAllValues().get(1).getTransferId());
         }
 
         @Test
@@ -311,9 +413,9 @@ class AccountServiceImplTest {
             Account firstAccount = firstIban.equals(TEST_IBAN) ? testAccount : toAccount;
             Account secondAccount = secondIban.equals(TEST_IBAN_2) ? toAccount : testAccount;
 
-            when(accountRepository.findByIbanForUpdateAndOwnerUsername(firstIban, TEST_USERNAME))
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(firstIban), eq(TEST_USERNAME), anyInt()))
                     .thenReturn(Optional.of(firstAccount));
-            when(accountRepository.findByIbanForUpdateAndOwnerUsername(secondIban, TEST_USERNAME))
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(secondIban), eq(TEST_USERNAME), anyInt()))
                     .thenReturn(Optional.of(secondAccount));
 
             assertThatThrownBy(() -> accountService.transfer(TEST_IBAN, TEST_IBAN_2, amount, TEST_USERNAME, false))
@@ -330,9 +432,9 @@ class AccountServiceImplTest {
             Account firstAccount = firstIban.equals(TEST_IBAN) ? testAccount : toAccount;
             Account secondAccount = secondIban.equals(TEST_IBAN_2) ? toAccount : testAccount;
 
-            when(accountRepository.findByIbanForUpdateAndOwnerUsername(firstIban, TEST_USERNAME))
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(firstIban), eq(TEST_USERNAME), anyInt()))
                     .thenReturn(Optional.of(firstAccount));
-            when(accountRepository.findByIbanForUpdateAndOwnerUsername(secondIban, TEST_USERNAME))
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(secondIban), eq(TEST_USERNAME), anyInt()))
                     .thenReturn(Optional.of(secondAccount));
 
             assertThatThrownBy(() -> accountService.transfer(TEST_IBAN, TEST_IBAN_2, new BigDecimal("100.00"), TEST_USERNAME, false))
@@ -344,7 +446,7 @@ class AccountServiceImplTest {
         void transfer_sourceNotFound() {
             String firstIban = TEST_IBAN.compareTo(TEST_IBAN_2) < 0 ? TEST_IBAN : TEST_IBAN_2;
 
-            when(accountRepository.findByIbanForUpdateAndOwnerUsername(firstIban, TEST_USERNAME))
+            when(accountRepository.findByIbanForUpdateAndOwnerUsername(eq(firstIban), eq(TEST_USERNAME), anyInt()))
                     .thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> accountService.transfer(TEST_IBAN, TEST_IBAN_2, new BigDecimal("100.00"), TEST_USERNAME, false))
@@ -352,6 +454,111 @@ class AccountServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("transfer (postings)")
+    class MultiLegTransferTests {
+
+        private static final String TEST_IBAN_3 = "GR5555555555555555555555555";
+
+        private Account second;
+        private Account third;
+
+        @BeforeEach
+        void setUp() {
+            testAccount.setLastSeq(4L);
+            second = Account.builder().id(2L).iban(TEST_IBAN_2).balance(new BigDecimal("500.00")).owner(testUser).lastSeq(0L).build();
+            third = Account.builder().id(3L).iban(TEST_IBAN_3).balance(new BigDecimal("0.00")).owner(testUser).lastSeq(9L).build();
+        }
+
+        @Test
+        @DisplayName("should lock all accounts once and write every leg in one batch")
+        @SuppressWarnings("unchecked")
+        void transfer_split() {
+            List<PostingDTO> postings = List.of(
+                    new PostingDTO(TEST_IBAN, new BigDecimal("-300.00")),
+                    new PostingDTO(TEST_IBAN_3, new BigDecimal("100.00")),
+                    new PostingDTO(TEST_IBAN_2, new BigDecimal("200.00")));
+            when(accountRepository.findAllByIbanInForUpdateAndOwnerUsername(any(), eq(TEST_USERNAME), anyInt()))
+                    .thenReturn(List.of(testAccount, second, third));
+
+            UUID transferId = accountService.transfer(postings, TEST_USERNAME, false);
+
+            ArgumentCaptor<java.util.Collection<String>> ibans = ArgumentCaptor.forClass(java.util.Collection.class);
+            verify(accountRepository).findAllByIbanInForUpdateAndOwnerUsername(ibans.capture(), eq(TEST_USERNAME), anyInt());
+            assertThat(ibans.getValue()).containsExactly(TEST_IBAN, TEST_IBAN_3, TEST_IBAN_2);
+
+            ArgumentCaptor<List<LedgerEntry>> captor = ArgumentCaptor.forClass(List.class);
+            verify(ledgerBatchWriter).write(captor.capture());
+            List<LedgerEntry> entries = captor.getValue();
+            assertThat(entries).hasSize(3).allMatch(e -> transferId.equals(e.transferId()));
+
+            LedgerEntry debit = entries.get(0);
+            assertThat(debit.type()).isEqualTo(TransactionType.TRANSFER_OUT);
+            assertThat(debit.seq()).isEqualTo(5L);
+            assertThat(debit.balanceAfter()).isEqualByComparingTo("700.00");
+            assertThat(debit.counterpartyAccountId()).isNull();
+
+            LedgerEntry credit = entries.get(2);
+            assertThat(credit.type()).isEqualTo(TransactionType.TRANSFER_IN);
+            assertThat(credit.seq()).isEqualTo(10L);
+            assertThat(credit.balanceAfter()).isEqualByComparingTo("100.00");
+            assertThat(credit.counterpartyAccountId()).isEqualTo(1L);
+            assertThat(credit.counterpartyIban()).isEqualTo(Iban.parse(TEST_IBAN));
+        }
+
+        @Test
+        @DisplayName("should reject postings that do not balance")
+        void transfer_unbalanced() {
+            List<PostingDTO> postings = List.of(
+                    new PostingDTO(TEST_IBAN, new BigDecimal("-300.00")),
+                    new PostingDTO(TEST_IBAN_2, new BigDecimal("200.00")));
+
+            assertThatThrownBy(() -> accountService.transfer(postings, TEST_USERNAME, false))
+                    .isInstanceOf(InvalidTransferException.class);
+            verifyNoInteractions(accountRepository, ledgerBatchWriter);
+        }
+
+        @Test
+        @DisplayName("should reject amounts with fractions of a cent")
+        void transfer_subCentAmount() {
+            List<PostingDTO> postings = List.of(
+                    new PostingDTO(TEST_IBAN, new BigDecimal("-0.005")),
+                    new PostingDTO(TEST_IBAN_2, new BigDecimal("0.005")));
+
+            assertThatThrownBy(() -> accountService.transfer(postings, TEST_USERNAME, false))
+                    .isInstanceOf(InvalidTransferException.class);
+            verifyNoInteractions(accountRepository, ledgerBatchWriter);
+        }
+
+        @Test
+        @DisplayName("should reject the whole transfer when one debit exceeds its balance")
+        void transfer_insufficientBalance() {
+            List<PostingDTO> postings = List.of(
+                    new PostingDTO(TEST_IBAN_2, new BigDecimal("-600.00")),
+                    new PostingDTO(TEST_IBAN, new BigDecimal("600.00")));
+            when(accountRepository.findAllByIbanInForUpdateAndOwnerUsername(any(), eq(TEST_USERNAME), anyInt()))
+                    .thenReturn(List.of(testAccount, second));
+
+            assertThatThrownBy(() -> accountService.transfer(postings, TEST_USERNAME, false))
+                    .isInstanceOf(InsufficientBalanceException.class);
+            verifyNoInteractions(ledgerBatchWriter);
+        }
+
+        @Test
+        @DisplayName("should throw when an account is not accessible")
+        void transfer_accountNotFound() {
+            List<PostingDTO> postings = List.of(
+                    new PostingDTO(TEST_IBAN, new BigDecimal("-100.00")),
+                    new PostingDTO(TEST_IBAN_2, new BigDecimal("100.00")));
+            when(accountRepository.findAllByIbanInForUpdateAndOwnerUsername(any(), eq(TEST_USERNAME), anyInt()))
+                    .thenReturn(List.of(testAccount));
+
+            assertThatThrownBy(() -> accountService.transfer(postings, TEST_USERNAME, false))
+                    .isInstanceOf(AccountNotFoundException.class)
+                    .hasMessageContaining(TEST_IBAN_2);
+        }
+    }
+
     @Nested
     @DisplayName("getBalance")
     class GetBalanceTests {
@@ -398,22 +605,60 @@ class AccountServiceImplTest {
             when(accountRepository.findByOwner_Username(TEST_USERNAME))
                     .thenReturn(List.of(testAccount));
 
-            List<AccountReadOnlyDTO> result = accountService.getAllAccounts(TEST_USERNAME, false);
+            List<AccountReadOnlyDTO> result = accountService.getAllAccounts(TEST_USERNAME);
 
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getIban()).isEqualTo(TEST_IBAN);
+            verify(accountRepository, never()).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("getAccountOverview")
+    class GetAccountOverviewTests {
+
+        private AccountTransaction tx(Account account, long seq) {
+            return AccountTransaction.builder().id(seq).seq(seq).account(account).type(TransactionType.DEPOSIT)
+                    .amount(new BigDecimal("10.00")).build();
         }
 
         @Test
-        @DisplayName("should return all accounts as admin")
-        void getAllAccounts_asAdmin() {
-            Account otherAccount = Account.builder().id(2L).iban(TEST_IBAN_2)
-                    .accountNumber("98765432109876543210").balance(BigDecimal.TEN).owner(otherUser).build();
-            when(accountRepository.findAll()).thenReturn(List.of(testAccount, otherAccount));
+        @DisplayName("should load the newest rows of every account in one windowed query")
+        void getAccountOverview_windowed() {
+            ReflectionTestUtils.setField(accountService, "overviewWindowFunctions", true);
+            Account second = Account.builder().id(2L).iban(TEST_IBAN_2).balance(BigDecimal.ZERO).owner(testUser).build();
+            when(accountRepository.findByOwner_Username(TEST_USERNAME)).thenReturn(List.of(testAccount, second));
+            when(accountTransactionRepository.findNewestPerAccount(List.of(1L, 2L), 2))
+                    .thenReturn(List.of(tx(testAccount, 9L), tx(testAccount, 8L)));
 
-            List<AccountReadOnlyDTO> result = accountService.getAllAccounts(TEST_USERNAME, true);
+            List<AccountOverviewDTO> result = accountService.getAccountOverview(TEST_USERNAME, 2);
 
-            assertThat(result).hasSize(2);
+            assertThat(result).extracting(o -> o.getAccount().getIban()).containsExactly(TEST_IBAN, TEST_IBAN_2);
+            assertThat(result.get(0).getRecentTransactions()).extracting("seq").containsExactly(9L, 8L);
+            assertThat(result.get(1).getRecentTransactions()).isEmpty();
+            verify(accountTransactionRepository, never()).findNewestPerAccountBySeq(any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("should fall back to the seq-range query without window functions")
+        void getAccountOverview_seqRange() {
+            when(accountRepository.findByOwner_Username(TEST_USERNAME)).thenReturn(List.of(testAccount));
+            when(accountTransactionRepository.findNewestPerAccountBySeq(List.of(1L), 3L))
+                    .thenReturn(List.of(tx(testAccount, 4L)));
+
+            List<AccountOverviewDTO> result = accountService.getAccountOverview(TEST_USERNAME, 3);
+
+            assertThat(result.get(0).getRecentTransactions()).extracting("seq").containsExactly(4L);
+            verify(accountTransactionRepository, never()).findNewestPerAccount(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("should not query transactions for a user without accounts")
+        void getAccountOverview_noAccounts() {
+            when(accountRepository.findByOwner_Username(TEST_USERNAME)).thenReturn(List.of());
+
+            assertThat(accountService.getAccountOverview(TEST_USERNAME, 3)).isEmpty();
+            verifyNoInteractions(accountTransactionRepository);
         }
     }
 
@@ -427,10 +672,69 @@ class AccountServiceImplTest {
             when(accountRepository.findByIbanAndOwner_Username(TEST_IBAN, TEST_USERNAME))
                     .thenReturn(Optional.of(testAccount));
 
+            when(balanceCache.epoch(TEST_IBAN)).thenReturn(3L);
+
             AccountReadOnlyDTO result = accountService.getAccountByIban(TEST_IBAN, TEST_USERNAME, false);
 
             assertThat(result.getIban()).isEqualTo(TEST_IBAN);
             assertThat(result.getBalance()).isEqualByComparingTo(new BigDecimal("1000.00"));
+            verify(balanceCache).populate(eq(3L), same(result), eq(TEST_USERNAME));
+        }
+
+        @Test
+        @DisplayName("should serve the owner from the cache without a query")
+        void getAccountByIban_cacheHit() {
+            when(balanceCache.get(TEST_IBAN)).thenReturn(new AccountBalanceCache.CachedAccount(
+                    1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, TEST_USERNAME, new BigDecimal("1234.00"), 9L));
+
+            AccountReadOnlyDTO result = accountService.getAccountByIban(TEST_IBAN, TEST_USERNAME, false);
+
+            assertThat(result.getBalance()).isEqualByComparingTo(new BigDecimal("1234.00"));
+            assertThat(result.getVersion()).isEqualTo(9L);
+            verifyNoInteractions(accountRepository);
+        }
+
+        @Test
+        @DisplayName("should serve a cache hit whose version matches last_seq")
+        void getAccountByIban_cacheHitRevalidated() {
+            when(balanceCache.get(TEST_IBAN)).thenReturn(new AccountBalanceCache.CachedAccount(
+                    1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, TEST_USERNAME, new BigDecimal("1234.00"), 9L));
+            when(balanceCache.revalidates()).thenReturn(true);
+            when(accountRepository.findLastSeqByIban(TEST_IBAN)).thenReturn(Optional.of(9L));
+
+            AccountReadOnlyDTO result = accountService.getAccountByIban(TEST_IBAN, TEST_USERNAME, false);
+
+            assertThat(result.getBalance()).isEqualByComparingTo(new BigDecimal("1234.00"));
+            verify(accountRepository, never()).findByIbanAndOwner_Username(any(), any());
+        }
+
+        @Test
+        @DisplayName("should reload a cache hit that another node has written since")
+        void getAccountByIban_cacheHitStale() {
+            when(balanceCache.get(TEST_IBAN)).thenReturn(new AccountBalanceCache.CachedAccount(
+                    1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, TEST_USERNAME, new BigDecimal("1234.00"), 9L));
+            when(balanceCache.revalidates()).thenReturn(true);
+            when(accountRepository.findLastSeqByIban(TEST_IBAN)).thenReturn(Optional.of(10L));
+            when(balanceCache.epoch(TEST_IBAN)).thenReturn(3L);
+            when(accountRepository.findByIbanAndOwner_Username(TEST_IBAN, TEST_USERNAME))
+                    .thenReturn(Optional.of(testAccount));
+
+            AccountReadOnlyDTO result = accountService.getAccountByIban(TEST_IBAN, TEST_USERNAME, false);
+
+            assertThat(result.getBalance()).isEqualByComparingTo(new BigDecimal("1000.00"));
+            verify(balanceCache).populate(eq(3L), same(result), eq(TEST_USERNAME));
+        }
+
+        @Test
+        @DisplayName("should not serve a cached account to another user")
+        void getAccountByIban_cacheHitOtherOwner() {
+            when(balanceCache.get(TEST_IBAN)).thenReturn(new AccountBalanceCache.CachedAccount(
+                    1L, TEST_IBAN, TEST_ACCOUNT_NUMBER, TEST_USERNAME, new BigDecimal("1234.00"), 9L));
+            when(accountRepository.findByIbanAndOwner_Username(TEST_IBAN, OTHER_USERNAME))
+                    .thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> accountService.getAccountByIban(TEST_IBAN, OTHER_USERNAME, false))
+                    .isInstanceOf(AccountNotFoundException.class);
         }
 
         @Test
@@ -474,6 +778,195 @@ class AccountServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("getTransactionHistoryPage")
+    class GetTransactionHistoryPageTests {
+
+        private AccountTransaction tx(long seq) {
+            return AccountTransaction.builder()
+                    .id(seq).seq(seq).account(testAccount).type(TransactionType.DEPOSIT)
+                    .amount(new BigDecimal("10.00")).balanceAfter(new BigDecimal("1000.00")).build();
+        }
+
+        @Test
+        @DisplayName("should serve the first page from the buffer without queries")
+        void firstPage_buffered() {
+            List<AccountTransaction> recent = List.of(tx(3), tx(2));
+            when(recentTransactions.newest(TEST_IBAN, 2))
+                    .thenReturn(new RecentTransactionsBuffer.Recent(TEST_USERNAME, recent, true, 3L));
+
+            Slice<AccountTransaction> result = accountService.getTransactionHistoryPage(TEST_IBAN, 0, 2, TEST_USERNAME, false);
+
+            assertThat(result.getContent()).isEqualTo(recent);
+            assertThat(result.hasNext()).isTrue();
+            verifyNoInteractions(accountRepository, accountTransactionRepository);
+        }
+
+        @Test
+        @DisplayName("should serve a buffered first page whose last seq matches the account")
+        void firstPage_bufferedRevalidated() {
+            List<AccountTransaction> recent = List.of(tx(3), tx(2));
+            when(recentTransactions.newest(TEST_IBAN, 2))
+                    .thenReturn(new RecentTransactionsBuffer.Recent(TEST_USERNAME, recent, true, 3L));
+            when(recentTransactions.revalidates()).thenReturn(true);
+            when(accountRepository.findLastSeqByIban(TEST_IBAN)).thenReturn(Optional.of(3L));
+
+            Slice<AccountTransaction> result = accountService.getTransactionHistoryPage(TEST_IBAN, 0, 2, TEST_USERNAME, false);
+
+            assertThat(result.getContent()).isEqualTo(recent);
+            verifyNoInteractions(accountTransactionRepository);
+        }
+
+        @Test
+        @DisplayName("should drop and reseed a buffered first page that another node has written past")
+        void firstPage_bufferedStale() {
+            List<AccountTransaction> rows = List.of(tx(4), tx(3), tx(2), tx(1));
+            when(recentTransactions.newest(TEST_IBAN, 2))
+                    .thenReturn(new RecentTransactionsBuffer.Recent(TEST_USERNAME, List.of(tx(3), tx(2)), true, 3L));
+            when(recentTransactions.revalidates()).thenReturn(true);
+            when(accountRepository.findLastSeqByIban(TEST_IBAN)).thenReturn(Optional.of(4L));
+            when(recentTransactions.capacity()).thenReturn(50);
+            when(recentTransactions.epoch(TEST_IBAN)).thenReturn(7L);
+            when(accountRepository.findByIbanAndOwner_Username(TEST_IBAN, TEST_USERNAME)).thenReturn(Optional.of(testAccount));
+            when(accountTransactionRepository.findByAccount_IdOrderByIdDesc(eq(1L), any(Pageable.class)))
+                    .thenReturn(new SliceImpl<>(rows));
+
+            Slice<AccountTransaction> result = accountService.getTransactionHistoryPage(TEST_IBAN, 0, 2, TEST_USERNAME, false);
+
+            assertThat(result.getContent()).containsExactly(rows.get(0), rows.get(1));
+            InOrder inOrder = inOrder(recentTransactions);
+            inOrder.verify(recentTransactions).invalidate(TEST_IBAN);
+            inOrder.verify(recentTransactions).seed(7L, TEST_IBAN, TEST_USERNAME, rows, true);
+        }
+
+        @Test
+        @DisplayName("should not serve another owner's buffered account")
+        void firstPage_bufferedOtherOwner() {
+            when(recentTransactions.newest(TEST_IBAN, 2))
+                    .thenReturn(new RecentTransactionsBuffer.Recent(OTHER_USERNAME, List.of(tx(1)), false, 1L));
+            when(accountRepository.findByIbanAndOwner_Username(TEST_IBAN, TEST_USERNAME)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> accountService.getTransactionHistoryPage(TEST_IBAN, 0, 2, TEST_USERNAME, false))
+                    .isInstanceOf(AccountNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("should seed the buffer on a cold first page and answer the requested size")
+        void firstPage_cold() {
+            List<AccountTransaction> rows = List.of(tx(3), tx(2), tx(1));
+            when(recentTransactions.capacity()).thenReturn(50);
+            when(recentTransactions.epoch(TEST_IBAN)).thenReturn(7L);
+            when(accountRepository.findByIbanAndOwner_Username(TEST_IBAN, TEST_USERNAME)).thenReturn(Optional.of(testAccount));
+            when(accountTransactionRepository.findByAccount_IdOrderByIdDesc(eq(1L), any(Pageable.class)))
+                    .thenReturn(new SliceImpl<>(rows));
+
+            Slice<AccountTransaction> result = accountService.getTransactionHistoryPage(TEST_IBAN, 0, 2, TEST_USERNAME, false);
+
+            assertThat(result.getContent()).containsExactly(rows.get(0), rows.get(1));
+            assertThat(result.hasNext()).isTrue();
+            verify(recentTransactions).seed(7L, TEST_IBAN, TEST_USERNAME, rows, true);
+        }
+
+        @Test
+        @DisplayName("should read older pages from the database")
+        void olderPage_database() {
+            Slice<AccountTransaction> page = new SliceImpl<>(List.of(tx(1)));
+            when(accountRepository.findByIban(TEST_IBAN)).thenReturn(Optional.of(testAccount));
+            when(accountTransactionRepository.findByAccount_IdOrderByIdDesc(eq(1L), any(Pageable.class))).thenReturn(page);
+
+            assertThat(accountService.getTransactionHistoryPage(TEST_IBAN, 1, 2, TEST_USERNAME, true)).isSameAs(page);
+            verify(recentTransactions, never()).newest(any(), anyInt());
+            verify(recentTransactions, never()).seed(anyLong(), any(), any(), any(), anyBoolean());
+        }
+    }
+
+    @Nested
+    @DisplayName("getTransactionsAfterSeq")
+    class GetTransactionsAfterSeqTests {
+
+        @Test
+        @DisplayName("should return the account's last sequence number")
+        void getLastSeq_success() {
+            testAccount.setLastSeq(42L);
+            when(accountRepository.findByIbanAndOwner_Username(TEST_IBAN, TEST_USERNAME))
+                    .thenReturn(Optional.of(testAccount));
+
+            assertThat(accountService.getLastSeq(TEST_IBAN, TEST_USERNAME, false)).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("should query only transactions after the given sequence number")
+        void getTransactionsAfterSeq_success() {
+            AccountTransaction tx = AccountTransaction.builder()
+                    .id(5L).seq(6L).account(testAccount).type(TransactionType.DEPOSIT)
+                    .amount(new BigDecimal("10.00")).balanceAfter(new BigDecimal("1010.00")).build();
+            when(accountRepository.findByIban(TEST_IBAN)).thenReturn(Optional.of(testAccount));
+            when(accountTransactionRepository.findByAccount_IdAndSeqGreaterThanOrderBySeqAsc(eq(1L), eq(5L), any()))
+                    .thenReturn(List.of(tx));
+
+            List<AccountTransaction> result = accountService.getTransactionsAfterSeq(TEST_IBAN, 5L, 100, TEST_USERNAME, true);
+
+            assertThat(result).containsExactly(tx);
+        }
+
+        @Test
+        @DisplayName("should throw when account not found")
+        void getTransactionsAfterSeq_notFound() {
+            when(accountRepository.findByIbanAndOwner_Username(TEST_IBAN, TEST_USERNAME))
+                    .thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> accountService.getTransactionsAfterSeq(TEST_IBAN, 0L, 100, TEST_USERNAME, false))
+                    .isInstanceOf(AccountNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("searchTransactions")
+    class SearchTransactionsTests {
+
+        private AccountTransaction tx(long id) {
+            return AccountTransaction.builder().id(id).seq(id).account(testAccount).type(TransactionType.DEPOSIT)
+                    .amount(new BigDecimal("10.00")).build();
+        }
+
+        @Test
+        @DisplayName("should fetch one extra row to tell whether another page exists")
+        void searchTransactions_hasNext() {
+            TransactionFilterDTO filter = new TransactionFilterDTO();
+            filter.setType(TransactionType.DEPOSIT);
+            filter.setCounterpartyIban(TEST_IBAN_2);
+            when(accountRepository.findByIbanAndOwner_Username(TEST_IBAN, TEST_USERNAME)).thenReturn(Optional.of(testAccount));
+            doReturn(List.of(tx(3L), tx(2L), tx(1L))).when(accountTransactionRepository).findBy(any(Specification.class), any());
+
+            Slice<AccountTransaction> result = accountService.searchTransactions(TEST_IBAN, filter, null, 2, TEST_USERNAME, false);
+
+            assertThat(result.getContent()).extracting(AccountTransaction::getId).containsExactly(3L, 2L);
+            assertThat(result.hasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should reject inverted ranges and malformed counterparty IBANs")
+        void searchTransactions_invalidFilter() {
+            when(accountRepository.findByIban(TEST_IBAN)).thenReturn(Optional.of(testAccount));
+            TransactionFilterDTO dates = new TransactionFilterDTO();
+            dates.setFrom(LocalDate.of(2026, 3, 2));
+            dates.setTo(LocalDate.of(2026, 3, 1));
+            TransactionFilterDTO amounts = new TransactionFilterDTO();
+            amounts.setMinAmount(new BigDecimal("10.00"));
+            amounts.setMaxAmount(new BigDecimal("5.00"));
+            TransactionFilterDTO counterparty = new TransactionFilterDTO();
+            counterparty.setCounterpartyIban("GR12");
+
+            assertThatThrownBy(() -> accountService.searchTransactions(TEST_IBAN, dates, null, 20, TEST_USERNAME, true))
+                    .isInstanceOf(InvalidDateRangeException.class);
+            assertThatThrownBy(() -> accountService.searchTransactions(TEST_IBAN, amounts, null, 20, TEST_USERNAME, true))
+                    .isInstanceOf(InvalidFilterException.class);
+            assertThatThrownBy(() -> accountService.searchTransactions(TEST_IBAN, counterparty, null, 20, TEST_USERNAME, true))
+                    .isInstanceOf(InvalidFilterException.class);
+            verifyNoInteractions(accountTransactionRepository);
+        }
+    }
+
     @Nested
     @DisplayName("deleteAccount")
     class DeleteAccountTests {
@@ -487,7 +980,10 @@ class AccountServiceImplTest {
             accountService.deleteAccount(TEST_IBAN, TEST_USERNAME, false);
 
             verify(accountTransactionRepository).deleteByAccount_Iban(TEST_IBAN);
+            verify(accountTransactionRepository).clearCounterpartyAccount(testAccount);
+            verify(dailyRollupWriter).deleteAccount(1L);
             verify(accountRepository).delete(testAccount);
+            verify(eventPublisher).publishEvent(new AccountDeletedEvent(TEST_IBAN));
         }
 
         @Test
@@ -0,0 +1,115 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.event.LedgerEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccountStreamServiceTest {
+
+    private static final String IBAN = "GR0000000000000000000000001";
+
+    private final CountDownLatch sending = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger sent = new AtomicInteger();
+    private final CompletableFuture<Throwable> outcome = new CompletableFuture<>();
+    private volatile IOException sendFailure;
+
+    /** Records how the service ends the stream; sends block until released, or fail when asked to. */
+    private final class RecordingEmitter extends SseEmitter {
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (sendFailure != null) {
+                throw sendFailure;
+            }
+            sent.incrementAndGet();
+            sending.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            outcome.complete(null);
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+            outcome.complete(ex);
+        }
+    }
+
+    private final AccountStreamService service = new AccountStreamService(2, 60_000) {
+        @Override
+        SseEmitter createEmitter() {
+            return new RecordingEmitter();
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    private static LedgerEvent event(long seq) {
+        return new LedgerEvent(IBAN, seq, TransactionType.DEPOSIT, BigDecimal.ONE, BigDecimal.valueOf(seq),
+                LocalDateTime.now(), null);
+    }
+
+    @Test
+    @DisplayName("should disconnect a slow subscriber whose buffer overflows without blocking the publisher")
+    void onLedgerEvent_overflowDropsSubscriber() throws Exception {
+        service.subscribe(IBAN);
+
+        service.onLedgerEvent(event(1));
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        service.onLedgerEvent(event(2));
+        service.onLedgerEvent(event(3));
+        assertThat(service.subscriberCount(IBAN)).isEqualTo(1);
+
+        service.onLedgerEvent(event(4));
+
+        assertThat(service.subscriberCount(IBAN)).isZero();
+        assertThat(outcome.get(5, TimeUnit.SECONDS)).isNull();
+        release.countDown();
+        service.onLedgerEvent(event(5));
+        assertThat(sent).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should fail the emitter with the cause when a send breaks")
+    void onLedgerEvent_sendFailureCompletesWithError() throws Exception {
+        sendFailure = new IOException("Broken pipe");
+        service.subscribe(IBAN);
+
+        service.onLedgerEvent(event(1));
+
+        assertThat(outcome.get(5, TimeUnit.SECONDS)).isSameAs(sendFailure);
+        assertThat(service.subscriberCount(IBAN)).isZero();
+    }
+
+    @Test
+    @DisplayName("should ignore events for accounts without subscribers")
+    void onLedgerEvent_noSubscribers() {
+        service.onLedgerEvent(event(1));
+
+        assertThat(service.subscriberCount(IBAN)).isZero();
+    }
+}
@@ -0,0 +1,87 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.AccountSortField;
+import com.vastriantafyllou.bankapp.core.exception.InvalidFilterException;
+import com.vastriantafyllou.bankapp.core.types.AccountCursor;
+import com.vastriantafyllou.bankapp.dto.AccountTotalsDTO;
+import com.vastriantafyllou.bankapp.dto.AdminAccountPageDTO;
+import com.vastriantafyllou.bankapp.dto.AdminAccountRowDTO;
+import com.vastriantafyllou.bankapp.repository.AdminAccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminAccountServiceImplTest {
+
+    @Mock
+    private AdminAccountRepository adminAccountRepository;
+
+    @InjectMocks
+    private AdminAccountServiceImpl adminAccountService;
+
+    private static AdminAccountRowDTO row(long id, String balance) {
+        return new AdminAccountRowDTO(id, "GR" + id, null, new BigDecimal(balance), "user" + id);
+    }
+
+    @Test
+    @DisplayName("should fetch one extra row and hand back a cursor after the last row returned")
+    void getAccounts_nextPage() {
+        when(adminAccountRepository.findPage(AccountSortField.BALANCE, true, null, null, 3))
+                .thenReturn(List.of(row(7, "900.00"), row(3, "500.00"), row(9, "500.00")));
+
+        AdminAccountPageDTO page = adminAccountService.getAccounts(AccountSortField.BALANCE, true, null, 2);
+
+        assertThat(page.getAccounts()).extracting(AdminAccountRowDTO::getId).containsExactly(7L, 3L);
+        assertThat(AccountCursor.tryParse(page.getNextCursor()))
+                .isEqualTo(new AccountCursor(AccountSortField.BALANCE, true, "500.00", 3L));
+    }
+
+    @Test
+    @DisplayName("should resume after the cursor's key and id")
+    void getAccounts_fromCursor() {
+        String cursor = new AccountCursor(AccountSortField.BALANCE, true, "500.00", 3L).encode();
+        when(adminAccountRepository.findPage(AccountSortField.BALANCE, true, new BigDecimal("500.00"), 3L, 3))
+                .thenReturn(List.of(row(9, "500.00")));
+
+        AdminAccountPageDTO page = adminAccountService.getAccounts(AccountSortField.BALANCE, true, cursor, 2);
+
+        assertThat(page.getAccounts()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("should reject malformed cursors and cursors of another sort field or direction")
+    void getAccounts_invalidCursor() {
+        String ibanCursor = new AccountCursor(AccountSortField.IBAN, false, "GR3", 3L).encode();
+
+        assertThatThrownBy(() -> adminAccountService.getAccounts(AccountSortField.OWNER, false, ibanCursor, 20))
+                .isInstanceOf(InvalidFilterException.class);
+        assertThatThrownBy(() -> adminAccountService.getAccounts(AccountSortField.IBAN, true, ibanCursor, 20))
+                .isInstanceOf(InvalidFilterException.class);
+        assertThatThrownBy(() -> adminAccountService.getAccounts(AccountSortField.IBAN, false, "%%", 20))
+                .isInstanceOf(InvalidFilterException.class);
+        verifyNoInteractions(adminAccountRepository);
+    }
+
+    @Test
+    @DisplayName("should report a zero total when there are no accounts")
+    void getTotals_empty() {
+        when(adminAccountRepository.totals()).thenReturn(new AccountTotalsDTO(0L, null));
+
+        AccountTotalsDTO totals = adminAccountService.getTotals();
+
+        assertThat(totals.getAccountCount()).isZero();
+        assertThat(totals.getTotalBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+}
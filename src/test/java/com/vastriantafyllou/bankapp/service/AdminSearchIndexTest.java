@@ -0,0 +1,47 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.SearchHitKind;
+import com.vastriantafyllou.bankapp.dto.SearchHitDTO;
+import com.vastriantafyllou.bankapp.event.AccountCreatedEvent;
+import com.vastriantafyllou.bankapp.event.AccountDeletedEvent;
+import com.vastriantafyllou.bankapp.event.UserProfileChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class AdminSearchIndexTest {
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+
+    private final AdminSearchIndex searchIndex = new AdminSearchIndex(mock(DataSource.class), true);
+
+    @Test
+    @DisplayName("should index users and accounts from committed changes")
+    void events_indexed() {
+        searchIndex.onUserProfileChanged(new UserProfileChangedEvent(1L, "testuser", "Maria", "Papadaki", "maria@example.com"));
+        searchIndex.onAccountCreated(new AccountCreatedEvent(7L, TEST_IBAN, "12345678901234567890", "testuser"));
+
+        assertThat(searchIndex.search("papad", 10))
+                .extracting(SearchHitDTO::getKind, SearchHitDTO::getLabel, SearchHitDTO::getDetail)
+                .containsExactly(tuple(SearchHitKind.USER, "testuser", "Maria Papadaki · maria@example.com"));
+        assertThat(searchIndex.search("test", 10)).extracting(SearchHitDTO::getKind)
+                .containsExactly(SearchHitKind.USER, SearchHitKind.ACCOUNT);
+    }
+
+    @Test
+    @DisplayName("should replace a changed profile and drop a deleted account")
+    void events_replaceAndDelete() {
+        searchIndex.onUserProfileChanged(new UserProfileChangedEvent(1L, "testuser", "Maria", null, null));
+        searchIndex.onUserProfileChanged(new UserProfileChangedEvent(1L, "testuser", "Eleni", null, null));
+        searchIndex.onAccountCreated(new AccountCreatedEvent(7L, TEST_IBAN, null, "testuser"));
+        searchIndex.onAccountDeleted(new AccountDeletedEvent(TEST_IBAN));
+
+        assertThat(searchIndex.search("maria", 10)).isEmpty();
+        assertThat(searchIndex.search("eleni", 10)).hasSize(1);
+        assertThat(searchIndex.search("GR12", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.exception.AccountBusyException;
+import com.vastriantafyllou.bankapp.core.exception.InsufficientBalanceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LockRetryingAccountServiceTest {
+
+    @Mock
+    private AccountServiceImpl delegate;
+
+    private LockRetryingAccountService accountService;
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+    private static final String TEST_USERNAME = "testuser";
+    private static final BigDecimal AMOUNT = new BigDecimal("10.00");
+
+    @BeforeEach
+    void setUp() {
+        accountService = new LockRetryingAccountService(delegate,
+                new AccountLockManager(new SimpleMeterRegistry(), 16, true, 1000, 4), 3, 1, 2, 4);
+    }
+
+    @Test
+    @DisplayName("should retry a lock timeout and succeed")
+    void deposit_retriesLockFailure() {
+        doThrow(new CannotAcquireLockException("Lock wait timeout exceeded"))
+                .doNothing()
+                .when(delegate).deposit(TEST_IBAN, AMOUNT, TEST_USERNAME, false);
+
+        accountService.deposit(TEST_IBAN, AMOUNT, TEST_USERNAME, false);
+
+        verify(delegate, times(2)).deposit(TEST_IBAN, AMOUNT, TEST_USERNAME, false);
+    }
+
+    @Test
+    @DisplayName("should give up with AccountBusyException after the last attempt")
+    void withdraw_givesUp() {
+        doThrow(new CannotAcquireLockException("Lock wait timeout exceeded"))
+                .when(delegate).withdraw(TEST_IBAN, AMOUNT, TEST_USERNAME, false);
+
+        assertThatThrownBy(() -> accountService.withdraw(TEST_IBAN, AMOUNT, TEST_USERNAME, false))
+                .isInstanceOf(AccountBusyException.class)
+                .hasCauseInstanceOf(CannotAcquireLockException.class)
+                .extracting(e -> ((AccountBusyException) e).getRetryAfterSeconds())
+                .isEqualTo(4L);
+        verify(delegate, times(3)).withdraw(TEST_IBAN, AMOUNT, TEST_USERNAME, false);
+    }
+
+    @Test
+    @DisplayName("should not retry business errors")
+    void withdraw_businessErrorNotRetried() {
+        doThrow(new InsufficientBalanceException("Ανεπαρκές υπόλοιπο"))
+                .when(delegate).withdraw(TEST_IBAN, AMOUNT, TEST_USERNAME, false);
+
+        assertThatThrownBy(() -> accountService.withdraw(TEST_IBAN, AMOUNT, TEST_USERNAME, false))
+                .isInstanceOf(InsufficientBalanceException.class);
+        verify(delegate, times(1)).withdraw(TEST_IBAN, AMOUNT, TEST_USERNAME, false);
+    }
+}
@@ -0,0 +1,194 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.PendingTransferStatus;
+import com.vastriantafyllou.bankapp.core.exception.InsufficientBalanceException;
+import com.vastriantafyllou.bankapp.model.PendingTransfer;
+import com.vastriantafyllou.bankapp.repository.PendingTransferRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PendingTransferWorkerTest {
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+    private static final String TEST_IBAN_2 = "GR9876543210987654321098765";
+    private static final BigDecimal AMOUNT = new BigDecimal("25.00");
+
+    @Mock
+    private PendingTransferRepository pendingTransferRepository;
+
+    @Mock
+    private IAccountService accountService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PendingTransferWorker worker;
+    private PendingTransfer transfer;
+
+    /** Every transaction the worker opened, in order, and the transfer's status when each one committed. */
+    private final List<TransactionStatus> opened = new ArrayList<>();
+    private final Map<TransactionStatus, PendingTransferStatus> committed = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        worker = new PendingTransferWorker(pendingTransferRepository, accountService, transactionManager);
+        ReflectionTestUtils.setField(worker, "batchSize", 50);
+        ReflectionTestUtils.setField(worker, "staleAfterMillis", 300_000L);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        ReflectionTestUtils.setField(worker, "retryBackoffMillis", 1_000L);
+        ReflectionTestUtils.setField(worker, "maxRetryBackoffMillis", 60_000L);
+
+        transfer = PendingTransfer.builder()
+                .id(1L)
+                .requestedBy("testuser")
+                .admin(false)
+                .fromIban(TEST_IBAN)
+                .toIban(TEST_IBAN_2)
+                .amount(AMOUNT)
+                .build();
+
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            TransactionStatus status = new SimpleTransactionStatus();
+            opened.add(status);
+            return status;
+        });
+        doAnswer(invocation -> committed.put(invocation.getArgument(0), transfer.getStatus()))
+                .when(transactionManager).commit(any());
+    }
+
+    private void queued() {
+        when(pendingTransferRepository.lockNextPending(eq(50), any(LocalDateTime.class))).thenReturn(List.of(transfer));
+    }
+
+    @Test
+    @DisplayName("should complete a claimed transfer in the same transaction as its ledger rows")
+    void drain_completesWithTransfer() {
+        queued();
+        when(pendingTransferRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(transfer));
+        TransactionStatus[] transferTx = new TransactionStatus[1];
+        doAnswer(invocation -> {
+            transferTx[0] = opened.getLast();
+            return null;
+        }).when(accountService).transfer(TEST_IBAN, TEST_IBAN_2, AMOUNT, "testuser", false);
+
+        worker.drain();
+
+        assertThat(transfer.getStatus()).isEqualTo(PendingTransferStatus.COMPLETED);
+        assertThat(transfer.getAttempts()).isEqualTo(1);
+        assertThat(transfer.getCompletedAt()).isNotNull();
+        // The claim commits first; the transfer's transaction is the one that commits COMPLETED.
+        assertThat(committed).containsExactly(
+                entry(opened.get(0), PendingTransferStatus.PROCESSING),
+                entry(transferTx[0], PendingTransferStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("should leave a row alone once its claim token belongs to another worker")
+    void drain_skipsForeignClaim() {
+        queued();
+        when(pendingTransferRepository.findByIdForUpdate(1L)).thenAnswer(invocation -> {
+            // Released as stale and claimed again by another worker before this one got to it.
+            transfer.setClaimToken("another-worker");
+            return Optional.of(transfer);
+        });
+
+        worker.drain();
+
+        verify(accountService, never()).transfer(anyString(), anyString(), any(BigDecimal.class), anyString(), anyBoolean());
+        assertThat(transfer.getStatus()).isEqualTo(PendingTransferStatus.PROCESSING);
+        assertThat(transfer.getClaimToken()).isEqualTo("another-worker");
+    }
+
+    @Test
+    @DisplayName("should put a transfer that lost a lock race back to PENDING with a backoff")
+    void drain_requeuesLockFailure() {
+        queued();
+        when(pendingTransferRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(transfer));
+        doThrow(new CannotAcquireLockException("Lock wait timeout exceeded"))
+                .when(accountService).transfer(TEST_IBAN, TEST_IBAN_2, AMOUNT, "testuser", false);
+        LocalDateTime before = LocalDateTime.now();
+
+        worker.drain();
+
+        verify(transactionManager).rollback(opened.get(1));
+        assertThat(transfer.getStatus()).isEqualTo(PendingTransferStatus.PENDING);
+        assertThat(transfer.getClaimToken()).isNull();
+        assertThat(transfer.getClaimedAt()).isNull();
+        assertThat(transfer.getError()).isNull();
+        assertThat(transfer.getCompletedAt()).isNull();
+        assertThat(transfer.getNextAttemptAt()).isBetween(before, LocalDateTime.now().plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("should fail a transfer that keeps losing lock races once its attempts are spent")
+    void drain_failsLockFailureAfterMaxAttempts() {
+        transfer.setAttempts(2);
+        queued();
+        when(pendingTransferRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(transfer));
+        doThrow(new CannotAcquireLockException("Lock wait timeout exceeded"))
+                .when(accountService).transfer(TEST_IBAN, TEST_IBAN_2, AMOUNT, "testuser", false);
+
+        worker.drain();
+
+        assertThat(transfer.getAttempts()).isEqualTo(3);
+        assertThat(transfer.getStatus()).isEqualTo(PendingTransferStatus.FAILED);
+        assertThat(transfer.getError()).isEqualTo("Lock wait timeout exceeded");
+    }
+
+    @Test
+    @DisplayName("should fail a transfer on a business error without retrying it")
+    void drain_failsBusinessError() {
+        queued();
+        when(pendingTransferRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(transfer));
+        doThrow(new InsufficientBalanceException("Ανεπαρκές υπόλοιπο"))
+                .when(accountService).transfer(TEST_IBAN, TEST_IBAN_2, AMOUNT, "testuser", false);
+
+        worker.drain();
+
+        assertThat(transfer.getAttempts()).isEqualTo(1);
+        assertThat(transfer.getStatus()).isEqualTo(PendingTransferStatus.FAILED);
+        assertThat(transfer.getError()).isEqualTo("Ανεπαρκές υπόλοιπο");
+        assertThat(transfer.getNextAttemptAt()).isNull();
+        assertThat(transfer.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should release claims older than the stale threshold back to PENDING")
+    void releaseStaleClaims() {
+        when(pendingTransferRepository.releaseStaleClaims(eq(PendingTransferStatus.PENDING),
+                eq(PendingTransferStatus.PROCESSING), any(LocalDateTime.class))).thenReturn(2);
+        LocalDateTime before = LocalDateTime.now();
+
+        worker.releaseStaleClaims();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(pendingTransferRepository).releaseStaleClaims(eq(PendingTransferStatus.PENDING),
+                eq(PendingTransferStatus.PROCESSING), cutoff.capture());
+        assertThat(cutoff.getValue())
+                .isBetween(before.minusMinutes(5), LocalDateTime.now().minusMinutes(5));
+        assertThat(committed).hasSize(1);
+    }
+}
@@ -0,0 +1,108 @@
+package com.vastriantafyllou.bankapp.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReadCoalescerTest {
+
+    private static final String METHOD = "account.getAllAccounts";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should coalesce same-scope calls and count them per method")
+    void read_coalesced() throws Exception {
+        ReadCoalescer coalescer = new ReadCoalescer(meterRegistry, true, Set.of(METHOD));
+        BlockingCall call = new BlockingCall();
+
+        CompletableFuture<Integer> leader = CompletableFuture.supplyAsync(
+                () -> coalescer.read(METHOD, call, ReadCoalescer.scope("admin", true)), pool);
+        assertThat(call.started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Integer> follower = CompletableFuture.supplyAsync(
+                () -> coalescer.read(METHOD, call, ReadCoalescer.scope("other-admin", true)), pool);
+        while (count("coalesced") == 0) {
+            Thread.onSpinWait();
+        }
+        call.release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(count("executed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should not let a read after a write join a flight that started before it")
+    void read_afterInvalidate() throws Exception {
+        ReadCoalescer coalescer = new ReadCoalescer(meterRegistry, true, Set.of(METHOD));
+        BlockingCall call = new BlockingCall();
+
+        CompletableFuture<Integer> before = CompletableFuture.supplyAsync(
+                () -> coalescer.read(METHOD, call, "testuser"), pool);
+        assertThat(call.started.await(5, TimeUnit.SECONDS)).isTrue();
+        coalescer.invalidate();
+        Integer after = coalescer.read(METHOD, () -> 42, "testuser");
+        call.release.countDown();
+
+        assertThat(after).isEqualTo(42);
+        assertThat(before.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(count("coalesced")).isZero();
+    }
+
+    @Test
+    @DisplayName("should run methods that were not opted in directly")
+    void read_notOptedIn() {
+        ReadCoalescer coalescer = new ReadCoalescer(meterRegistry, true, Set.of(METHOD));
+        AtomicInteger calls = new AtomicInteger();
+
+        coalescer.read("account.getLastSeq", calls::incrementAndGet, "GR1234567890123456789012345");
+
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.find("bank.single-flight.calls").tag("method", "account.getLastSeq").meter()).isNull();
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("bank.single-flight.calls")
+                .tag("method", METHOD)
+                .tag("outcome", outcome)
+                .functionCounter()
+                .count();
+    }
+
+    private static final class BlockingCall implements Supplier<Integer> {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Integer get() {
+            int n = calls.incrementAndGet();
+            started.countDown();
+            try {
+                assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return n;
+        }
+    }
+}
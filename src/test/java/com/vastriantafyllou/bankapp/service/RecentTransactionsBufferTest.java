@@ -0,0 +1,118 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.TransactionType;
+import com.vastriantafyllou.bankapp.event.AccountDeletedEvent;
+import com.vastriantafyllou.bankapp.event.LedgerEvent;
+import com.vastriantafyllou.bankapp.model.AccountTransaction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RecentTransactionsBufferTest {
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+    private static final String TEST_IBAN_2 = "GR9876543210987654321098765";
+    private static final String TEST_USERNAME = "testuser";
+
+    private RecentTransactionsBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new RecentTransactionsBuffer(new SimpleMeterRegistry(), 100, 3, 60_000, true);
+    }
+
+    private static AccountTransaction row(long seq) {
+        return AccountTransaction.builder()
+                .seq(seq).type(TransactionType.DEPOSIT).amount(new BigDecimal("1.00"))
+                .balanceAfter(BigDecimal.valueOf(seq)).createdAt(LocalDateTime.now()).build();
+    }
+
+    private static LedgerEvent event(long seq) {
+        return new LedgerEvent(TEST_IBAN, seq, TransactionType.TRANSFER_IN, new BigDecimal("1.00"),
+                BigDecimal.valueOf(seq), LocalDateTime.now(), TEST_IBAN_2);
+    }
+
+    private static List<Long> seqs(RecentTransactionsBuffer.Recent recent) {
+        return recent.transactions().stream().map(AccountTransaction::getSeq).toList();
+    }
+
+    @Test
+    @DisplayName("should serve a complete history of any size and append committed rows")
+    void seedComplete_thenAppend() {
+        buffer.seed(buffer.epoch(TEST_IBAN), TEST_IBAN, TEST_USERNAME, List.of(row(2), row(1)), true);
+
+        assertThat(seqs(buffer.newest(TEST_IBAN, 20))).containsExactly(2L, 1L);
+        assertThat(buffer.newest(TEST_IBAN, 20).hasMore()).isFalse();
+
+        buffer.onLedgerEvent(event(3));
+        RecentTransactionsBuffer.Recent recent = buffer.newest(TEST_IBAN, 20);
+        assertThat(seqs(recent)).containsExactly(3L, 2L, 1L);
+        assertThat(recent.ownerUsername()).isEqualTo(TEST_USERNAME);
+        assertThat(recent.transactions().get(0).getCounterpartyIban().toString()).isEqualTo(TEST_IBAN_2);
+    }
+
+    @Test
+    @DisplayName("should overwrite the oldest row once full and fall back for pages larger than the ring")
+    void ring_wraps() {
+        buffer.seed(buffer.epoch(TEST_IBAN), TEST_IBAN, TEST_USERNAME, List.of(row(3), row(2), row(1)), true);
+
+        buffer.onLedgerEvent(event(4));
+
+        assertThat(seqs(buffer.newest(TEST_IBAN, 3))).containsExactly(4L, 3L, 2L);
+        assertThat(buffer.newest(TEST_IBAN, 2).hasMore()).isTrue();
+        assertThat(buffer.newest(TEST_IBAN, 4)).isNull();
+    }
+
+    @Test
+    @DisplayName("should drop the ring on a sequence gap and ignore unbuffered accounts")
+    void onLedgerEvent_gap() {
+        buffer.onLedgerEvent(event(1));
+        assertThat(buffer.newest(TEST_IBAN, 1)).isNull();
+
+        buffer.seed(buffer.epoch(TEST_IBAN), TEST_IBAN, TEST_USERNAME, List.of(row(1)), true);
+        buffer.onLedgerEvent(event(3));
+
+        assertThat(buffer.newest(TEST_IBAN, 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("should not seed from a read that raced a commit")
+    void seed_staleEpoch() {
+        long epoch = buffer.epoch(TEST_IBAN);
+        buffer.onLedgerEvent(event(2));
+
+        buffer.seed(epoch, TEST_IBAN, TEST_USERNAME, List.of(row(1)), true);
+
+        assertThat(buffer.newest(TEST_IBAN, 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("should evict a deleted account")
+    void onAccountDeleted_evicts() {
+        buffer.seed(buffer.epoch(TEST_IBAN), TEST_IBAN, TEST_USERNAME, List.of(row(1)), true);
+
+        buffer.onAccountDeleted(new AccountDeletedEvent(TEST_IBAN));
+
+        assertThat(buffer.newest(TEST_IBAN, 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("should report the newest seq for revalidation and drop an invalidated ring")
+    void lastSeq_andInvalidate() {
+        buffer.seed(buffer.epoch(TEST_IBAN), TEST_IBAN, TEST_USERNAME, List.of(row(2), row(1)), true);
+        buffer.onLedgerEvent(event(3));
+
+        assertThat(buffer.newest(TEST_IBAN, 2).lastSeq()).isEqualTo(3L);
+
+        buffer.invalidate(TEST_IBAN);
+
+        assertThat(buffer.newest(TEST_IBAN, 2)).isNull();
+    }
+}
@@ -0,0 +1,129 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.StandingOrderFrequency;
+import com.vastriantafyllou.bankapp.core.enums.StandingOrderStatus;
+import com.vastriantafyllou.bankapp.core.exception.InsufficientBalanceException;
+import com.vastriantafyllou.bankapp.model.AppUser;
+import com.vastriantafyllou.bankapp.model.StandingOrder;
+import com.vastriantafyllou.bankapp.repository.StandingOrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StandingOrderSchedulerTest {
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+    private static final String TEST_IBAN_2 = "GR9876543210987654321098765";
+
+    @Mock
+    private StandingOrderRepository standingOrderRepository;
+
+    @Mock
+    private IAccountService accountService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StandingOrderScheduler scheduler;
+    private StandingOrder order;
+    private LocalDateTime due;
+
+    private record Due(Long getId, String getFromIban, LocalDateTime getNextExecutionAt)
+            implements StandingOrderRepository.DueStandingOrder {
+    }
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new StandingOrderScheduler(standingOrderRepository, accountService, transactionManager);
+        ReflectionTestUtils.setField(scheduler, "enabled", true);
+        ReflectionTestUtils.setField(scheduler, "tickMillis", 10L);
+        ReflectionTestUtils.setField(scheduler, "wheelSize", 64);
+        ReflectionTestUtils.setField(scheduler, "horizonMillis", 3_600_000L);
+        ReflectionTestUtils.setField(scheduler, "threads", 1);
+        ReflectionTestUtils.setField(scheduler, "retryBackoffMillis", 10L);
+        ReflectionTestUtils.setField(scheduler, "maxRetryBackoffMillis", 20L);
+
+        due = LocalDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.SECONDS);
+        order = StandingOrder.builder().id(1L)
+                .owner(AppUser.builder().id(1L).username("testuser").build())
+                .fromIban(TEST_IBAN).toIban(TEST_IBAN_2).amount(new BigDecimal("50.00"))
+                .frequency(StandingOrderFrequency.MONTHLY).status(StandingOrderStatus.ACTIVE)
+                .firstExecutionAt(due).occurrence(0).nextExecutionAt(due).failureCount(0)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    private void startWithDueOrder() {
+        when(standingOrderRepository.findDueBefore(eq(StandingOrderStatus.ACTIVE), any()))
+                .thenReturn(List.of(new Due(1L, TEST_IBAN, due)));
+        when(standingOrderRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(order));
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        scheduler.start();
+    }
+
+    @Test
+    @DisplayName("should retry a lock failure without moving the order to its next period")
+    void lockFailure_retried() {
+        doThrow(new CannotAcquireLockException("Lock wait timeout exceeded"))
+                .doNothing()
+                .when(accountService).transfer(TEST_IBAN, TEST_IBAN_2, new BigDecimal("50.00"), "testuser", false);
+
+        startWithDueOrder();
+
+        verify(transactionManager, timeout(5000)).commit(any());
+        verify(transactionManager).rollback(any());
+        verify(accountService, times(2)).transfer(TEST_IBAN, TEST_IBAN_2, new BigDecimal("50.00"), "testuser", false);
+        assertThat(order.getOccurrence()).isEqualTo(1);
+        assertThat(order.getNextExecutionAt()).isEqualTo(due.plusMonths(1));
+        assertThat(order.getFailureCount()).isZero();
+        assertThat(order.getLastError()).isNull();
+    }
+
+    @Test
+    @DisplayName("should record a business failure and move on to the next period")
+    void businessFailure_advances() {
+        doThrow(new InsufficientBalanceException("Ανεπαρκές υπόλοιπο"))
+                .when(accountService).transfer(TEST_IBAN, TEST_IBAN_2, new BigDecimal("50.00"), "testuser", false);
+
+        startWithDueOrder();
+
+        verify(transactionManager, timeout(5000)).commit(any());
+        verify(accountService).transfer(TEST_IBAN, TEST_IBAN_2, new BigDecimal("50.00"), "testuser", false);
+        assertThat(order.getOccurrence()).isEqualTo(1);
+        assertThat(order.getNextExecutionAt()).isEqualTo(due.plusMonths(1));
+        assertThat(order.getFailureCount()).isEqualTo(1);
+        assertThat(order.getLastError()).isEqualTo("Ανεπαρκές υπόλοιπο");
+    }
+
+    @Test
+    @DisplayName("should start with a horizon shorter than four milliseconds")
+    void start_tinyHorizon() {
+        ReflectionTestUtils.setField(scheduler, "horizonMillis", 3L);
+        when(standingOrderRepository.findDueBefore(eq(StandingOrderStatus.ACTIVE), any())).thenReturn(List.of());
+
+        assertThatCode(scheduler::start).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,175 @@
+package com.vastriantafyllou.bankapp.service;
+
+import com.vastriantafyllou.bankapp.core.enums.StandingOrderFrequency;
+import com.vastriantafyllou.bankapp.core.enums.StandingOrderStatus;
+import com.vastriantafyllou.bankapp.core.exception.AccountNotFoundException;
+import com.vastriantafyllou.bankapp.core.exception.InvalidTransferException;
+import com.vastriantafyllou.bankapp.core.exception.StandingOrderNotFoundException;
+import com.vastriantafyllou.bankapp.dto.StandingOrderInsertDTO;
+import com.vastriantafyllou.bankapp.dto.StandingOrderReadOnlyDTO;
+import com.vastriantafyllou.bankapp.event.StandingOrderScheduledEvent;
+import com.vastriantafyllou.bankapp.model.AppUser;
+import com.vastriantafyllou.bankapp.model.StandingOrder;
+import com.vastriantafyllou.bankapp.repository.AccountRepository;
+import com.vastriantafyllou.bankapp.repository.StandingOrderRepository;
+import com.vastriantafyllou.bankapp.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StandingOrderServiceImplTest {
+
+    @Mock
+    private StandingOrderRepository standingOrderRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private StandingOrderServiceImpl standingOrderService;
+
+    private AppUser testUser;
+
+    private static final String TEST_IBAN = "GR1234567890123456789012345";
+    private static final String TEST_IBAN_2 = "GR9876543210987654321098765";
+    private static final String TEST_USERNAME = "testuser";
+
+    @BeforeEach
+    void setUp() {
+        testUser = AppUser.builder().id(1L).username(TEST_USERNAME).password("encoded").build();
+    }
+
+    private StandingOrderInsertDTO monthlyOrder() {
+        return new StandingOrderInsertDTO(TEST_IBAN, TEST_IBAN_2, new BigDecimal("50.00"),
+                StandingOrderFrequency.MONTHLY, LocalDateTime.now().plusDays(1), null);
+    }
+
+    @Nested
+    @DisplayName("createStandingOrder")
+    class CreateStandingOrderTests {
+
+        @Test
+        @DisplayName("should save the order and notify the scheduler")
+        void createStandingOrder_success() {
+            StandingOrderInsertDTO dto = monthlyOrder();
+            when(accountRepository.existsByIbanAndOwner_Username(anyString(), eq(TEST_USERNAME))).thenReturn(true);
+            when(userRepository.findByUsername(TEST_USERNAME)).thenReturn(Optional.of(testUser));
+            when(standingOrderRepository.save(any(StandingOrder.class))).thenAnswer(inv -> {
+                StandingOrder order = inv.getArgument(0);
+                order.setId(7L);
+                return order;
+            });
+
+            StandingOrderReadOnlyDTO result = standingOrderService.createStandingOrder(dto, TEST_USERNAME);
+
+            assertThat(result.getId()).isEqualTo(7L);
+            assertThat(result.getStatus()).isEqualTo(StandingOrderStatus.ACTIVE);
+            assertThat(result.getNextExecutionAt()).isEqualTo(dto.getFirstExecutionAt());
+            verify(eventPublisher).publishEvent(new StandingOrderScheduledEvent(7L, TEST_IBAN, dto.getFirstExecutionAt()));
+        }
+
+        @Test
+        @DisplayName("should reject an order to the same account")
+        void createStandingOrder_sameAccount() {
+            StandingOrderInsertDTO dto = monthlyOrder();
+            dto.setToIban(TEST_IBAN);
+
+            assertThatThrownBy(() -> standingOrderService.createStandingOrder(dto, TEST_USERNAME))
+                    .isInstanceOf(InvalidTransferException.class);
+            verify(standingOrderRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should reject an account the user does not own")
+        void createStandingOrder_foreignAccount() {
+            when(accountRepository.existsByIbanAndOwner_Username(TEST_IBAN, TEST_USERNAME)).thenReturn(true);
+            when(accountRepository.existsByIbanAndOwner_Username(TEST_IBAN_2, TEST_USERNAME)).thenReturn(false);
+
+            assertThatThrownBy(() -> standingOrderService.createStandingOrder(monthlyOrder(), TEST_USERNAME))
+                    .isInstanceOf(AccountNotFoundException.class);
+            verify(standingOrderRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should reject a first execution in the past")
+        void createStandingOrder_pastStart() {
+            StandingOrderInsertDTO dto = monthlyOrder();
+            dto.setFirstExecutionAt(LocalDateTime.now().minusMinutes(1));
+
+            assertThatThrownBy(() -> standingOrderService.createStandingOrder(dto, TEST_USERNAME))
+                    .isInstanceOf(InvalidTransferException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("cancelStandingOrder")
+    class CancelStandingOrderTests {
+
+        @Test
+        @DisplayName("should cancel an active order")
+        void cancelStandingOrder_success() {
+            StandingOrder order = StandingOrder.builder().id(7L).owner(testUser)
+                    .frequency(StandingOrderFrequency.DAILY).nextExecutionAt(LocalDateTime.now()).build();
+            when(standingOrderRepository.findByIdAndOwner_Username(7L, TEST_USERNAME)).thenReturn(Optional.of(order));
+
+            standingOrderService.cancelStandingOrder(7L, TEST_USERNAME);
+
+            assertThat(order.getStatus()).isEqualTo(StandingOrderStatus.CANCELLED);
+            assertThat(order.getNextExecutionAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("should throw when the order is not found")
+        void cancelStandingOrder_notFound() {
+            when(standingOrderRepository.findByIdAndOwner_Username(7L, TEST_USERNAME)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> standingOrderService.cancelStandingOrder(7L, TEST_USERNAME))
+                    .isInstanceOf(StandingOrderNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("StandingOrder.advance")
+    class AdvanceTests {
+
+        @Test
+        @DisplayName("should keep the day of month and complete after the end date")
+        void advance_untilEndDate() {
+            LocalDateTime first = LocalDateTime.of(2026, 1, 31, 9, 0);
+            StandingOrder order = StandingOrder.builder().frequency(StandingOrderFrequency.MONTHLY)
+                    .firstExecutionAt(first).nextExecutionAt(first).endDate(LocalDate.of(2026, 3, 31)).build();
+
+            order.advance();
+            assertThat(order.getNextExecutionAt()).isEqualTo(LocalDateTime.of(2026, 2, 28, 9, 0));
+            order.advance();
+            assertThat(order.getNextExecutionAt()).isEqualTo(LocalDateTime.of(2026, 3, 31, 9, 0));
+            assertThat(order.getStatus()).isEqualTo(StandingOrderStatus.ACTIVE);
+
+            order.advance();
+            assertThat(order.getStatus()).isEqualTo(StandingOrderStatus.COMPLETED);
+            assertThat(order.getNextExecutionAt()).isNull();
+        }
+    }
+}
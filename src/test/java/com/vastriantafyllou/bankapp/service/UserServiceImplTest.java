@@ -3,6 +3,7 @@ package com.vastriantafyllou.bankapp.service;
 import com.vastriantafyllou.bankapp.core.enums.Role;
 import com.vastriantafyllou.bankapp.core.exception.UsernameAlreadyExistsException;
 import com.vastriantafyllou.bankapp.dto.RegisterDTO;
+import com.vastriantafyllou.bankapp.event.UserProfileChangedEvent;
 import com.vastriantafyllou.bankapp.model.AppUser;
 import com.vastriantafyllou.bankapp.repository.AccountRepository;
 import com.vastriantafyllou.bankapp.repository.UserRepository;
@@ -13,8 +14,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Optional;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +36,9 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -56,6 +64,7 @@ class UserServiceImplTest {
         ArgumentCaptor<AppUser> captor = ArgumentCaptor.forClass(AppUser.class);
         verify(userRepository).save(captor.capture());
         assertThat(captor.getValue().getRoles()).contains(Role.USER);
+        verify(eventPublisher).publishEvent(new UserProfileChangedEvent(1L, "newuser", null, null, null));
     }
 
     @Test
@@ -83,4 +92,19 @@ class UserServiceImplTest {
         assertThat(result.getPassword()).isEqualTo("$2a$10$encoded");
         verify(passwordEncoder).encode("rawpass");
     }
+
+    @Test
+    @DisplayName("should replace the role set so the new mask is written")
+    void assignRole_replacesSet() {
+        AppUser user = AppUser.builder().id(1L).username("testuser").build();
+        user.getRoles().add(Role.USER);
+        Set<Role> before = user.getRoles();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        userService.assignRole(1L, Role.ADMIN);
+
+        assertThat(user.getRoles()).isNotSameAs(before).containsExactlyInAnyOrder(Role.USER, Role.ADMIN);
+        assertThat(before).containsExactly(Role.USER);
+        verify(userRepository).save(user);
+    }
 }